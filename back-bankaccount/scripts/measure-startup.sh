@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Measures backend cold start: time until the JVM reports the context started,
+# until /actuator/health answers UP, and until the first GET /bank-accounts succeeds.
+#
+# Usage: scripts/measure-startup.sh [-n runs] [-p port] -- <launch command...>
+#   scripts/measure-startup.sh -n 5 -- java -jar target/back-bankaccount-0.0.1-SNAPSHOT.jar
+#   scripts/measure-startup.sh -n 5 -- java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar application/app.jar
+#   scripts/measure-startup.sh -- docker run --rm -p 8080:8080 bank-back
+set -euo pipefail
+
+RUNS=5
+PORT=8080
+TIMEOUT_SECONDS=60
+
+while [[ $# -gt 0 ]]; do
+  case "$1" in
+    -n) RUNS="$2"; shift 2 ;;
+    -p) PORT="$2"; shift 2 ;;
+    --) shift; break ;;
+    *) echo "Unknown option: $1" >&2; exit 2 ;;
+  esac
+done
+if [[ $# -eq 0 ]]; then
+  echo "Usage: $0 [-n runs] [-p port] -- <launch command...>" >&2
+  exit 2
+fi
+
+export SERVER_PORT="$PORT"
+export APP_CORS_ALLOWED_ORIGINS="${APP_CORS_ALLOWED_ORIGINS:-http://localhost:4200}"
+BASE_URL="http://localhost:${PORT}"
+LOG_FILE="$(mktemp)"
+trap 'rm -f "$LOG_FILE"' EXIT
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+wait_for() {
+  local start="$1" url="$2" expected="$3"
+  while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+    if curl -fs "$url" 2>/dev/null | grep -q "$expected"; then
+      echo $(( $(now_ms) - start ))
+      return 0
+    fi
+    sleep 0.02
+  done
+  echo "Timed out waiting for $url" >&2
+  return 1
+}
+
+printf '%-4s %12s %12s %16s\n' "run" "started_ms" "ready_ms" "first_request_ms"
+total_ready=0
+total_first=0
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  "$@" > "$LOG_FILE" 2>&1 &
+  pid=$!
+
+  ready=$(wait_for "$start" "${BASE_URL}/actuator/health" '"UP"')
+  first=$(wait_for "$start" "${BASE_URL}/bank-accounts" '\[')
+  # Spring Boot's own measurement, e.g. "Started BackBankaccountApplication in 1.234 seconds"
+  started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$LOG_FILE" | awk '{printf "%d", $4 * 1000}')
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+
+  printf '%-4s %12s %12s %16s\n' "$run" "${started:--}" "$ready" "$first"
+  total_ready=$(( total_ready + ready ))
+  total_first=$(( total_first + first ))
+done
+printf '%-4s %12s %12s %16s\n' "avg" "" $(( total_ready / RUNS )) $(( total_first / RUNS ))
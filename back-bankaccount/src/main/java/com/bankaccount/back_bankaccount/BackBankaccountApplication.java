@@ -1,13 +1,29 @@
 package com.bankaccount.back_bankaccount;
 
+import com.bankaccount.back_bankaccount.config.AotBuildConditions;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
 @SpringBootApplication
 public class BackBankaccountApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(BackBankaccountApplication.class, args);
+		SpringApplication application = new SpringApplication(BackBankaccountApplication.class);
+		// Startup steps are kept for the actuator startup endpoint, which only production exposes; the
+		// recorder is needed before the environment is prepared, so the profile is read from the
+		// command line, system properties and environment variables
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+		if (environment.matchesProfiles(BankAccountConstants.PRODUCTION_PROFILE)) {
+			application.setApplicationStartup(new BufferingApplicationStartup(BankAccountConstants.STARTUP_STEP_CAPACITY));
+		}
+		// Refuses AOT bean definitions generated for another profile or feature switches
+		application.addListeners(new AotBuildConditions());
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,40 @@
+package com.bankaccount.back_bankaccount.adapters.in.actuator;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.OverdraftExposureDtoMapper;
+import com.bankaccount.back_bankaccount.domain.ports.in.GetOverdraftExposureUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileOverdraftExposureUseCase;
+import com.bankaccount.back_bankaccount.dto.OverdraftExposureDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint - Primary Adapter.
+ * GET /actuator/overdraftexposure reads the maintained totals without touching the database;
+ * POST reconciles them against the stored accounts first. Not exposed over the web by default;
+ * production exposes it read-only.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "overdraftexposure")
+public class OverdraftExposureEndpoint {
+
+    private final GetOverdraftExposureUseCase getOverdraftExposureUseCase;
+    private final ReconcileOverdraftExposureUseCase reconcileOverdraftExposureUseCase;
+    private final OverdraftExposureDtoMapper mapper;
+
+    @ReadOperation
+    public OverdraftExposureDto overdraftExposure() {
+        return mapper.toDto(getOverdraftExposureUseCase.getOverdraftExposure());
+    }
+
+    @WriteOperation
+    public OverdraftExposureDto reconcile() {
+        return mapper.toDto(reconcileOverdraftExposureUseCase.reconcile());
+    }
+}
@@ -0,0 +1,57 @@
+package com.bankaccount.back_bankaccount.adapters.in.rest;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.AccountImportReportDtoMapper;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.constants.ResourcePath;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ImportAccountsUseCase;
+import com.bankaccount.back_bankaccount.dto.AccountImportReportDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST Controller - Primary Adapter.
+ * Streams an uploaded CSV or NDJSON file into the bulk account import use case.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(ResourcePath.PATH_BANK_ACCOUNT)
+public class AccountImportRestController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(BankAccountConstants.MEDIA_TYPE_NDJSON);
+
+    private final ImportAccountsUseCase importAccountsUseCase;
+    private final AccountImportReportDtoMapper reportMapper;
+
+    @PostMapping(value = ResourcePath.PATH_IMPORT,
+            consumes = {BankAccountConstants.MEDIA_TYPE_TEXT_CSV, BankAccountConstants.MEDIA_TYPE_NDJSON},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AccountImportReportDto> importAccounts(
+            @RequestParam(BankAccountConstants.IMPORT_ID) String importId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        log.info("Import request {} ({})", importId, contentType);
+
+        AccountImportFormat format = NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? AccountImportFormat.NDJSON
+                : AccountImportFormat.CSV;
+        AccountImportReport report = importAccountsUseCase.importAccounts(importId, format, body);
+
+        return ResponseEntity.ok(reportMapper.toDto(report));
+    }
+}
@@ -0,0 +1,171 @@
+package com.bankaccount.back_bankaccount.adapters.in.rest;
+
+import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.BalanceEventDtoMapper;
+import com.bankaccount.back_bankaccount.config.properties.BalanceEventProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+import com.bankaccount.back_bankaccount.exception.InvalidSubscriptionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed balance changes to server-sent event subscribers.
+ * Each event is serialised once and offered to the bounded buffer of every
+ * subscriber following its account; buffers are drained on virtual threads so
+ * a slow client never delays the committing request nor the other clients.
+ * A subscriber whose buffer is full is disconnected: its EventSource reconnects
+ * and reloads the account instead of receiving an ever later backlog.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class BalanceEventBroadcaster {
+
+    private final BalanceEventDtoMapper mapper;
+    private final JsonMapper jsonMapper;
+    private final BalanceEventProperties properties;
+    private final Counter droppedSubscribers;
+    private final ConcurrentHashMap<AccountNumber, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Subscriber> allSubscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BalanceEventBroadcaster(BalanceEventDtoMapper mapper, JsonMapper jsonMapper,
+            BalanceEventProperties properties, MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.droppedSubscribers = meterRegistry.counter(BankAccountConstants.METRIC_BALANCE_EVENT_DROPPED_SUBSCRIBERS);
+        meterRegistry.gaugeCollectionSize(BankAccountConstants.METRIC_BALANCE_EVENT_SUBSCRIBERS,
+                Tags.empty(), allSubscribers);
+    }
+
+    /**
+     * Open a subscription to the balance changes of the given accounts
+     */
+    public SseEmitter subscribe(Set<AccountNumber> accountNumbers) {
+        if (accountNumbers.isEmpty() || accountNumbers.size() > properties.getMaxAccountsPerSubscription()) {
+            throw new InvalidSubscriptionException(properties.getMaxAccountsPerSubscription());
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(accountNumbers),
+                new ArrayBlockingQueue<>(properties.getSubscriberBufferSize()));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> {
+            unregister(subscriber);
+            // Ends the response cleanly instead of leaving the timeout to the container's error handling
+            emitter.complete();
+        });
+        emitter.onError(error -> unregister(subscriber));
+
+        allSubscribers.add(subscriber);
+        for (AccountNumber accountNumber : subscriber.accountNumbers) {
+            subscribers.computeIfAbsent(accountNumber, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * Fan a committed balance change out to the subscribers of its account
+     */
+    @TransactionalEventListener
+    public void onBalanceChange(BalanceChange change) {
+        Set<Subscriber> followers = subscribers.get(change.getAccountNumber());
+        if (followers == null || followers.isEmpty()) {
+            return;
+        }
+
+        String payload = jsonMapper.writeValueAsString(mapper.toDto(change));
+        for (Subscriber subscriber : followers) {
+            subscriber.offer(payload);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        allSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (allSubscribers.remove(subscriber)) {
+            for (AccountNumber accountNumber : subscriber.accountNumbers) {
+                subscribers.computeIfPresent(accountNumber, (key, followers) -> {
+                    followers.remove(subscriber);
+                    return followers.isEmpty() ? null : followers;
+                });
+            }
+        }
+    }
+
+    /**
+     * One SSE connection with its bounded event buffer; at most one sender drains it at a time
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<AccountNumber> accountNumbers;
+        private final BlockingQueue<String> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<AccountNumber> accountNumbers, BlockingQueue<String> buffer) {
+            this.emitter = emitter;
+            this.accountNumbers = accountNumbers;
+            this.buffer = buffer;
+        }
+
+        private void offer(String payload) {
+            if (!buffer.offer(payload)) {
+                log.debug("Disconnecting slow balance event subscriber of {}", accountNumbers);
+                droppedSubscribers.increment();
+                unregister(this);
+                emitter.complete();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                String payload;
+                while ((payload = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event().name(BankAccountConstants.BALANCE_EVENT_NAME).data(payload));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone or emitter already completed
+                unregister(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An event offered after the last poll but before the flag was cleared
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
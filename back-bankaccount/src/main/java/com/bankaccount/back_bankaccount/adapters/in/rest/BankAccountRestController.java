@@ -1,7 +1,14 @@
 package com.bankaccount.back_bankaccount.adapters.in.rest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,24 +16,35 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.BankAccountDtoMapper;
 import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.StatementDtoMapper;
 import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
 import com.bankaccount.back_bankaccount.constants.ResourcePath;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import com.bankaccount.back_bankaccount.domain.model.Statement;
+import com.bankaccount.back_bankaccount.domain.model.TransactionStream;
 import com.bankaccount.back_bankaccount.domain.ports.in.*;
 import com.bankaccount.back_bankaccount.dto.BankAccountDto;
 import com.bankaccount.back_bankaccount.dto.DepositRequestDto;
 import com.bankaccount.back_bankaccount.dto.OverdraftRequestDto;
+import com.bankaccount.back_bankaccount.dto.SavingsTransferRequestDto;
 import com.bankaccount.back_bankaccount.dto.StatementDto;
 import com.bankaccount.back_bankaccount.dto.WithdrawRequestDto;
+import com.bankaccount.back_bankaccount.exception.InvalidSubscriptionException;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * REST Controller - Primary Adapter.
@@ -44,24 +62,41 @@ public class BankAccountRestController {
     private final WithdrawMoneyUseCase withdrawMoneyUseCase;
     private final SetOverdraftLimitUseCase setOverdraftLimitUseCase;
     private final DepositToSavingsUseCase depositToSavingsUseCase;
+    private final TransferFromSavingsUseCase transferFromSavingsUseCase;
     private final GetStatementUseCase getStatementUseCase;
+    private final GetResourceVersionUseCase getResourceVersionUseCase;
+    private final BalanceEventBroadcaster balanceEventBroadcaster;
     
     private final BankAccountDtoMapper accountMapper;
     private final StatementDtoMapper statementMapper;
+    private final JsonMapper jsonMapper;
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<BankAccountDto>> getAllBankAccounts() {
-        List<BankAccount> accounts = getAllAccountsUseCase.getAllAccounts();
-        return ResponseEntity.ok(accountMapper.toDtoList(accounts));
+    public ResponseEntity<List<BankAccountDto>> getAllBankAccounts(
+            @RequestParam(value = BankAccountConstants.TYPE, required = false) AccountType type,
+            WebRequest webRequest) {
+        // Polling clients holding the current version get a 304 without the accounts being loaded
+        String version = getResourceVersionUseCase.getAccountsVersion(type);
+        if (webRequest.checkNotModified(version)) {
+            return null;
+        }
+
+        List<BankAccount> accounts = type != null
+                ? getAllAccountsUseCase.getAccountsByType(type)
+                : getAllAccountsUseCase.getAllAccounts();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(version)
+                .body(accountMapper.toDtoList(accounts));
     }
 
     @PostMapping(value = ResourcePath.PATH_CASH_DEPOSIT, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<BankAccountDto> deposit(@Valid @RequestBody DepositRequestDto request) {
-        log.info("Deposit request: {} amount {} on account {}", 
+        log.debug("Deposit request: amount {} on account {}", 
             request.getAmount(), request.getAccountNumber());
         
         BankAccount account = depositMoneyUseCase.deposit(
-            request.getAccountNumber(), 
+            AccountNumber.of(request.getAccountNumber()), 
             request.getAmount()
         );
         
@@ -70,11 +105,11 @@ public class BankAccountRestController {
 
     @PostMapping(value = ResourcePath.PATH_CASH_WITHDRAWAL, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<BankAccountDto> withdraw(@Valid @RequestBody WithdrawRequestDto request) {
-        log.info("Withdrawal request: {} amount {} from account {}", 
+        log.debug("Withdrawal request: amount {} from account {}", 
             request.getAmount(), request.getAccountNumber());
         
         BankAccount account = withdrawMoneyUseCase.withdraw(
-            request.getAccountNumber(), 
+            AccountNumber.of(request.getAccountNumber()), 
             request.getAmount()
         );
         
@@ -83,11 +118,11 @@ public class BankAccountRestController {
 
     @PostMapping(value = ResourcePath.PATH_OVERDRAFT, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<BankAccountDto> setOverdraft(@Valid @RequestBody OverdraftRequestDto request) {
-        log.info("Set overdraft request: {} limit for account {}", 
+        log.debug("Set overdraft request: limit {} for account {}", 
             request.getOverdraftLimit(), request.getAccountNumber());
         
         BankAccount account = setOverdraftLimitUseCase.setOverdraftLimit(
-            request.getAccountNumber(), 
+            AccountNumber.of(request.getAccountNumber()), 
             request.getOverdraftLimit()
         );
         
@@ -96,11 +131,24 @@ public class BankAccountRestController {
 
     @PostMapping(value = ResourcePath.PATH_SAVINGS_DEPOSIT, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<BankAccountDto> depositToSavings(@Valid @RequestBody DepositRequestDto request) {
-        log.info("Deposit to savings request: {} amount {} on account {}", 
+        log.debug("Deposit to savings request: amount {} on account {}", 
             request.getAmount(), request.getAccountNumber());
         
         BankAccount account = depositToSavingsUseCase.depositToSavings(
-            request.getAccountNumber(), 
+            AccountNumber.of(request.getAccountNumber()), 
+            request.getAmount()
+        );
+        
+        return ResponseEntity.ok(accountMapper.toDto(account));
+    }
+
+    @PostMapping(value = ResourcePath.PATH_SAVINGS_TRANSFER, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BankAccountDto> transferFromSavings(@Valid @RequestBody SavingsTransferRequestDto request) {
+        log.debug("Transfer from savings request: amount {} on account {}", 
+            request.getAmount(), request.getAccountNumber());
+        
+        BankAccount account = transferFromSavingsUseCase.transferFromSavings(
+            AccountNumber.of(request.getAccountNumber()), 
             request.getAmount()
         );
         
@@ -108,11 +156,74 @@ public class BankAccountRestController {
     }
 
     @GetMapping(value = ResourcePath.PATH_STATEMENT_BY_ACCOUNT, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<StatementDto> getStatement(@PathVariable(BankAccountConstants.ACCOUNT_NUMBER) String accountNumber) {
-        log.info("Get statement request for account {}", accountNumber);
+    public ResponseEntity<StatementDto> getStatement(
+            @PathVariable(BankAccountConstants.ACCOUNT_NUMBER) String accountNumber,
+            @RequestParam(value = BankAccountConstants.FROM, required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = BankAccountConstants.TO, required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = BankAccountConstants.PAGE, defaultValue = "0") int page,
+            @RequestParam(value = BankAccountConstants.SIZE, required = false) Integer size,
+            WebRequest webRequest) {
+        if (log.isDebugEnabled()) {
+            log.debug("Get statement request for account {} from {} to {} page {}", accountNumber, from, to, page);
+        }
         
-        Statement statement = getStatementUseCase.getStatement(accountNumber);
+        // Missing bounds fall back to the sliding window ending now, rounded up to the second
+        // so that concurrent default requests ask for the same statement and can share it
+        LocalDateTime periodEnd = to != null ? to : LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        LocalDateTime periodStart = from != null ? from : periodEnd.minusDays(BankAccountConstants.STATEMENT_DEFAULT_WINDOW_DAYS);
+        int pageSize = size != null ? size : BankAccountConstants.STATEMENT_MAX_PAGE_SIZE;
+        AccountNumber number = AccountNumber.of(accountNumber);
+        Optional<String> version = getResourceVersionUseCase.getStatementVersion(number, periodStart, periodEnd);
+        if (version.isPresent() && webRequest.checkNotModified(version.get())) {
+            return null;
+        }
+
+        Statement statement = getStatementUseCase.getStatement(number, periodStart, periodEnd, page, pageSize);
         
-        return ResponseEntity.ok(statementMapper.toDto(statement));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        version.ifPresent(response::eTag);
+        return response.body(statementMapper.toDto(statement));
+    }
+
+    @GetMapping(value = ResourcePath.PATH_STATEMENT_STREAM, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStatement(
+            @PathVariable(BankAccountConstants.ACCOUNT_NUMBER) String accountNumber,
+            @RequestParam(value = BankAccountConstants.FROM, required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = BankAccountConstants.TO, required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (log.isDebugEnabled()) {
+            log.debug("Stream statement request for account {} from {} to {}", accountNumber, from, to);
+        }
+
+        LocalDateTime periodEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime periodStart = from != null ? from : periodEnd.minusDays(BankAccountConstants.STATEMENT_DEFAULT_WINDOW_DAYS);
+        // Unknown accounts and bad periods fail here, before the response is committed
+        TransactionStream transactions = getStatementUseCase.streamStatement(AccountNumber.of(accountNumber), periodStart, periodEnd);
+
+        // Written off the request thread, one JSON line per transaction; a slow client blocks
+        // the writes and therefore the cursor, so memory stays bounded by the fetch size
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = jsonMapper.createGenerator(output)) {
+                transactions.forEach(transaction -> {
+                    jsonMapper.writeValue(generator, statementMapper.toTransactionDto(transaction));
+                    generator.writeRaw('\n');
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = ResourcePath.PATH_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToBalanceEvents(
+            @RequestParam(BankAccountConstants.ACCOUNT_NUMBER) List<String> accountNumbers) {
+        log.debug("Balance event subscription for accounts {}", accountNumbers);
+
+        // A blank value (?accountNumber=) is bad client input, not an unexpected error
+        if (accountNumbers.stream().anyMatch(String::isBlank)) {
+            throw new InvalidSubscriptionException(BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE);
+        }
+        Set<AccountNumber> subscribed = accountNumbers.stream()
+                .map(AccountNumber::of)
+                .collect(Collectors.toSet());
+        return balanceEventBroadcaster.subscribe(subscribed);
     }
 }
@@ -0,0 +1,47 @@
+package com.bankaccount.back_bankaccount.adapters.in.rest.mapper;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReject;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReport;
+import com.bankaccount.back_bankaccount.dto.AccountImportRejectDto;
+import com.bankaccount.back_bankaccount.dto.AccountImportReportDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between domain AccountImportReport and REST DTO.
+ * Part of the primary adapter (REST API).
+ */
+@Component
+public class AccountImportReportDtoMapper {
+
+    /**
+     * Convert domain model to DTO
+     */
+    public AccountImportReportDto toDto(AccountImportReport domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        return AccountImportReportDto.builder()
+                .importId(domain.getImportId())
+                .totalRecords(domain.getTotalRecords())
+                .imported(domain.getImported())
+                .rejected(domain.getRejected())
+                .committedChunks(domain.getCommittedChunks())
+                .resumedChunks(domain.getResumedChunks())
+                .durationMillis(domain.getDurationMillis())
+                .recordsPerSecond(domain.getRecordsPerSecond())
+                .rejects(domain.getRejects().stream().map(this::toRejectDto).toList())
+                .build();
+    }
+
+    /**
+     * Convert domain AccountImportReject to DTO
+     */
+    private AccountImportRejectDto toRejectDto(AccountImportReject reject) {
+        return AccountImportRejectDto.builder()
+                .lineNumber(reject.getLineNumber())
+                .accountNumber(reject.getAccountNumber())
+                .reason(reject.getReason())
+                .build();
+    }
+}
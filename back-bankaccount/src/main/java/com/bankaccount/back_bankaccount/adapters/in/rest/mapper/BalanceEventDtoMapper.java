@@ -0,0 +1,35 @@
+package com.bankaccount.back_bankaccount.adapters.in.rest.mapper;
+
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+import com.bankaccount.back_bankaccount.dto.BalanceEventDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between domain BalanceChange and DTO.
+ * Part of the adapter layer.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceEventDtoMapper {
+
+    private final StatementDtoMapper statementMapper;
+
+    /**
+     * Convert domain BalanceChange to DTO
+     */
+    public BalanceEventDto toDto(BalanceChange domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        return BalanceEventDto.builder()
+                .accountNumber(domain.getAccountNumber().value())
+                .balance(domain.getBalance())
+                .savingsBalance(domain.getSavingsBalance())
+                .transaction(domain.getTransaction() != null
+                        ? statementMapper.toTransactionDto(domain.getTransaction())
+                        : null)
+                .build();
+    }
+}
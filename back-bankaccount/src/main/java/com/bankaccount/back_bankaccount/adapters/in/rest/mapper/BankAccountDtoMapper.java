@@ -24,7 +24,7 @@ public class BankAccountDtoMapper {
         
         BankAccountDto dto = new BankAccountDto();
         dto.setId(domain.getId());
-        dto.setAccountNumber(domain.getAccountNumber());
+        dto.setAccountNumber(domain.getAccountNumber().value());
         dto.setBalance(domain.getBalance());
         dto.setOverdraftLimit(domain.getOverdraftLimit());
         dto.setSavingsBalance(domain.getSavingsBalance());
@@ -0,0 +1,29 @@
+package com.bankaccount.back_bankaccount.adapters.in.rest.mapper;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+import com.bankaccount.back_bankaccount.dto.OverdraftExposureDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between domain OverdraftExposure and its DTO, amounts in euros.
+ * Part of the primary adapter (REST API).
+ */
+@Component
+public class OverdraftExposureDtoMapper {
+
+    /**
+     * Convert domain model to DTO
+     */
+    public OverdraftExposureDto toDto(OverdraftExposure domain) {
+        if (domain == null) {
+            return null;
+        }
+
+        return OverdraftExposureDto.builder()
+                .negativeBalanceTotal(domain.getNegativeBalanceCents() / 100.0)
+                .overdraftLimitTotal(domain.getOverdraftLimitCents() / 100.0)
+                .overdrawnAccounts(domain.getOverdrawnAccounts())
+                .reconciledAt(domain.getReconciledAt())
+                .build();
+    }
+}
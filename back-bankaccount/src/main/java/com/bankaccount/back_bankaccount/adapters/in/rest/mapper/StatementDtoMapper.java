@@ -28,11 +28,15 @@ public class StatementDtoMapper {
             .toList();
         
         return StatementDto.builder()
-                .accountNumber(domain.getAccountNumber())
-                .accountType(domain.getAccountType())
+                .accountNumber(domain.getAccountNumber().value())
+                .accountType(domain.getAccountType().getLabel())
                 .currentBalance(domain.getCurrentBalance())
                 .savingsBalance(domain.getSavingsBalance())
                 .statementDate(domain.getStatementDate())
+                .periodStart(domain.getPeriodStart())
+                .periodEnd(domain.getPeriodEnd())
+                .page(domain.getPage())
+                .hasMore(domain.isHasMore())
                 .transactions(transactionDtos)
                 .build();
     }
@@ -40,7 +44,7 @@ public class StatementDtoMapper {
     /**
      * Convert domain Transaction to DTO
      */
-    private TransactionDto toTransactionDto(Transaction transaction) {
+    public TransactionDto toTransactionDto(Transaction transaction) {
         return TransactionDto.builder()
                 .date(transaction.getTransactionDate())
                 .type(transaction.getType().getLabel())
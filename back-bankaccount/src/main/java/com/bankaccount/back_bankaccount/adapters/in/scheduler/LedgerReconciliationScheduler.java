@@ -0,0 +1,38 @@
+package com.bankaccount.back_bankaccount.adapters.in.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationDiscrepancy;
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileLedgerUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler - Primary Adapter.
+ * Runs the ledger reconciliation nightly and emits its discrepancy report to the logs.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reconciliation", name = "enabled", havingValue = "true")
+public class LedgerReconciliationScheduler {
+
+    private final ReconcileLedgerUseCase reconcileLedgerUseCase;
+
+    @Scheduled(cron = "${app.reconciliation.cron:0 0 2 * * *}")
+    public void reconcile() {
+        ReconciliationReport report = reconcileLedgerUseCase.reconcile();
+        for (ReconciliationDiscrepancy discrepancy : report.getDiscrepancies()) {
+            log.warn("Ledger discrepancy {} on account {} (transaction {}): expected {} but found {}",
+                discrepancy.getType(), discrepancy.getAccountNumber(), discrepancy.getTransactionId(),
+                discrepancy.getExpected(), discrepancy.getActual());
+        }
+    }
+}
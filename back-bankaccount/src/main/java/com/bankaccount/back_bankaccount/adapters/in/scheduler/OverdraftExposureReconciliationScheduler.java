@@ -0,0 +1,30 @@
+package com.bankaccount.back_bankaccount.adapters.in.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileOverdraftExposureUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Scheduler - Primary Adapter.
+ * Periodically corrects the overdraft exposure against the stored accounts.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.overdraft-exposure", name = "enabled", havingValue = "true")
+public class OverdraftExposureReconciliationScheduler {
+
+    private final ReconcileOverdraftExposureUseCase reconcileOverdraftExposureUseCase;
+
+    @Scheduled(fixedDelayString = "${app.overdraft-exposure.reconciliation-delay:PT5M}",
+            initialDelayString = "${app.overdraft-exposure.reconciliation-delay:PT5M}")
+    public void reconcile() {
+        reconcileOverdraftExposureUseCase.reconcile();
+    }
+}
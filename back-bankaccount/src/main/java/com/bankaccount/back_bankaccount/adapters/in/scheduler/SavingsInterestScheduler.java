@@ -0,0 +1,39 @@
+package com.bankaccount.back_bankaccount.adapters.in.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.domain.model.InterestAccrualReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.AccrueSavingsInterestUseCase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+
+/**
+ * Scheduler - Primary Adapter.
+ * Credits the day's savings interest nightly; chunks left over by a failure
+ * are credited by running the job again for the same date.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.interest", name = "enabled", havingValue = "true")
+public class SavingsInterestScheduler {
+
+    private final AccrueSavingsInterestUseCase accrueSavingsInterestUseCase;
+
+    @Scheduled(cron = "${app.interest.cron:0 30 1 * * *}")
+    public void accrue() {
+        InterestAccrualReport report = accrueSavingsInterestUseCase.accrue(LocalDate.now());
+        if (report.getFailedChunks() > 0) {
+            log.warn("Savings interest for {} left {} chunks uncredited", report.getAccrualDate(),
+                report.getFailedChunks());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.bankaccount.back_bankaccount.adapters.in.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.domain.ports.in.ExportTransactionsUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Scheduler - Primary Adapter.
+ * Periodically exports the transactions recorded since the previous run.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.export", name = "enabled", havingValue = "true")
+public class TransactionExportScheduler {
+
+    private final ExportTransactionsUseCase exportTransactionsUseCase;
+
+    @Scheduled(cron = "${app.export.cron:0 15 * * * *}")
+    public void export() {
+        exportTransactionsUseCase.exportNewTransactions();
+    }
+}
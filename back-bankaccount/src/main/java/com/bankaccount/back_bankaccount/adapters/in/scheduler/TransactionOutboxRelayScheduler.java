@@ -0,0 +1,29 @@
+package com.bankaccount.back_bankaccount.adapters.in.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bankaccount.back_bankaccount.domain.ports.in.RelayTransactionEventsUseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Scheduler - Primary Adapter.
+ * Drains the transaction outbox shortly after each previous run ends.
+ * Part of the adapters/in layer (primary adapters).
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class TransactionOutboxRelayScheduler {
+
+    private final RelayTransactionEventsUseCase relayTransactionEventsUseCase;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-delay:PT1S}")
+    public void relay() {
+        relayTransactionEventsUseCase.relayPendingEvents();
+    }
+}
@@ -0,0 +1,25 @@
+package com.bankaccount.back_bankaccount.adapters.out.event;
+
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+import com.bankaccount.back_bankaccount.domain.ports.out.BalanceChangePublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapter implementing the BalanceChangePublisherPort with Spring application events.
+ * Listeners bind to the transaction phase they need; the balance stream only
+ * listens after commit, so rolled back changes are never pushed.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceChangeEventAdapter implements BalanceChangePublisherPort {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(BalanceChange change) {
+        eventPublisher.publishEvent(change);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bankaccount.back_bankaccount.adapters.out.export;
+
+import com.bankaccount.back_bankaccount.config.properties.TransactionExportProperties;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionExportPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Adapter implementing the TransactionExportPort with local columnar files.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class ColumnarTransactionExportAdapter implements TransactionExportPort {
+
+    private final TransactionExportProperties properties;
+
+    @Override
+    public ExportFile open(String fileName) {
+        Path directory = Path.of(properties.getDirectory());
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ColumnarTransactionFileWriter(directory.resolve(fileName), properties.getRowGroupSize());
+    }
+}
@@ -0,0 +1,89 @@
+package com.bankaccount.back_bankaccount.adapters.out.export;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static com.bankaccount.back_bankaccount.adapters.out.export.ColumnarTransactionFormat.*;
+
+/**
+ * Reads back a columnar export file (see {@link ColumnarTransactionFormat}) row group by row group.
+ */
+public final class ColumnarTransactionFileReader {
+
+    private ColumnarTransactionFileReader() {
+    }
+
+    /**
+     * Stream every row of the file, in export order
+     */
+    public static void read(Path file, Consumer<Transaction> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            byte[] magic = in.readNBytes(MAGIC.length);
+            int version = in.readUnsignedByte();
+            if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+                throw new IOException("Not a version " + VERSION + " columnar transaction file: " + file);
+            }
+            TransactionType[] types = new TransactionType[(int) readVarLong(in)];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = TransactionType.valueOf(in.readUTF());
+            }
+
+            int rows;
+            while ((rows = (int) readVarLong(in)) > 0) {
+                readRowGroup(in, rows, types, consumer);
+            }
+        }
+    }
+
+    private static void readRowGroup(DataInputStream in, int rows, TransactionType[] types,
+            Consumer<Transaction> consumer) throws IOException {
+        long[] ids = new long[rows];
+        ids[0] = readVarLong(in);
+        for (int i = 1; i < rows; i++) {
+            ids[i] = ids[i - 1] + readZigZag(in);
+        }
+
+        long[] dates = new long[rows];
+        dates[0] = readZigZag(in);
+        for (int i = 1; i < rows; i++) {
+            dates[i] = dates[i - 1] + readZigZag(in);
+        }
+
+        // Rows of a group share the AccountNumber instances of its dictionary
+        AccountNumber[] dictionary = new AccountNumber[(int) readVarLong(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = AccountNumber.of(in.readUTF());
+        }
+        int[] accounts = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            accounts[i] = (int) readVarLong(in);
+        }
+
+        byte[] typeIndexes = in.readNBytes(rows);
+        double[] amounts = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            amounts[i] = in.readDouble();
+        }
+        for (int i = 0; i < rows; i++) {
+            consumer.accept(Transaction.builder()
+                    .id(ids[i])
+                    .transactionDate(fromEpochMicros(dates[i]))
+                    .accountNumber(dictionary[accounts[i]])
+                    .type(types[typeIndexes[i]])
+                    .amount(amounts[i])
+                    .balanceAfter(in.readDouble())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.bankaccount.back_bankaccount.adapters.out.export;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionExportPort;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.bankaccount.back_bankaccount.adapters.out.export.ColumnarTransactionFormat.*;
+
+/**
+ * Writes one columnar export file (see {@link ColumnarTransactionFormat}).
+ * Only the current row group is buffered; it is encoded and flushed once full.
+ * The file is written next to its target and moved into place on commit.
+ */
+class ColumnarTransactionFileWriter implements TransactionExportPort.ExportFile {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path target;
+    private final Path temporary;
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+
+    private final long[] ids;
+    private final long[] dates;
+    private final int[] accounts;
+    private final byte[] types;
+    private final double[] amounts;
+    private final double[] balances;
+    private final Map<AccountNumber, Integer> dictionary = new HashMap<>();
+    private final List<AccountNumber> dictionaryEntries = new ArrayList<>();
+    private int rows;
+    private boolean committed;
+
+    ColumnarTransactionFileWriter(Path target, int rowGroupSize) {
+        this.target = target;
+        this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        this.rowGroupSize = rowGroupSize;
+        this.ids = new long[rowGroupSize];
+        this.dates = new long[rowGroupSize];
+        this.accounts = new int[rowGroupSize];
+        this.types = new byte[rowGroupSize];
+        this.amounts = new double[rowGroupSize];
+        this.balances = new double[rowGroupSize];
+        try {
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temporary))));
+            writeHeader();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void append(Transaction transaction) {
+        ids[rows] = transaction.getId();
+        dates[rows] = toEpochMicros(transaction.getTransactionDate());
+        accounts[rows] = dictionary.computeIfAbsent(transaction.getAccountNumber(), accountNumber -> {
+            dictionaryEntries.add(accountNumber);
+            return dictionaryEntries.size() - 1;
+        });
+        types[rows] = (byte) transaction.getType().ordinal();
+        amounts[rows] = transaction.getAmount();
+        balances[rows] = transaction.getBalanceAfter();
+        if (++rows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    @Override
+    public void commit() {
+        try {
+            flushRowGroup();
+            writeVarLong(out, 0);
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (committed) {
+            return;
+        }
+        try {
+            out.close();
+            Files.deleteIfExists(temporary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        writeVarLong(out, TYPES.length);
+        for (TransactionType type : TYPES) {
+            out.writeUTF(type.name());
+        }
+    }
+
+    private void flushRowGroup() {
+        if (rows == 0) {
+            return;
+        }
+        try {
+            writeVarLong(out, rows);
+
+            writeVarLong(out, ids[0]);
+            for (int i = 1; i < rows; i++) {
+                writeZigZag(out, ids[i] - ids[i - 1]);
+            }
+
+            writeZigZag(out, dates[0]);
+            for (int i = 1; i < rows; i++) {
+                writeZigZag(out, dates[i] - dates[i - 1]);
+            }
+
+            writeVarLong(out, dictionaryEntries.size());
+            for (AccountNumber accountNumber : dictionaryEntries) {
+                out.writeUTF(accountNumber.value());
+            }
+            for (int i = 0; i < rows; i++) {
+                writeVarLong(out, accounts[i]);
+            }
+
+            out.write(types, 0, rows);
+            for (int i = 0; i < rows; i++) {
+                out.writeDouble(amounts[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                out.writeDouble(balances[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows = 0;
+        dictionary.clear();
+        dictionaryEntries.clear();
+    }
+}
@@ -0,0 +1,71 @@
+package com.bankaccount.back_bankaccount.adapters.out.export;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Compact columnar file format for exported transactions.
+ *
+ * <p>The whole file is a GZIP stream:
+ * <pre>
+ * file      := magic "TXCOL" version:u8 typeCount:varint typeName:utf* rowGroup* end
+ * rowGroup  := rowCount:varint
+ *              id:          first varint, then zigzag varint deltas
+ *              date:        epoch micros (UTC) first zigzag varint, then zigzag varint deltas
+ *              account:     dictSize:varint accountNumber:utf*, then one dictionary index varint per row
+ *              type:        one u8 index into the header type names per row
+ *              amount:      one IEEE double per row
+ *              balanceAfter: one IEEE double per row
+ * end       := rowCount 0
+ * </pre>
+ * Rows are in (date, id) order, so both delta columns stay small.
+ */
+final class ColumnarTransactionFormat {
+
+    static final byte[] MAGIC = {'T', 'X', 'C', 'O', 'L'};
+    static final int VERSION = 1;
+
+    private ColumnarTransactionFormat() {
+    }
+
+    static long toEpochMicros(LocalDateTime date) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), date);
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    static void writeZigZag(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readZigZag(DataInput in) throws IOException {
+        long encoded = readVarLong(in);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bankaccount.back_bankaccount.adapters.out.outbox;
+
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionEventSinkPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter implementing the TransactionEventSinkPort with a local JSON lines file.
+ * A batch is appended with a single write and forced to disk before the relay
+ * removes it from the outbox.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+public class FileTransactionEventSink implements TransactionEventSinkPort {
+
+    private final OutboxProperties properties;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public synchronized void deliver(List<Transaction> transactions) {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(transactions.size() * 128);
+        for (Transaction transaction : transactions) {
+            jsonMapper.writeValue(batch, TransactionEvent.of(transaction));
+            batch.write('\n');
+        }
+
+        Path file = Path.of(properties.getFile());
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One line of the file; the transaction id lets consumers drop redelivered events
+     */
+    record TransactionEvent(long transactionId, String accountNumber, LocalDateTime transactionDate,
+            String type, double amount, double balanceAfter) {
+
+        static TransactionEvent of(Transaction transaction) {
+            return new TransactionEvent(transaction.getId(), transaction.getAccountNumber().value(),
+                    transaction.getTransactionDate(), transaction.getType().name(),
+                    transaction.getAmount(), transaction.getBalanceAfter());
+        }
+    }
+}
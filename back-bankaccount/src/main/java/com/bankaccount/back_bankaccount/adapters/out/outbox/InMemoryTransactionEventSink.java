@@ -0,0 +1,36 @@
+package com.bankaccount.back_bankaccount.adapters.out.outbox;
+
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionEventSinkPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Adapter implementing the TransactionEventSinkPort in memory, for tests.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "memory")
+public class InMemoryTransactionEventSink implements TransactionEventSinkPort {
+
+    private final List<Transaction> delivered = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(List<Transaction> transactions) {
+        delivered.addAll(transactions);
+    }
+
+    /**
+     * Transactions delivered so far, in delivery order
+     */
+    public List<Transaction> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public void clear() {
+        delivered.clear();
+    }
+}
@@ -0,0 +1,49 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountImportChunkJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.AccountImportChunkJpaRepository;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.ports.out.AccountImportCheckpointPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adapter implementing the AccountImportCheckpointPort.
+ * This bridges the domain layer with the JPA infrastructure.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountImportCheckpointPersistenceAdapter implements AccountImportCheckpointPort {
+
+    private final AccountImportChunkJpaRepository jpaRepository;
+
+    @Override
+    public Set<Long> findCommittedChunks(String importId, int chunkSize) {
+        List<AccountImportChunkJpaEntity> chunks = jpaRepository.findByImportId(importId);
+        Set<Long> committed = new HashSet<>(chunks.size());
+        for (AccountImportChunkJpaEntity chunk : chunks) {
+            // Chunk indexes only line up with the file when it is re-read with the same chunk size
+            if (chunk.getChunkSize() != chunkSize) {
+                throw new IllegalStateException(BankAccountConstants.IMPORT_CHUNK_SIZE_CHANGED_ERROR);
+            }
+            committed.add(chunk.getChunkIndex());
+        }
+        return committed;
+    }
+
+    @Override
+    public void markChunkCommitted(String importId, long chunkIndex, int chunkSize, int imported, int rejected) {
+        jpaRepository.save(AccountImportChunkJpaEntity.builder()
+                .importId(importId)
+                .chunkIndex(chunkIndex)
+                .chunkSize(chunkSize)
+                .imported(imported)
+                .rejected(rejected)
+                .build());
+    }
+}
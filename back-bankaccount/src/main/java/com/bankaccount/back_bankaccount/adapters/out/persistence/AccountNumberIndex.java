@@ -0,0 +1,107 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.properties.AccountFilterProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Negative lookup cache of existing account numbers, backed by a Bloom filter.
+ * It is built from bank_account once the application is ready and kept up to date
+ * on every insert; until it is built, or when disabled, every account number may exist.
+ * Inserts made before the build are remembered and replayed into the filter when it is
+ * published, so a row committed after the scan is not missed.
+ * Deleted accounts stay in the filter and simply fall through to the database.
+ * <p>
+ * Only inserts made by this process are seen: the filter is for single-instance
+ * deployments whose accounts are never created by another instance or by plain SQL.
+ */
+@Slf4j
+@Component
+public class AccountNumberIndex {
+
+    private static final String COUNT_ACCOUNTS_SQL = "SELECT COUNT(*) FROM bank_account";
+    private static final String ACCOUNT_NUMBERS_SQL = "SELECT account_number FROM bank_account";
+
+    private final AccountFilterProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter rejections;
+
+    private final Object buildLock = new Object();
+    private volatile AccountNumberBloomFilter active;
+    // Account numbers inserted before the filter is published, guarded by buildLock
+    private final List<AccountNumber> insertedBeforeBuild = new ArrayList<>();
+
+    public AccountNumberIndex(AccountFilterProperties properties, JdbcTemplate jdbcTemplate, MeterRegistry registry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rejections = Counter.builder(BankAccountConstants.METRIC_ACCOUNT_FILTER_REJECTIONS).register(registry);
+    }
+
+    /**
+     * Whether the account number may exist; false means it certainly does not
+     */
+    public boolean mightExist(AccountNumber accountNumber) {
+        AccountNumberBloomFilter filter = active;
+        if (filter == null || accountNumber == null || filter.mightContain(accountNumber)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    public void add(AccountNumber accountNumber) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AccountNumberBloomFilter filter = active;
+        if (filter == null) {
+            synchronized (buildLock) {
+                filter = active;
+                if (filter == null) {
+                    insertedBeforeBuild.add(accountNumber);
+                    return;
+                }
+            }
+        }
+        filter.put(accountNumber);
+    }
+
+    public void addAll(Collection<AccountNumber> accountNumbers) {
+        for (AccountNumber accountNumber : accountNumbers) {
+            add(accountNumber);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        Long accounts = jdbcTemplate.queryForObject(COUNT_ACCOUNTS_SQL, Long.class);
+        // Leave room for the accounts created until the next restart
+        long capacity = Math.max(properties.getExpectedAccounts(), (accounts != null ? accounts : 0) * 2);
+        AccountNumberBloomFilter next = new AccountNumberBloomFilter(capacity, properties.getFalsePositiveRate());
+        jdbcTemplate.query(ACCOUNT_NUMBERS_SQL, (RowCallbackHandler) rs -> next.put(AccountNumber.of(rs.getString(1))));
+        synchronized (buildLock) {
+            // Rows inserted during the scan but committed after it are only known from here
+            insertedBeforeBuild.forEach(next::put);
+            insertedBeforeBuild.clear();
+            active = next;
+        }
+        log.info("Account number filter built: {} accounts, {} KiB, {} hashes in {} ms", accounts,
+                next.bitCount() / 8 / 1024, next.hashCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -3,13 +3,22 @@ package com.bankaccount.back_bankaccount.adapters.out.persistence;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.mapper.BankAccountJpaMapper;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.config.datasource.ReadYourWritesTracker;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Adapter implementing the BankAccountRepositoryPort.
@@ -20,8 +29,17 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BankAccountPersistenceAdapter implements BankAccountRepositoryPort {
     
+    // Plain JDBC batch: the JPA sequence generator would fetch one id per row and defeat batching
+    private static final String INSERT_ACCOUNT_SQL = """
+            INSERT INTO bank_account (id, account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit,
+                account_type, version)
+            VALUES (NEXT VALUE FOR bank_account_id_seq, ?, ?, ?, ?, ?, ?, 0)""";
+
     private final BankAccountJpaRepository jpaRepository;
     private final BankAccountJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountNumberIndex accountNumberIndex;
+    private final ReadYourWritesTracker readYourWrites;
 
     @Override
     public List<BankAccount> findAll() {
@@ -31,15 +49,67 @@ public class BankAccountPersistenceAdapter implements BankAccountRepositoryPort
     }
 
     @Override
-    public Optional<BankAccount> findByAccountNumber(String accountNumber) {
-        return jpaRepository.findByAccountNumber(accountNumber)
+    public List<BankAccount> findByAccountType(AccountType accountType) {
+        return jpaRepository.findByAccountType(mapper.mapType(accountType)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<BankAccount> findByAccountNumber(AccountNumber accountNumber) {
+        // Unknown account numbers are answered without a query
+        if (!accountNumberIndex.mightExist(accountNumber)) {
+            return Optional.empty();
+        }
+        readYourWrites.beforeRead(accountNumber);
+        return jpaRepository.findByAccountNumber(accountNumber.value())
                 .map(mapper::toDomain);
     }
 
     @Override
+    @Transactional
     public BankAccount save(BankAccount account) {
-        BankAccountJpaEntity entity = mapper.toEntity(account);
-        BankAccountJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        readYourWrites.recordWrite(account.getAccountNumber());
+        if (account.getId() == null) {
+            return mapper.toDomain(jpaRepository.save(mapper.toEntity(account)));
+        }
+
+        // The lookup of the same transaction left the entity managed: updating it in place avoids
+        // the SELECT of a merge, and dirty checking writes only the changed columns at flush
+        BankAccountJpaEntity entity = jpaRepository.findById(account.getId())
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(BankAccountJpaEntity.class, account.getId()));
+        if (account.getVersion() != null && !account.getVersion().equals(entity.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(BankAccountJpaEntity.class, account.getId());
+        }
+        mapper.updateEntity(account, entity);
+        return mapper.toDomain(entity);
+    }
+
+    @Override
+    public void saveAll(List<BankAccount> accounts) {
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, accounts, accounts.size(), (ps, account) -> {
+            ps.setString(1, account.getAccountNumber().value());
+            ps.setDouble(2, account.getBalance());
+            ps.setDouble(3, account.getOverdraftLimit());
+            ps.setDouble(4, account.getSavingsBalance());
+            ps.setDouble(5, account.getSavingsDepositLimit());
+            ps.setString(6, account.getAccountType().name());
+        });
+        accountNumberIndex.addAll(accounts.stream().map(BankAccount::getAccountNumber).toList());
+    }
+
+    @Override
+    public Set<AccountNumber> findExistingAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        List<String> candidates = accountNumbers.stream()
+                .filter(accountNumberIndex::mightExist)
+                .map(AccountNumber::value)
+                .toList();
+        Set<AccountNumber> existing = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            for (String accountNumber : jpaRepository.findAccountNumbersIn(candidates)) {
+                existing.add(AccountNumber.of(accountNumber));
+            }
+        }
+        return existing;
     }
 }
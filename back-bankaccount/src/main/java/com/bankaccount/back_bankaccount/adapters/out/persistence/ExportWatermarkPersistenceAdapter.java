@@ -0,0 +1,40 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.ExportWatermarkJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.ExportWatermarkJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.ExportWatermark;
+import com.bankaccount.back_bankaccount.domain.ports.out.ExportWatermarkPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Adapter implementing the ExportWatermarkPort.
+ * This bridges the domain layer with the JPA infrastructure.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportWatermarkPersistenceAdapter implements ExportWatermarkPort {
+
+    private final ExportWatermarkJpaRepository jpaRepository;
+
+    @Override
+    public Optional<ExportWatermark> find(String exportName) {
+        return jpaRepository.findById(exportName)
+                .map(entity -> ExportWatermark.builder()
+                        .transactionDate(entity.getLastTransactionDate())
+                        .transactionId(entity.getLastTransactionId())
+                        .build());
+    }
+
+    @Override
+    public void save(String exportName, ExportWatermark watermark) {
+        jpaRepository.save(ExportWatermarkJpaEntity.builder()
+                .exportName(exportName)
+                .lastTransactionDate(watermark.getTransactionDate())
+                .lastTransactionId(watermark.getTransactionId())
+                .build());
+    }
+}
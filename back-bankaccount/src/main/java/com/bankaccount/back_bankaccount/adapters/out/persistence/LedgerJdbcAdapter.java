@@ -0,0 +1,117 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.ExportWatermark;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.out.LedgerReadPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Adapter implementing the LedgerReadPort with plain JDBC.
+ * Uses a bounded fetch size and row callbacks so that full-ledger scans
+ * neither materialise result lists nor fill the JPA persistence context.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+public class LedgerJdbcAdapter implements LedgerReadPort {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String ACCOUNT_ID_RANGE_SQL =
+            "SELECT MIN(id) AS from_id, MAX(id) AS to_id FROM bank_account";
+
+    private static final String ACCOUNTS_SQL = """
+            SELECT id, account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit
+            FROM bank_account
+            WHERE id BETWEEN ? AND ?""";
+
+    private static final String TRANSACTIONS_SQL = """
+            SELECT t.id, t.account_number, t.transaction_date, t.type, t.amount, t.balance_after
+            FROM transaction t
+            JOIN bank_account a ON a.account_number = t.account_number
+            WHERE a.id BETWEEN ? AND ?
+            ORDER BY t.account_number, t.transaction_date, t.id""";
+
+    private static final String LEDGER_COLUMNS =
+            "SELECT id, account_number, transaction_date, type, amount, balance_after FROM transaction ";
+
+    private static final String TRANSACTIONS_BEFORE_SQL = LEDGER_COLUMNS + """
+            WHERE transaction_date < ?
+            ORDER BY transaction_date, id""";
+
+    private static final String TRANSACTIONS_AFTER_WATERMARK_SQL = LEDGER_COLUMNS + """
+            WHERE (transaction_date > ? OR (transaction_date = ? AND id > ?))
+              AND transaction_date < ?
+            ORDER BY transaction_date, id""";
+
+    private static final String ORPHAN_ACCOUNT_NUMBERS_SQL = """
+            SELECT DISTINCT t.account_number
+            FROM transaction t
+            WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.account_number = t.account_number)
+            ORDER BY t.account_number
+            LIMIT ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LedgerJdbcAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    public Optional<AccountIdRange> findAccountIdRange() {
+        return jdbcTemplate.query(ACCOUNT_ID_RANGE_SQL, rs -> {
+            rs.next();
+            long fromId = rs.getLong("from_id");
+            // MIN/MAX over an empty table return NULL
+            return rs.wasNull()
+                    ? Optional.empty()
+                    : Optional.of(new AccountIdRange(fromId, rs.getLong("to_id")));
+        });
+    }
+
+    @Override
+    public void streamAccounts(AccountIdRange range, Consumer<BankAccount> consumer) {
+        jdbcTemplate.query(ACCOUNTS_SQL, rs -> {
+            consumer.accept(BankAccount.builder()
+                    .id(rs.getLong("id"))
+                    .accountNumber(AccountNumber.of(rs.getString("account_number")))
+                    .balance(rs.getDouble("balance"))
+                    .overdraftLimit(rs.getDouble("overdraft_limit"))
+                    .savingsBalance(rs.getDouble("savings_balance"))
+                    .savingsDepositLimit(rs.getDouble("savings_deposit_limit"))
+                    .build());
+        }, range.getFromId(), range.getToId());
+    }
+
+    @Override
+    public void streamTransactions(AccountIdRange range, Consumer<Transaction> consumer) {
+        jdbcTemplate.query(TRANSACTIONS_SQL, new TransactionRowHandler(consumer), range.getFromId(), range.getToId());
+    }
+
+    @Override
+    public void streamTransactionsAfter(ExportWatermark after, LocalDateTime before, Consumer<Transaction> consumer) {
+        RowCallbackHandler handler = new TransactionRowHandler(consumer);
+        if (after == null) {
+            jdbcTemplate.query(TRANSACTIONS_BEFORE_SQL, handler, before);
+        } else {
+            jdbcTemplate.query(TRANSACTIONS_AFTER_WATERMARK_SQL, handler,
+                    after.getTransactionDate(), after.getTransactionDate(), after.getTransactionId(), before);
+        }
+    }
+
+    @Override
+    public List<String> findOrphanTransactionAccountNumbers(int limit) {
+        return jdbcTemplate.queryForList(ORPHAN_ACCOUNT_NUMBERS_SQL, String.class, limit);
+    }
+}
@@ -0,0 +1,49 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+import com.bankaccount.back_bankaccount.domain.ports.out.OverdraftExposurePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Adapter implementing the OverdraftExposurePort with one aggregate JDBC query.
+ * Amounts are rounded to cents per account before being summed, as the
+ * incrementally maintained totals are.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class OverdraftExposureJdbcAdapter implements OverdraftExposurePort {
+
+    static final String OVERDRAFT_EXPOSURE_SQL = """
+            SELECT COALESCE(SUM(CASE WHEN balance < 0 THEN CAST(ROUND(-balance * 100) AS BIGINT) ELSE 0 END), 0),
+                COALESCE(SUM(CAST(ROUND(overdraft_limit * 100) AS BIGINT)), 0),
+                COUNT(CASE WHEN balance < 0 THEN 1 END)
+            FROM bank_account""";
+
+    static final String BEGIN_SNAPSHOT_SQL = "SELECT MIN(id) FROM bank_account";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void beginSnapshot() {
+        jdbcTemplate.queryForObject(BEGIN_SNAPSHOT_SQL, Long.class);
+    }
+
+    @Override
+    public OverdraftExposure sumOverdraftExposure() {
+        return jdbcTemplate.queryForObject(OVERDRAFT_EXPOSURE_SQL, OverdraftExposureJdbcAdapter::toExposure);
+    }
+
+    static OverdraftExposure toExposure(ResultSet rs, int rowNum) throws SQLException {
+        return OverdraftExposure.builder()
+                .negativeBalanceCents(rs.getLong(1))
+                .overdraftLimitCents(rs.getLong(2))
+                .overdrawnAccounts(rs.getLong(3))
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.datasource.ReadYourWritesTracker;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+import com.bankaccount.back_bankaccount.domain.ports.out.ResourceVersionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementing the ResourceVersionPort with aggregate JDBC queries.
+ * Account versions are the JPA optimistic lock versions; a statement version
+ * also covers the transactions in its period, whose count drops when one
+ * slides out of the window and whose highest id grows when one is recorded.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionJdbcAdapter implements ResourceVersionPort {
+
+    static final String ACCOUNTS_VERSION_SQL = """
+            SELECT COUNT(*), COALESCE(MAX(id), 0), COALESCE(SUM(id), 0), COALESCE(SUM(version), 0)
+            FROM bank_account""";
+
+    static final String ACCOUNTS_OF_TYPE_VERSION_SQL = ACCOUNTS_VERSION_SQL + " WHERE account_type = ?";
+
+    static final String STATEMENT_VERSION_SQL = """
+            SELECT a.version, COUNT(t.id), COALESCE(MAX(t.id), 0)
+            FROM bank_account a
+            LEFT JOIN transaction t ON t.account_number = a.account_number
+                AND t.transaction_date >= ? AND t.transaction_date < ?
+            WHERE a.account_number = ?
+            GROUP BY a.version""";
+
+    private static final char SEPARATOR = '-';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountNumberIndex accountNumberIndex;
+    private final ReadYourWritesTracker readYourWrites;
+
+    @Override
+    public String findAccountsVersion(AccountType accountType) {
+        if (accountType == null) {
+            return jdbcTemplate.queryForObject(ACCOUNTS_VERSION_SQL, ResourceVersionJdbcAdapter::toVersion);
+        }
+        return jdbcTemplate.queryForObject(ACCOUNTS_OF_TYPE_VERSION_SQL, ResourceVersionJdbcAdapter::toVersion,
+                accountType.name());
+    }
+
+    @Override
+    public Optional<String> findStatementVersion(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to) {
+        if (!accountNumberIndex.mightExist(accountNumber)) {
+            return Optional.empty();
+        }
+        readYourWrites.beforeRead(accountNumber);
+        List<String> versions = jdbcTemplate.query(STATEMENT_VERSION_SQL, ResourceVersionJdbcAdapter::toVersion,
+                from, to, accountNumber.value());
+        return versions.stream().findFirst();
+    }
+
+    static String toVersion(ResultSet rs, int rowNum) throws SQLException {
+        StringBuilder version = new StringBuilder();
+        int columns = rs.getMetaData().getColumnCount();
+        for (int column = 1; column <= columns; column++) {
+            if (column > 1) {
+                version.append(SEPARATOR);
+            }
+            version.append(Long.toHexString(rs.getLong(column)));
+        }
+        return version.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import com.bankaccount.back_bankaccount.domain.ports.out.SavingsInterestPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Adapter implementing the SavingsInterestPort with plain JDBC.
+ * Balances and interest transactions of a chunk are written in one batch each,
+ * without loading entities into a persistence context.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class SavingsInterestJdbcAdapter implements SavingsInterestPort {
+
+    // No row at all, rather than a row of nulls, when no account holds savings
+    private static final String SAVINGS_ID_RANGE_SQL = """
+            SELECT MIN(id) AS from_id, MAX(id) AS to_id
+            FROM bank_account
+            WHERE savings_balance > 0
+            HAVING COUNT(*) > 0""";
+
+    private static final String CREDITED_CHUNKS_SQL =
+            "SELECT chunk_start, chunk_size FROM interest_accrual_chunk WHERE accrual_date = ?";
+
+    // Row locks keep concurrent deposits from overwriting the credited balance, or being overwritten by it
+    private static final String LOCK_SAVINGS_ACCOUNTS_SQL = """
+            SELECT id, account_number, savings_balance
+            FROM bank_account
+            WHERE id BETWEEN ? AND ? AND savings_balance > 0
+            ORDER BY id
+            FOR UPDATE""";
+
+    private static final String CREDIT_SAVINGS_SQL =
+            "UPDATE bank_account SET savings_balance = ?, version = version + 1 WHERE account_number = ?";
+
+    private static final String INSERT_INTEREST_SQL = """
+            INSERT INTO transaction (id, account_number, transaction_date, type, amount, balance_after)
+            VALUES (NEXT VALUE FOR transaction_id_seq, ?, ?, ?, ?, ?)""";
+
+    // The transaction ids come from the sequence inside the batch: the rows of the chunk are found again
+    // by their accounts, type and posting time, which no other chunk shares
+    private static final String INSERT_INTEREST_OUTBOX_SQL = """
+            INSERT INTO transaction_outbox (id, transaction_id, created_at)
+            SELECT NEXT VALUE FOR transaction_outbox_id_seq, t.id, ?
+            FROM transaction t
+            JOIN bank_account a ON a.account_number = t.account_number
+            WHERE a.id BETWEEN ? AND ? AND t.type = ? AND t.transaction_date = ?""";
+
+    private static final String INSERT_CHUNK_SQL = """
+            INSERT INTO interest_accrual_chunk (accrual_date, chunk_start, chunk_size, accounts_credited, interest)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    private static final RowMapper<BankAccount> SAVINGS_ROW_MAPPER = (rs, rowNum) -> BankAccount.builder()
+            .id(rs.getLong("id"))
+            .accountNumber(AccountNumber.of(rs.getString("account_number")))
+            .savingsBalance(rs.getDouble("savings_balance"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxProperties outboxProperties;
+
+    @Override
+    public Optional<AccountIdRange> findSavingsAccountIdRange() {
+        return jdbcTemplate.query(SAVINGS_ID_RANGE_SQL,
+                (rs, rowNum) -> new AccountIdRange(rs.getLong("from_id"), rs.getLong("to_id")))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Set<Long> findCreditedChunks(LocalDate accrualDate, int chunkSize) {
+        Set<Long> credited = new HashSet<>();
+        jdbcTemplate.query(CREDITED_CHUNKS_SQL, rs -> {
+            // Chunk starts only line up with the id space when it is cut with the same chunk size
+            if (rs.getInt("chunk_size") != chunkSize) {
+                throw new IllegalStateException(BankAccountConstants.INTEREST_CHUNK_SIZE_CHANGED_ERROR);
+            }
+            credited.add(rs.getLong("chunk_start"));
+        }, accrualDate);
+        return credited;
+    }
+
+    @Override
+    public List<BankAccount> lockSavingsAccounts(AccountIdRange chunk) {
+        return jdbcTemplate.query(LOCK_SAVINGS_ACCOUNTS_SQL, SAVINGS_ROW_MAPPER, chunk.getFromId(), chunk.getToId());
+    }
+
+    @Override
+    public void creditInterest(LocalDate accrualDate, AccountIdRange chunk, int chunkSize,
+            List<Transaction> interest) {
+        if (!interest.isEmpty()) {
+            jdbcTemplate.batchUpdate(CREDIT_SAVINGS_SQL, interest, interest.size(), (ps, transaction) -> {
+                ps.setDouble(1, transaction.getBalanceAfter());
+                ps.setString(2, transaction.getAccountNumber().value());
+            });
+            jdbcTemplate.batchUpdate(INSERT_INTEREST_SQL, interest, interest.size(), (ps, transaction) -> {
+                ps.setString(1, transaction.getAccountNumber().value());
+                ps.setTimestamp(2, Timestamp.valueOf(transaction.getTransactionDate()));
+                ps.setString(3, transaction.getType().name());
+                ps.setDouble(4, transaction.getAmount());
+                ps.setDouble(5, transaction.getBalanceAfter());
+            });
+            if (outboxProperties.isEnabled()) {
+                jdbcTemplate.update(INSERT_INTEREST_OUTBOX_SQL, LocalDateTime.now(), chunk.getFromId(),
+                        chunk.getToId(), TransactionType.SAVINGS_INTEREST.name(),
+                        Timestamp.valueOf(interest.get(0).getTransactionDate()));
+            }
+        }
+        double total = interest.stream().mapToDouble(Transaction::getAmount).sum();
+        jdbcTemplate.update(INSERT_CHUNK_SQL, accrualDate, chunk.getFromId(), chunkSize, interest.size(), total);
+    }
+}
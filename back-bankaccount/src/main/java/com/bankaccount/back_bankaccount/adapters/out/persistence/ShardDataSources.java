@@ -0,0 +1,217 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.metrics.SqlStatementCounter;
+import com.bankaccount.back_bankaccount.config.metrics.StatementCountingDataSource;
+import com.bankaccount.back_bankaccount.config.properties.ShardingProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Connection pools of the account shards, and routing of account numbers to them.
+ * An account lives on the shard given by its 64-bit hash modulo the number of shards,
+ * together with all its transactions, so single-account operations touch one shard.
+ * <p>
+ * Inside a Spring transaction the first access to a shard opens a local transaction
+ * on it, committed just before the surrounding transaction commits and rolled back
+ * with it otherwise, at the isolation level of the surrounding transaction.
+ * This is not a distributed transaction: the shards commit one after the other, in the
+ * order they were first used, then the main datasource. A failure in between (a later
+ * shard, or the main datasource, e.g. the checkpoint of an import chunk) rolls back what
+ * has not committed yet and leaves the shards already committed as they are.
+ * Single-account use cases touch one shard and nothing else, so they are not exposed.
+ * Fan-out reads run on other threads, outside that transaction.
+ * <p>
+ * When it initializes the schema, shard i of n restarts its id sequences on the ids
+ * congruent to i + 1 modulo n, so ids stay unique across shards.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardDataSources implements DisposableBean {
+
+    // Ids handed out on each shard, per sequence
+    private static final Map<String, String> ID_SEQUENCES = Map.of(
+            "bank_account_id_seq", "bank_account",
+            "transaction_id_seq", "transaction");
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM %s";
+    private static final String INTERLEAVE_IDS_SQL = "ALTER SEQUENCE %s RESTART WITH %d INCREMENT BY %d";
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<DataSource> dataSources = new ArrayList<>();
+    private final List<JdbcTemplate> jdbcTemplates = new ArrayList<>();
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardDataSources(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException(BankAccountConstants.NO_SHARDS_CONFIGURED_ERROR);
+        }
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(BankAccountConstants.SHARD_POOL_NAME_PREFIX + pools.size());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(properties.getMaxPoolSize());
+            if (properties.isInitializeSchema()) {
+                new ResourceDatabasePopulator(new ClassPathResource(BankAccountConstants.SCHEMA_SCRIPT))
+                        .execute(dataSource);
+                interleaveIds(new JdbcTemplate(dataSource), pools.size(), properties.getShards().size());
+            }
+            pools.add(dataSource);
+            // Statements go through the counting wrapper, which is also the transaction resource key
+            DataSource counted = new StatementCountingDataSource(dataSource);
+            dataSources.add(counted);
+            jdbcTemplates.add(new JdbcTemplate(counted));
+        }
+        log.info("Bank accounts sharded over {} databases", dataSources.size());
+    }
+
+    /**
+     * Number of shards
+     */
+    public int size() {
+        return dataSources.size();
+    }
+
+    /**
+     * Index of the shard holding an account
+     */
+    public int shardOf(AccountNumber accountNumber) {
+        return (int) Math.floorMod(accountNumber.longHash(), (long) dataSources.size());
+    }
+
+    /**
+     * JdbcTemplate of the shard holding an account, joined to the current transaction
+     */
+    public JdbcTemplate forAccount(AccountNumber accountNumber) {
+        return shard(shardOf(accountNumber));
+    }
+
+    /**
+     * JdbcTemplate of a shard, joined to the current transaction
+     */
+    public JdbcTemplate shard(int index) {
+        joinTransaction(dataSources.get(index));
+        return jdbcTemplates.get(index);
+    }
+
+    /**
+     * Run a query on every shard in parallel and concatenate the results in shard order
+     */
+    public <T> List<T> fanOut(Function<JdbcTemplate, List<T>> query) {
+        List<Future<List<T>>> futures = new ArrayList<>(jdbcTemplates.size());
+        for (JdbcTemplate jdbcTemplate : jdbcTemplates) {
+            futures.add(fanOutExecutor.submit(SqlStatementCounter.propagating(() -> query.apply(jdbcTemplate))));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private static void interleaveIds(JdbcTemplate shard, int index, int count) {
+        for (Map.Entry<String, String> sequence : ID_SEQUENCES.entrySet()) {
+            long maxId = shard.queryForObject(MAX_ID_SQL.formatted(sequence.getValue()), Long.class);
+            // Next id of this shard past the ids already used, whatever the sequence handed out before
+            long first = index + 1;
+            long next = maxId < first ? first : first + ((maxId - first) / count + 1) * count;
+            shard.execute(INTERLEAVE_IDS_SQL.formatted(sequence.getKey(), next, count));
+        }
+    }
+
+    private void joinTransaction(DataSource dataSource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(dataSource)) {
+            return;
+        }
+        try {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            // The pool restores its default isolation when the connection is returned
+            Integer isolation = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+            if (isolation != null) {
+                connection.setTransactionIsolation(isolation);
+            }
+            // JdbcTemplate finds the bound holder and reuses its connection until the transaction completes
+            ConnectionHolder holder = new ConnectionHolder(connection);
+            holder.setSynchronizedWithTransaction(true);
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+            TransactionSynchronizationManager.registerSynchronization(new ShardTransaction(dataSource, connection));
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to open a shard transaction", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdown();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    /**
+     * Local transaction of one shard, completed with the surrounding Spring transaction
+     */
+    private record ShardTransaction(DataSource dataSource, Connection connection)
+            implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // A failing commit rolls back the surrounding transaction and the shards not committed yet,
+            // not the shards that committed before this one
+            try {
+                connection.commit();
+            } catch (SQLException e) {
+                throw new TransactionSystemException("Failed to commit a shard transaction", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+            try (connection) {
+                if (status != STATUS_COMMITTED) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("Failed to complete a shard transaction: {}", e.getMessage());
+            }
+        }
+    }
+}
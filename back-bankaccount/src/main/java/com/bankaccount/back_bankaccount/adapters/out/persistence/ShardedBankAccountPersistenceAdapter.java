@@ -0,0 +1,177 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Adapter implementing the BankAccountRepositoryPort over the account shards.
+ * Single-account operations go to the shard of the account number; listings
+ * query every shard in parallel and merge the rows by account number.
+ * Replaces the JPA adapter when sharding is enabled.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardedBankAccountPersistenceAdapter implements BankAccountRepositoryPort {
+
+    private static final String SELECT_ACCOUNTS_SQL = """
+            SELECT id, account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit,
+                account_type, version
+            FROM bank_account""";
+
+    private static final String SELECT_ACCOUNTS_OF_TYPE_SQL = SELECT_ACCOUNTS_SQL + " WHERE account_type = ?";
+
+    private static final String SELECT_ACCOUNT_SQL = SELECT_ACCOUNTS_SQL + " WHERE account_number = ?";
+
+    private static final String INSERT_ACCOUNT_SQL = """
+            INSERT INTO bank_account (id, account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit,
+                account_type, version)
+            VALUES (NEXT VALUE FOR bank_account_id_seq, ?, ?, ?, ?, ?, ?, 0)""";
+
+    // Same optimistic locking as the JPA @Version column
+    private static final String UPDATE_ACCOUNT_SQL = """
+            UPDATE bank_account
+            SET balance = ?, overdraft_limit = ?, savings_balance = ?, savings_deposit_limit = ?, account_type = ?,
+                version = version + 1
+            WHERE id = ? AND version = ?""";
+
+    private static final String EXISTING_ACCOUNT_NUMBERS_SQL =
+            "SELECT account_number FROM bank_account WHERE account_number IN (%s)";
+
+    private static final RowMapper<BankAccount> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> BankAccount.builder()
+            .id(rs.getLong("id"))
+            .accountNumber(AccountNumber.of(rs.getString("account_number")))
+            .balance(rs.getDouble("balance"))
+            .overdraftLimit(rs.getDouble("overdraft_limit"))
+            .savingsBalance(rs.getDouble("savings_balance"))
+            .savingsDepositLimit(rs.getDouble("savings_deposit_limit"))
+            .accountType(AccountType.valueOf(rs.getString("account_type")))
+            .version(rs.getLong("version"))
+            .build();
+
+    private static final Comparator<BankAccount> BY_ACCOUNT_NUMBER =
+            Comparator.comparing(BankAccount::getAccountNumber);
+
+    private final ShardDataSources shards;
+
+    @Override
+    public List<BankAccount> findAll() {
+        List<BankAccount> accounts = shards.fanOut(jdbcTemplate -> jdbcTemplate.query(SELECT_ACCOUNTS_SQL,
+                ACCOUNT_ROW_MAPPER));
+        accounts.sort(BY_ACCOUNT_NUMBER);
+        return accounts;
+    }
+
+    @Override
+    public List<BankAccount> findByAccountType(AccountType accountType) {
+        List<BankAccount> accounts = shards.fanOut(jdbcTemplate -> jdbcTemplate.query(SELECT_ACCOUNTS_OF_TYPE_SQL,
+                ACCOUNT_ROW_MAPPER, accountType.name()));
+        accounts.sort(BY_ACCOUNT_NUMBER);
+        return accounts;
+    }
+
+    @Override
+    public Optional<BankAccount> findByAccountNumber(AccountNumber accountNumber) {
+        return shards.forAccount(accountNumber)
+                .query(SELECT_ACCOUNT_SQL, ACCOUNT_ROW_MAPPER, accountNumber.value())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public BankAccount save(BankAccount account) {
+        if (account.getId() == null) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            shards.forAccount(account.getAccountNumber()).update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_ACCOUNT_SQL, new String[] {"id"});
+                statement.setString(1, account.getAccountNumber().value());
+                statement.setDouble(2, account.getBalance());
+                statement.setDouble(3, account.getOverdraftLimit());
+                statement.setDouble(4, account.getSavingsBalance());
+                statement.setDouble(5, account.getSavingsDepositLimit());
+                statement.setString(6, account.getAccountType().name());
+                return statement;
+            }, keyHolder);
+            account.setId(keyHolder.getKey().longValue());
+            account.setVersion(0L);
+            return account;
+        }
+
+        int updated = shards.forAccount(account.getAccountNumber()).update(UPDATE_ACCOUNT_SQL,
+                account.getBalance(), account.getOverdraftLimit(), account.getSavingsBalance(),
+                account.getSavingsDepositLimit(), account.getAccountType().name(),
+                account.getId(), account.getVersion());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException(BankAccountConstants.CONCURRENT_UPDATE_MESSAGE);
+        }
+        account.setVersion(account.getVersion() + 1);
+        return account;
+    }
+
+    @Override
+    public void saveAll(List<BankAccount> accounts) {
+        Map<Integer, List<BankAccount>> byShard = groupByShard(accounts, BankAccount::getAccountNumber);
+        for (Map.Entry<Integer, List<BankAccount>> shard : byShard.entrySet()) {
+            List<BankAccount> batch = shard.getValue();
+            shards.shard(shard.getKey()).batchUpdate(INSERT_ACCOUNT_SQL, batch, batch.size(), (ps, account) -> {
+                ps.setString(1, account.getAccountNumber().value());
+                ps.setDouble(2, account.getBalance());
+                ps.setDouble(3, account.getOverdraftLimit());
+                ps.setDouble(4, account.getSavingsBalance());
+                ps.setDouble(5, account.getSavingsDepositLimit());
+                ps.setString(6, account.getAccountType().name());
+            });
+        }
+    }
+
+    @Override
+    public Set<AccountNumber> findExistingAccountNumbers(Collection<AccountNumber> accountNumbers) {
+        Set<AccountNumber> existing = new HashSet<>();
+        Map<Integer, List<AccountNumber>> byShard = groupByShard(accountNumbers, Function.identity());
+        for (Map.Entry<Integer, List<AccountNumber>> shard : byShard.entrySet()) {
+            List<AccountNumber> candidates = shard.getValue();
+            String placeholders = String.join(",", Collections.nCopies(candidates.size(), "?"));
+            String sql = EXISTING_ACCOUNT_NUMBERS_SQL.formatted(placeholders);
+            for (String accountNumber : shards.shard(shard.getKey()).queryForList(sql, String.class,
+                    candidates.stream().map(AccountNumber::value).toArray())) {
+                existing.add(AccountNumber.of(accountNumber));
+            }
+        }
+        return existing;
+    }
+
+    private <T> Map<Integer, List<T>> groupByShard(Collection<T> items,
+            Function<T, AccountNumber> accountNumber) {
+        Map<Integer, List<T>> byShard = new HashMap<>();
+        for (T item : items) {
+            byShard.computeIfAbsent(shards.shardOf(accountNumber.apply(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return byShard;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+import com.bankaccount.back_bankaccount.domain.ports.out.OverdraftExposurePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter implementing the OverdraftExposurePort over the account shards.
+ * Every shard sums its own accounts within the snapshot of the current transaction,
+ * one after the other since fan-out reads would run outside it; the partial sums are added up.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardedOverdraftExposureAdapter implements OverdraftExposurePort {
+
+    private final ShardDataSources shards;
+
+    @Override
+    public void beginSnapshot() {
+        for (int shard = 0; shard < shards.size(); shard++) {
+            shards.shard(shard).queryForObject(OverdraftExposureJdbcAdapter.BEGIN_SNAPSHOT_SQL, Long.class);
+        }
+    }
+
+    @Override
+    public OverdraftExposure sumOverdraftExposure() {
+        List<OverdraftExposure> partials = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            partials.add(shards.shard(shard).queryForObject(
+                    OverdraftExposureJdbcAdapter.OVERDRAFT_EXPOSURE_SQL, OverdraftExposureJdbcAdapter::toExposure));
+        }
+        return OverdraftExposure.builder()
+                .negativeBalanceCents(partials.stream().mapToLong(OverdraftExposure::getNegativeBalanceCents).sum())
+                .overdraftLimitCents(partials.stream().mapToLong(OverdraftExposure::getOverdraftLimitCents).sum())
+                .overdrawnAccounts(partials.stream().mapToLong(OverdraftExposure::getOverdrawnAccounts).sum())
+                .build();
+    }
+}
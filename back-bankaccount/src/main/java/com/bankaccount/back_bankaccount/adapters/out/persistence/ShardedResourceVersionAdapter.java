@@ -0,0 +1,49 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+import com.bankaccount.back_bankaccount.domain.ports.out.ResourceVersionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementing the ResourceVersionPort over the account shards.
+ * The account list version concatenates the version of every shard; a statement
+ * version is read from the shard of its account.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardedResourceVersionAdapter implements ResourceVersionPort {
+
+    private static final String SHARD_SEPARATOR = ".";
+
+    private final ShardDataSources shards;
+
+    @Override
+    public String findAccountsVersion(AccountType accountType) {
+        List<String> versions = shards.fanOut(jdbcTemplate -> accountType == null
+                ? jdbcTemplate.query(ResourceVersionJdbcAdapter.ACCOUNTS_VERSION_SQL,
+                        ResourceVersionJdbcAdapter::toVersion)
+                : jdbcTemplate.query(ResourceVersionJdbcAdapter.ACCOUNTS_OF_TYPE_VERSION_SQL,
+                        ResourceVersionJdbcAdapter::toVersion, accountType.name()));
+        return String.join(SHARD_SEPARATOR, versions);
+    }
+
+    @Override
+    public Optional<String> findStatementVersion(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to) {
+        return shards.forAccount(accountNumber)
+                .query(ResourceVersionJdbcAdapter.STATEMENT_VERSION_SQL, ResourceVersionJdbcAdapter::toVersion,
+                        from, to, accountNumber.value())
+                .stream()
+                .findFirst();
+    }
+}
@@ -0,0 +1,117 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionPage;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionRepositoryPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Adapter implementing the TransactionRepositoryPort over the account shards.
+ * Transactions are stored on the shard of their account, so a movement and the
+ * balance update it belongs to commit on the same database.
+ * Replaces the JPA adapter when sharding is enabled.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardedTransactionPersistenceAdapter implements TransactionRepositoryPort {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO transaction (id, account_number, transaction_date, type, amount, balance_after)
+            VALUES (NEXT VALUE FOR transaction_id_seq, ?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_TRANSACTIONS_SQL = """
+            SELECT id, account_number, transaction_date, type, amount, balance_after
+            FROM transaction
+            WHERE account_number = ? AND transaction_date >= ? AND transaction_date < ?
+            ORDER BY transaction_date DESC, id DESC""";
+
+    private static final String SELECT_TRANSACTION_PAGE_SQL = SELECT_TRANSACTIONS_SQL + " LIMIT ? OFFSET ?";
+
+    private final ShardDataSources shards;
+
+    public ShardedTransactionPersistenceAdapter(ShardDataSources shards, OutboxProperties outboxProperties) {
+        if (outboxProperties.isEnabled()) {
+            throw new IllegalStateException(BankAccountConstants.SHARDED_OUTBOX_UNSUPPORTED_ERROR);
+        }
+        this.shards = shards;
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        shards.forAccount(transaction.getAccountNumber()).update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_TRANSACTION_SQL, new String[] {"id"});
+            statement.setString(1, transaction.getAccountNumber().value());
+            statement.setTimestamp(2, Timestamp.valueOf(transaction.getTransactionDate()));
+            statement.setString(3, transaction.getType().name());
+            statement.setDouble(4, transaction.getAmount());
+            statement.setDouble(5, transaction.getBalanceAfter());
+            return statement;
+        }, keyHolder);
+        transaction.setId(keyHolder.getKey().longValue());
+        return transaction;
+    }
+
+    @Override
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        Map<Integer, List<Transaction>> byShard = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            byShard.computeIfAbsent(shards.shardOf(transaction.getAccountNumber()), shard -> new ArrayList<>())
+                    .add(transaction);
+        }
+        for (Map.Entry<Integer, List<Transaction>> shard : byShard.entrySet()) {
+            TransactionBatchInsert.insert(shards.shard(shard.getKey()), shard.getValue());
+        }
+        return transactions;
+    }
+
+    @Override
+    public TransactionPage findByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from,
+            LocalDateTime to, int page, int size) {
+        // One extra row tells whether a next page exists
+        List<Transaction> transactions = new ArrayList<>(size + 1);
+        shards.forAccount(accountNumber).query(SELECT_TRANSACTION_PAGE_SQL,
+                new TransactionRowHandler(transactions::add),
+                accountNumber.value(), from, to, size + 1, (long) page * size);
+
+        boolean hasMore = transactions.size() > size;
+        return TransactionPage.builder()
+                .transactions(hasMore ? transactions.subList(0, size) : transactions)
+                .page(page)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public void streamByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from,
+            LocalDateTime to, Consumer<Transaction> consumer) {
+        shards.forAccount(accountNumber).query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_TRANSACTIONS_SQL);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setString(1, accountNumber.value());
+            statement.setObject(2, from);
+            statement.setObject(3, to);
+            return statement;
+        }, new TransactionRowHandler(consumer));
+    }
+}
@@ -0,0 +1,55 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts transaction rows in one JDBC batch and sets the ids generated by the sequence on them
+ */
+final class TransactionBatchInsert {
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            INSERT INTO transaction (id, account_number, transaction_date, type, amount, balance_after)
+            VALUES (NEXT VALUE FOR transaction_id_seq, ?, ?, ?, ?, ?)""";
+
+    private TransactionBatchInsert() {
+    }
+
+    static List<Transaction> insert(JdbcTemplate jdbcTemplate, List<Transaction> transactions) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_TRANSACTION_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Transaction transaction = transactions.get(i);
+                        ps.setString(1, transaction.getAccountNumber().value());
+                        ps.setTimestamp(2, Timestamp.valueOf(transaction.getTransactionDate()));
+                        ps.setString(3, transaction.getType().name());
+                        ps.setDouble(4, transaction.getAmount());
+                        ps.setDouble(5, transaction.getBalanceAfter());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return transactions.size();
+                    }
+                },
+                keyHolder);
+        // Keys come back in statement order
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < transactions.size(); i++) {
+            transactions.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,69 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionOutboxJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionOutboxJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.OutboxEntry;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionOutboxPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter implementing the TransactionOutboxPort.
+ * Pending entries are read joined with their transactions in one JDBC query;
+ * removal and counting go through the JPA repository.
+ * Part of the secondary adapters (infrastructure).
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionOutboxPersistenceAdapter implements TransactionOutboxPort {
+
+    private static final String OLDEST_ENTRIES_SQL = """
+            SELECT o.id AS outbox_id, o.created_at,
+                   t.id, t.account_number, t.transaction_date, t.type, t.amount, t.balance_after
+            FROM transaction_outbox o
+            JOIN transaction t ON t.id = o.transaction_id
+            ORDER BY o.id
+            LIMIT ?""";
+
+    private final TransactionOutboxJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<OutboxEntry> findOldest(int limit) {
+        return jdbcTemplate.query(OLDEST_ENTRIES_SQL, (rs, rowNum) -> OutboxEntry.builder()
+                .id(rs.getLong("outbox_id"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .transaction(Transaction.builder()
+                        .id(rs.getLong("id"))
+                        .accountNumber(AccountNumber.of(rs.getString("account_number")))
+                        .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                        .type(TransactionType.valueOf(rs.getString("type")))
+                        .amount(rs.getDouble("amount"))
+                        .balanceAfter(rs.getDouble("balance_after"))
+                        .build())
+                .build(), limit);
+    }
+
+    @Override
+    public void delete(List<Long> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+    }
+
+    @Override
+    public long countPending() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        return jpaRepository.findFirstByOrderByIdAsc().map(TransactionOutboxJpaEntity::getCreatedAt);
+    }
+}
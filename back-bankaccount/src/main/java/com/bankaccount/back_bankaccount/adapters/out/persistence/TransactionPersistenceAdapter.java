@@ -1,15 +1,28 @@
 package com.bankaccount.back_bankaccount.adapters.out.persistence;
 
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionOutboxJpaEntity;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.mapper.TransactionJpaMapper;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionOutboxJpaRepository;
+import com.bankaccount.back_bankaccount.config.datasource.ReadYourWritesTracker;
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
 import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionPage;
 import com.bankaccount.back_bankaccount.domain.ports.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Adapter implementing the TransactionRepositoryPort.
@@ -20,21 +33,84 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TransactionPersistenceAdapter implements TransactionRepositoryPort {
     
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("transactionDate"), Sort.Order.desc("id"));
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    // Plain JDBC: a streamed statement must not fill a persistence context nor need an open transaction
+    private static final String STREAM_TRANSACTIONS_SQL = """
+            SELECT id, account_number, transaction_date, type, amount, balance_after
+            FROM transaction
+            WHERE account_number = ? AND transaction_date >= ? AND transaction_date < ?
+            ORDER BY transaction_date DESC, id DESC""";
+
+    private static final String INSERT_OUTBOX_SQL = """
+            INSERT INTO transaction_outbox (id, transaction_id, created_at)
+            VALUES (NEXT VALUE FOR transaction_outbox_id_seq, ?, ?)""";
+
     private final TransactionJpaRepository jpaRepository;
     private final TransactionJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOutboxJpaRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+    private final ReadYourWritesTracker readYourWrites;
 
     @Override
     public Transaction save(Transaction transaction) {
         TransactionJpaEntity entity = mapper.toEntity(transaction);
         TransactionJpaEntity saved = jpaRepository.save(entity);
+        if (outboxProperties.isEnabled()) {
+            // Same database transaction as the transaction row: both commit or neither does
+            outboxRepository.save(TransactionOutboxJpaEntity.builder()
+                    .transactionId(saved.getId())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
         return mapper.toDomain(saved);
     }
 
     @Override
-    public List<Transaction> findByAccountNumberAndDateAfter(String accountNumber, LocalDateTime date) {
-        return jpaRepository.findByAccountNumberAndTransactionDateAfterOrderByTransactionDateDesc(accountNumber, date)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        // Plain JDBC batch: the JPA sequence generator would fetch one id per row and defeat batching
+        List<Transaction> saved = TransactionBatchInsert.insert(jdbcTemplate, transactions);
+        if (outboxProperties.isEnabled()) {
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, saved, saved.size(), (ps, transaction) -> {
+                ps.setLong(1, transaction.getId());
+                ps.setTimestamp(2, createdAt);
+            });
+        }
+        return saved;
+    }
+
+    @Override
+    public TransactionPage findByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from,
+            LocalDateTime to, int page, int size) {
+        readYourWrites.beforeRead(accountNumber);
+        // Slice fetches size + 1 rows to detect a next page, without the count query a Page would need
+        Slice<TransactionJpaEntity> slice = jpaRepository
+                .findByAccountNumberAndTransactionDateGreaterThanEqualAndTransactionDateLessThan(
+                        accountNumber.value(), from, to, PageRequest.of(page, size, NEWEST_FIRST));
+
+        return TransactionPage.builder()
+                .transactions(slice.stream().map(mapper::toDomain).toList())
+                .page(page)
+                .hasMore(slice.hasNext())
+                .build();
+    }
+
+    @Override
+    public void streamByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from,
+            LocalDateTime to, Consumer<Transaction> consumer) {
+        readYourWrites.beforeRead(accountNumber);
+        // Rows are fetched in bounded batches as the consumer keeps up
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(STREAM_TRANSACTIONS_SQL);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            statement.setString(1, accountNumber.value());
+            statement.setObject(2, from);
+            statement.setObject(3, to);
+            return statement;
+        }, new TransactionRowHandler(consumer));
     }
 }
@@ -0,0 +1,39 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Maps streamed transaction rows, sharing one AccountNumber across consecutive rows of the same account
+ */
+final class TransactionRowHandler implements RowCallbackHandler {
+
+    private final Consumer<Transaction> consumer;
+    private AccountNumber accountNumber;
+
+    TransactionRowHandler(Consumer<Transaction> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        String value = rs.getString("account_number");
+        if (accountNumber == null || !accountNumber.value().equals(value)) {
+            accountNumber = AccountNumber.of(value);
+        }
+        consumer.accept(Transaction.builder()
+                .id(rs.getLong("id"))
+                .accountNumber(accountNumber)
+                .transactionDate(rs.getTimestamp("transaction_date").toLocalDateTime())
+                .type(TransactionType.valueOf(rs.getString("type")))
+                .amount(rs.getDouble("amount"))
+                .balanceAfter(rs.getDouble("balance_after"))
+                .build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * JPA Entity recording a committed chunk of a bulk account import.
+ * This is part of the infrastructure layer (secondary adapter).
+ */
+@Entity
+@Table(name = "account_import_chunk")
+@IdClass(AccountImportChunkJpaEntity.ChunkId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportChunkJpaEntity {
+
+    @Id
+    @Column(name = "import_id", nullable = false, length = 64)
+    private String importId;
+
+    @Id
+    @Column(name = "chunk_index", nullable = false)
+    private Long chunkIndex;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "imported", nullable = false)
+    private Integer imported;
+
+    @Column(name = "rejected", nullable = false)
+    private Integer rejected;
+
+    /**
+     * Composite primary key (import_id, chunk_index)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkId implements Serializable {
+        private String importId;
+        private Long chunkIndex;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.AccountNumberIndex;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener registering every persisted bank account in the account number index.
+ * Instantiated by Hibernate through the Spring bean container.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountNumberIndexListener {
+
+    private final AccountNumberIndex accountNumberIndex;
+
+    @PostPersist
+    public void accountPersisted(BankAccountJpaEntity account) {
+        accountNumberIndex.add(AccountNumber.of(account.getAccountNumber()));
+    }
+}
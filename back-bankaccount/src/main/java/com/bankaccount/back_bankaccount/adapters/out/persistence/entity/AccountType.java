@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+/**
+ * JPA enum for account types.
+ * This is part of the infrastructure layer.
+ */
+public enum AccountType {
+    CURRENT,
+    SAVINGS,
+    SAVINGS_AND_CURRENT
+}
@@ -2,21 +2,31 @@ package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * JPA Entity for bank account persistence.
  * This is part of the infrastructure layer (secondary adapter).
+ * Updates only list the columns that changed, typically balance and version.
  */
 @Data
 @Entity
-@Table(name = "bank_account", uniqueConstraints = @UniqueConstraint(columnNames = {"id"}))
+@DynamicUpdate
+@EntityListeners(AccountNumberIndexListener.class)
+@Table(name = "bank_account", uniqueConstraints = @UniqueConstraint(columnNames = {"id"}),
+        indexes = @Index(name = "idx_bank_account_type", columnList = "account_type"))
 public class BankAccountJpaEntity {
     
     @Id
@@ -39,4 +49,13 @@ public class BankAccountJpaEntity {
 
     @Column(name = "savings_deposit_limit", nullable = false)
     private Double savingsDepositLimit = 22950.0; // Livret A limit
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 32)
+    private AccountType accountType = AccountType.CURRENT;
+
+    // Bumped on every update: guards against lost updates and identifies the account state in ETags
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
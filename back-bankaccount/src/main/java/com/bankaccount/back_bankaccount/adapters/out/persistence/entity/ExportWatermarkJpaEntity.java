@@ -0,0 +1,35 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity recording the last exported transaction of an export.
+ * This is part of the infrastructure layer (secondary adapter).
+ */
+@Entity
+@Table(name = "export_watermark")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportWatermarkJpaEntity {
+
+    @Id
+    @Column(name = "export_name", nullable = false, length = 64)
+    private String exportName;
+
+    @Column(name = "last_transaction_date", nullable = false)
+    private LocalDateTime lastTransactionDate;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+}
@@ -0,0 +1,56 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * JPA Entity recording a chunk of accounts credited by a savings interest accrual run.
+ * This is part of the infrastructure layer (secondary adapter).
+ */
+@Entity
+@Table(name = "interest_accrual_chunk")
+@IdClass(InterestAccrualChunkJpaEntity.ChunkId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrualChunkJpaEntity {
+
+    @Id
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Id
+    @Column(name = "chunk_start", nullable = false)
+    private Long chunkStart;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "accounts_credited", nullable = false)
+    private Integer accountsCredited;
+
+    @Column(name = "interest", nullable = false)
+    private Double interest;
+
+    /**
+     * Composite primary key (accrual_date, chunk_start)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChunkId implements Serializable {
+        private LocalDate accrualDate;
+        private Long chunkStart;
+    }
+}
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
  * This is part of the infrastructure layer (secondary adapter).
  */
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_account_date", columnList = "account_number, transaction_date"),
+        @Index(name = "idx_transaction_date_id", columnList = "transaction_date, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
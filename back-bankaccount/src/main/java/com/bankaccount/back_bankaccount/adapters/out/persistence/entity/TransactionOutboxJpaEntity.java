@@ -0,0 +1,34 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for a transaction waiting to be delivered downstream.
+ * Only references the transaction so that the write path adds a narrow row.
+ * This is part of the infrastructure layer (secondary adapter).
+ */
+@Entity
+@Table(name = "transaction_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_outbox_id_seq")
+    @SequenceGenerator(name = "transaction_outbox_id_seq", sequenceName = "transaction_outbox_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -11,7 +11,10 @@ import lombok.Getter;
 public enum TransactionType {
     DEPOSIT_CURRENT(BankAccountConstants.DEPOSIT_CURRENT_LABEL),
     WITHDRAWAL("Retrait"),
-    DEPOSIT_SAVINGS(BankAccountConstants.DEPOSIT_SAVINGS_LABEL);
+    DEPOSIT_SAVINGS(BankAccountConstants.DEPOSIT_SAVINGS_LABEL),
+    SAVINGS_INTEREST(BankAccountConstants.SAVINGS_INTEREST_LABEL),
+    SAVINGS_TRANSFER_OUT(BankAccountConstants.SAVINGS_TRANSFER_OUT_LABEL),
+    CURRENT_TRANSFER_IN(BankAccountConstants.CURRENT_TRANSFER_IN_LABEL);
 
     private final String label;
 
@@ -1,9 +1,13 @@
 package com.bankaccount.back_bankaccount.adapters.out.persistence.mapper;
 
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+
 /**
  * Mapper between domain BankAccount and JPA entity.
  * Part of the infrastructure layer.
@@ -21,11 +25,13 @@ public class BankAccountJpaMapper {
         
         return BankAccount.builder()
                 .id(entity.getId())
-                .accountNumber(entity.getAccountNumber())
+                .accountNumber(AccountNumber.of(entity.getAccountNumber()))
                 .balance(entity.getBalance())
                 .overdraftLimit(entity.getOverdraftLimit())
                 .savingsBalance(entity.getSavingsBalance())
                 .savingsDepositLimit(entity.getSavingsDepositLimit())
+                .accountType(mapType(entity.getAccountType()))
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -39,12 +45,57 @@ public class BankAccountJpaMapper {
         
         BankAccountJpaEntity entity = new BankAccountJpaEntity();
         entity.setId(domain.getId());
-        entity.setAccountNumber(domain.getAccountNumber());
+        entity.setAccountNumber(domain.getAccountNumber().value());
         entity.setBalance(domain.getBalance());
         entity.setOverdraftLimit(domain.getOverdraftLimit());
         entity.setSavingsBalance(domain.getSavingsBalance());
         entity.setSavingsDepositLimit(domain.getSavingsDepositLimit());
+        entity.setAccountType(mapType(domain.getAccountType()));
+        entity.setVersion(domain.getVersion());
         
         return entity;
     }
+
+    /**
+     * Copy the mutable state of the domain model onto a managed JPA entity.
+     * Unchanged values are left untouched so that they stay out of the UPDATE.
+     */
+    public void updateEntity(BankAccount domain, BankAccountJpaEntity entity) {
+        if (!Objects.equals(entity.getBalance(), domain.getBalance())) {
+            entity.setBalance(domain.getBalance());
+        }
+        if (!Objects.equals(entity.getOverdraftLimit(), domain.getOverdraftLimit())) {
+            entity.setOverdraftLimit(domain.getOverdraftLimit());
+        }
+        if (!Objects.equals(entity.getSavingsBalance(), domain.getSavingsBalance())) {
+            entity.setSavingsBalance(domain.getSavingsBalance());
+        }
+        if (!Objects.equals(entity.getSavingsDepositLimit(), domain.getSavingsDepositLimit())) {
+            entity.setSavingsDepositLimit(domain.getSavingsDepositLimit());
+        }
+        AccountType accountType = domain.getAccountType();
+        if (mapType(entity.getAccountType()) != accountType) {
+            entity.setAccountType(mapType(accountType));
+        }
+    }
+
+    /**
+     * Map JPA AccountType to domain AccountType
+     */
+    public AccountType mapType(com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountType entityType) {
+        if (entityType == null) {
+            return null;
+        }
+        return AccountType.valueOf(entityType.name());
+    }
+
+    /**
+     * Map domain AccountType to JPA AccountType
+     */
+    public com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountType mapType(AccountType domainType) {
+        if (domainType == null) {
+            return null;
+        }
+        return com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountType.valueOf(domainType.name());
+    }
 }
@@ -1,6 +1,7 @@
 package com.bankaccount.back_bankaccount.adapters.out.persistence.mapper;
 
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
 import com.bankaccount.back_bankaccount.domain.model.Transaction;
 import com.bankaccount.back_bankaccount.domain.model.TransactionType;
 import org.springframework.stereotype.Component;
@@ -22,7 +23,7 @@ public class TransactionJpaMapper {
         
         return Transaction.builder()
                 .id(entity.getId())
-                .accountNumber(entity.getAccountNumber())
+                .accountNumber(AccountNumber.of(entity.getAccountNumber()))
                 .transactionDate(entity.getTransactionDate())
                 .type(mapType(entity.getType()))
                 .amount(entity.getAmount())
@@ -40,7 +41,7 @@ public class TransactionJpaMapper {
         
         return TransactionJpaEntity.builder()
                 .id(domain.getId())
-                .accountNumber(domain.getAccountNumber())
+                .accountNumber(domain.getAccountNumber().value())
                 .transactionDate(domain.getTransactionDate())
                 .type(mapType(domain.getType()))
                 .amount(domain.getAmount())
@@ -0,0 +1,15 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.repository;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountImportChunkJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository interface.
+ * This is part of the infrastructure layer.
+ */
+public interface AccountImportChunkJpaRepository
+        extends JpaRepository<AccountImportChunkJpaEntity, AccountImportChunkJpaEntity.ChunkId> {
+    List<AccountImportChunkJpaEntity> findByImportId(String importId);
+}
@@ -1,8 +1,13 @@
 package com.bankaccount.back_bankaccount.adapters.out.persistence.repository;
 
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountType;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,4 +16,9 @@ import java.util.Optional;
  */
 public interface BankAccountJpaRepository extends JpaRepository<BankAccountJpaEntity, Long> {
     Optional<BankAccountJpaEntity> findByAccountNumber(String accountNumber);
+
+    List<BankAccountJpaEntity> findByAccountType(AccountType accountType);
+
+    @Query("SELECT a.accountNumber FROM BankAccountJpaEntity a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findAccountNumbersIn(@Param("accountNumbers") Collection<String> accountNumbers);
 }
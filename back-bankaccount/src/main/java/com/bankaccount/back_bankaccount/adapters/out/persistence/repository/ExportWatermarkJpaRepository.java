@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.repository;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.ExportWatermarkJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Spring Data JPA repository interface.
+ * This is part of the infrastructure layer.
+ */
+public interface ExportWatermarkJpaRepository extends JpaRepository<ExportWatermarkJpaEntity, String> {
+}
@@ -0,0 +1,14 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence.repository;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionOutboxJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for the transaction outbox.
+ * This is part of the infrastructure layer.
+ */
+public interface TransactionOutboxJpaRepository extends JpaRepository<TransactionOutboxJpaEntity, Long> {
+    Optional<TransactionOutboxJpaEntity> findFirstByOrderByIdAsc();
+}
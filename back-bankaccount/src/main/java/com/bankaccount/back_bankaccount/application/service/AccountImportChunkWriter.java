@@ -0,0 +1,68 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReject;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.AccountImportCheckpointPort;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes one validated chunk of a bulk import.
+ * The accounts and the chunk checkpoint commit together, so a resumed import
+ * never inserts a chunk twice nor skips one that was rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountImportChunkWriter {
+
+    private final BankAccountRepositoryPort accountRepository;
+    private final AccountImportCheckpointPort checkpointPort;
+
+    /**
+     * Insert the new accounts of a chunk and return the records rejected as duplicates
+     */
+    @Transactional
+    public List<AccountImportReject> write(String importId, long chunkIndex, int chunkSize,
+            List<ValidRecord> records, int invalidRecords) {
+        Set<AccountNumber> existing = accountRepository.findExistingAccountNumbers(
+                records.stream().map(r -> r.account().getAccountNumber()).toList());
+
+        List<BankAccount> accounts = new ArrayList<>(records.size());
+        List<AccountImportReject> duplicates = new ArrayList<>();
+        Set<AccountNumber> seen = new HashSet<>(records.size() * 2);
+        for (ValidRecord record : records) {
+            AccountNumber accountNumber = record.account().getAccountNumber();
+            if (existing.contains(accountNumber) || !seen.add(accountNumber)) {
+                duplicates.add(AccountImportReject.builder()
+                        .lineNumber(record.lineNumber())
+                        .accountNumber(accountNumber.value())
+                        .reason(BankAccountConstants.IMPORT_ACCOUNT_EXISTS_MESSAGE)
+                        .build());
+            } else {
+                accounts.add(record.account());
+            }
+        }
+
+        if (!accounts.isEmpty()) {
+            accountRepository.saveAll(accounts);
+        }
+        checkpointPort.markChunkCommitted(importId, chunkIndex, chunkSize, accounts.size(),
+                invalidRecords + duplicates.size());
+        return duplicates;
+    }
+
+    /**
+     * A parsed and validated account with its position in the file
+     */
+    public record ValidRecord(long lineNumber, BankAccount account) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.application.service.AccountImportChunkWriter.ValidRecord;
+import com.bankaccount.back_bankaccount.config.properties.AccountImportProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReject;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReport;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.in.ImportAccountsUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.AccountImportCheckpointPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service implementing the bulk account import.
+ * A single reader streams the file into fixed-size chunks; workers parse,
+ * validate and batch insert chunks in parallel. The number of chunks held in
+ * memory is bounded, and each committed chunk is checkpointed so that a rerun
+ * with the same import id resumes where the previous one stopped. When a file
+ * repeats an account number, the row whose chunk commits first is imported and
+ * the others are rejected as duplicates, whatever their order in the file.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountImportService implements ImportAccountsUseCase {
+
+    private final AccountRecordParser parser;
+    private final AccountImportChunkWriter chunkWriter;
+    private final AccountImportCheckpointPort checkpointPort;
+    private final AccountImportProperties properties;
+
+    @Override
+    public AccountImportReport importAccounts(String importId, AccountImportFormat format, InputStream input) {
+        long start = System.nanoTime();
+        int chunkSize = properties.getChunkSize();
+        int parallelism = properties.getParallelism();
+
+        Set<Long> committedChunks = checkpointPort.findCommittedChunks(importId, chunkSize);
+        ImportProgress progress = new ImportProgress(properties.getMaxReportedRejects());
+        // The reader blocks once two chunks per worker are pending instead of buffering the file
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<RawRecord> chunk = new ArrayList<>(chunkSize);
+            long chunkIndex = 0;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && parser.isHeader(format, line))) {
+                    continue;
+                }
+                chunk.add(new RawRecord(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    dispatch(workers, inFlight, importId, format, chunkIndex++, chunk, committedChunks, progress);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                dispatch(workers, inFlight, importId, format, chunkIndex, chunk, committedChunks, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        AccountImportReport report = progress.toReport(importId, System.nanoTime() - start);
+        log.info("Import {}: {} records, {} imported, {} rejected, {} chunks resumed in {} ms ({} records/s)",
+                importId, report.getTotalRecords(), report.getImported(), report.getRejected(),
+                report.getResumedChunks(), report.getDurationMillis(), Math.round(report.getRecordsPerSecond()));
+        return report;
+    }
+
+    private void dispatch(ExecutorService workers, Semaphore inFlight, String importId, AccountImportFormat format,
+            long chunkIndex, List<RawRecord> chunk, Set<Long> committedChunks, ImportProgress progress)
+            throws InterruptedException {
+        progress.totalRecords.add(chunk.size());
+        if (committedChunks.contains(chunkIndex)) {
+            progress.resumedChunks.increment();
+            return;
+        }
+
+        inFlight.acquire();
+        workers.execute(() -> {
+            try {
+                processChunk(importId, format, chunkIndex, chunk, progress);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void processChunk(String importId, AccountImportFormat format, long chunkIndex,
+            List<RawRecord> chunk, ImportProgress progress) {
+        List<ValidRecord> valid = new ArrayList<>(chunk.size());
+        List<AccountImportReject> rejects = new ArrayList<>();
+        for (RawRecord record : chunk) {
+            BankAccount account = null;
+            try {
+                account = parser.parse(format, record.content());
+                account.validate();
+                valid.add(new ValidRecord(record.lineNumber(), account));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                rejects.add(reject(record.lineNumber(), account, e.getMessage()));
+            }
+        }
+
+        try {
+            List<AccountImportReject> duplicates = writeChunk(importId, chunkIndex, valid, rejects.size());
+            rejects.addAll(duplicates);
+            progress.imported.add(valid.size() - duplicates.size());
+            progress.committedChunks.increment();
+        } catch (RuntimeException e) {
+            // Not checkpointed: the next run with this import id retries the chunk
+            log.warn("Import {}: chunk {} failed: {}", importId, chunkIndex, e.getMessage());
+            for (ValidRecord record : valid) {
+                rejects.add(reject(record.lineNumber(), record.account(),
+                        BankAccountConstants.IMPORT_CHUNK_FAILED_MESSAGE + e.getMessage()));
+            }
+        }
+        progress.reject(rejects);
+    }
+
+    private List<AccountImportReject> writeChunk(String importId, long chunkIndex, List<ValidRecord> valid,
+            int invalidRecords) {
+        try {
+            return chunkWriter.write(importId, chunkIndex, properties.getChunkSize(), valid, invalidRecords);
+        } catch (DataIntegrityViolationException e) {
+            // Another chunk committed one of these account numbers meanwhile: its rows are now visible as duplicates
+            return chunkWriter.write(importId, chunkIndex, properties.getChunkSize(), valid, invalidRecords);
+        }
+    }
+
+    private static AccountImportReject reject(long lineNumber, BankAccount account, String reason) {
+        return AccountImportReject.builder()
+                .lineNumber(lineNumber)
+                .accountNumber(account != null && account.getAccountNumber() != null ? account.getAccountNumber().value() : null)
+                .reason(reason)
+                .build();
+    }
+
+    private record RawRecord(long lineNumber, String content) {
+    }
+
+    /**
+     * Counters shared by the workers of one import run
+     */
+    private static final class ImportProgress {
+
+        private final int maxReportedRejects;
+        private final LongAdder totalRecords = new LongAdder();
+        private final LongAdder imported = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder committedChunks = new LongAdder();
+        private final LongAdder resumedChunks = new LongAdder();
+        private final List<AccountImportReject> reportedRejects = new ArrayList<>();
+
+        private ImportProgress(int maxReportedRejects) {
+            this.maxReportedRejects = maxReportedRejects;
+        }
+
+        private void reject(List<AccountImportReject> rejects) {
+            rejected.add(rejects.size());
+            synchronized (reportedRejects) {
+                int room = maxReportedRejects - reportedRejects.size();
+                if (room > 0) {
+                    reportedRejects.addAll(rejects.subList(0, Math.min(room, rejects.size())));
+                }
+            }
+        }
+
+        private AccountImportReport toReport(String importId, long elapsedNanos) {
+            long processed = imported.sum() + rejected.sum();
+            List<AccountImportReject> rejects;
+            synchronized (reportedRejects) {
+                rejects = reportedRejects.stream()
+                        .sorted(Comparator.comparingLong(AccountImportReject::getLineNumber))
+                        .toList();
+            }
+            return AccountImportReport.builder()
+                    .importId(importId)
+                    .totalRecords(totalRecords.sum())
+                    .imported(imported.sum())
+                    .rejected(rejected.sum())
+                    .committedChunks(committedChunks.sum())
+                    .resumedChunks(resumedChunks.sum())
+                    .durationMillis(elapsedNanos / 1_000_000)
+                    .recordsPerSecond(elapsedNanos > 0 ? processed * 1_000_000_000.0 / elapsedNanos : 0)
+                    .rejects(rejects)
+                    .build();
+        }
+    }
+}
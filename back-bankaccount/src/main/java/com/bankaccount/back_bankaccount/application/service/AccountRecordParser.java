@@ -0,0 +1,104 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Parses one line of a bulk import file into a domain BankAccount.
+ * CSV columns: accountNumber,balance[,overdraftLimit[,savingsBalance[,savingsDepositLimit]]].
+ * NDJSON: one JSON object per line with the same property names.
+ * Amounts must be finite numbers.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountRecordParser {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Check if a first line is a CSV header rather than data
+     */
+    public boolean isHeader(AccountImportFormat format, String line) {
+        return format == AccountImportFormat.CSV && line.startsWith(BankAccountConstants.CSV_HEADER_PREFIX);
+    }
+
+    /**
+     * Parse a line, throwing IllegalArgumentException when it is malformed
+     */
+    public BankAccount parse(AccountImportFormat format, String line) {
+        return switch (format) {
+            case CSV -> parseCsv(line);
+            case NDJSON -> parseJson(line);
+        };
+    }
+
+    private BankAccount parseCsv(String line) {
+        String[] columns = line.split(BankAccountConstants.CSV_SEPARATOR, -1);
+        if (columns.length < 2 || columns.length > 5) {
+            throw new IllegalArgumentException(BankAccountConstants.IMPORT_MALFORMED_RECORD_MESSAGE + line);
+        }
+        return toAccount(
+                line,
+                columns[0].trim(),
+                parseAmount(line, columns, 1),
+                parseAmount(line, columns, 2),
+                parseAmount(line, columns, 3),
+                parseAmount(line, columns, 4));
+    }
+
+    private BankAccount parseJson(String line) {
+        try {
+            ImportedAccount record = jsonMapper.readValue(line, ImportedAccount.class);
+            // A line holding the JSON literal null is read as no record at all
+            if (record == null) {
+                throw new IllegalArgumentException(BankAccountConstants.IMPORT_MALFORMED_RECORD_MESSAGE + line);
+            }
+            return toAccount(line, record.accountNumber(), record.balance(), record.overdraftLimit(),
+                    record.savingsBalance(), record.savingsDepositLimit());
+        } catch (JacksonException e) {
+            throw new IllegalArgumentException(BankAccountConstants.IMPORT_MALFORMED_RECORD_MESSAGE + line, e);
+        }
+    }
+
+    private Double parseAmount(String line, String[] columns, int index) {
+        if (index >= columns.length || columns[index].isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(columns[index].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(BankAccountConstants.IMPORT_MALFORMED_RECORD_MESSAGE + line, e);
+        }
+    }
+
+    private BankAccount toAccount(String line, String accountNumber, Double balance, Double overdraftLimit,
+            Double savingsBalance, Double savingsDepositLimit) {
+        // NaN and infinities (1e400 overflows to one) get through the domain checks
+        for (Double amount : new Double[] {balance, overdraftLimit, savingsBalance, savingsDepositLimit}) {
+            if (amount != null && !Double.isFinite(amount)) {
+                throw new IllegalArgumentException(BankAccountConstants.IMPORT_MALFORMED_RECORD_MESSAGE + line);
+            }
+        }
+        return BankAccount.builder()
+                .accountNumber(accountNumber != null && !accountNumber.isBlank() ? AccountNumber.of(accountNumber) : null)
+                .balance(balance)
+                .overdraftLimit(overdraftLimit != null ? overdraftLimit : 0.0)
+                .savingsBalance(savingsBalance != null ? savingsBalance : 0.0)
+                .savingsDepositLimit(savingsDepositLimit != null
+                        ? savingsDepositLimit
+                        : BankAccountConstants.DEFAULT_SAVINGS_DEPOSIT_LIMIT)
+                .build();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record ImportedAccount(String accountNumber, Double balance, Double overdraftLimit,
+            Double savingsBalance, Double savingsDepositLimit) {
+    }
+}
@@ -1,13 +1,23 @@
 package com.bankaccount.back_bankaccount.application.service;
 
+import com.bankaccount.back_bankaccount.config.metrics.UseCaseMetrics;
+import com.bankaccount.back_bankaccount.config.metrics.UseCasePhase;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import com.bankaccount.back_bankaccount.domain.model.Statement;
 import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionPage;
+import com.bankaccount.back_bankaccount.domain.model.TransactionStream;
 import com.bankaccount.back_bankaccount.domain.ports.in.*;
+import com.bankaccount.back_bankaccount.domain.ports.out.BalanceChangePublisherPort;
 import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
 import com.bankaccount.back_bankaccount.domain.ports.out.TransactionRepositoryPort;
 import com.bankaccount.back_bankaccount.exception.AccountNotFoundException;
 import com.bankaccount.back_bankaccount.exception.InsufficientBalanceException;
+import com.bankaccount.back_bankaccount.exception.InvalidStatementPeriodException;
 import com.bankaccount.back_bankaccount.exception.SavingsAccountOverdraftException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +30,7 @@ import java.util.List;
  * Application service implementing all use cases.
  * This is the core business logic layer (application layer).
  * It orchestrates domain objects and uses ports for external dependencies.
+ * Every use case is timed as a whole and per phase (lookup, domain, save, journal).
  */
 @Service
 @Transactional
@@ -30,120 +41,236 @@ public class BankAccountService implements
         WithdrawMoneyUseCase,
         SetOverdraftLimitUseCase,
         DepositToSavingsUseCase,
+        TransferFromSavingsUseCase,
         GetStatementUseCase {
 
     private final BankAccountRepositoryPort accountRepository;
     private final TransactionRepositoryPort transactionRepository;
+    private final BalanceChangePublisherPort balanceChangePublisher;
+    private final UseCaseMetrics metrics;
+    private final OverdraftExposureService overdraftExposure;
 
     @Override
+    @Transactional(readOnly = true)
     public List<BankAccount> getAllAccounts() {
-        return accountRepository.findAll();
+        return metrics.record(BankAccountConstants.USE_CASE_GET_ALL_ACCOUNTS, phases ->
+                phases.time(UseCasePhase.LOOKUP, accountRepository::findAll));
     }
 
     @Override
-    public BankAccount deposit(String accountNumber, Double amount) {
-        BankAccount account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
-        
-        // Use domain logic
-        account.deposit(amount);
-        
-        // Save account
-        BankAccount savedAccount = accountRepository.save(account);
-        
-        // Record transaction using domain factory method
-        Transaction transaction = Transaction.createDeposit(
-                accountNumber, 
-                amount, 
-                savedAccount.getBalance()
-        );
-        transactionRepository.save(transaction);
-        
-        return savedAccount;
+    @Transactional(readOnly = true)
+    public List<BankAccount> getAccountsByType(AccountType accountType) {
+        return metrics.record(BankAccountConstants.USE_CASE_GET_ACCOUNTS_BY_TYPE, phases ->
+                phases.time(UseCasePhase.LOOKUP, () -> accountRepository.findByAccountType(accountType)));
     }
 
     @Override
-    public BankAccount withdraw(String accountNumber, Double amount) {
-        BankAccount account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
-        
-        // Check business rule
-        if (!account.canWithdraw(amount)) {
-            throw new InsufficientBalanceException(account.getBalance(), amount);
-        }
-        
-        // Use domain logic
-        account.withdraw(amount);
-        
-        // Save account
-        BankAccount savedAccount = accountRepository.save(account);
-        
-        // Record transaction using domain factory method
-        Transaction transaction = Transaction.createWithdrawal(
-                accountNumber, 
-                amount, 
-                savedAccount.getBalance()
-        );
-        transactionRepository.save(transaction);
-        
-        return savedAccount;
+    public BankAccount deposit(AccountNumber accountNumber, Double amount) {
+        return metrics.record(BankAccountConstants.USE_CASE_DEPOSIT, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            Double balanceBefore = account.getBalance();
+            Double overdraftLimitBefore = account.getOverdraftLimit();
+            
+            // Use domain logic
+            phases.time(UseCasePhase.DOMAIN, () -> account.deposit(amount));
+            
+            // Save account
+            BankAccount savedAccount = phases.time(UseCasePhase.SAVE, () -> accountRepository.save(account));
+            overdraftExposure.recordChange(balanceBefore, overdraftLimitBefore, savedAccount.getBalance(),
+                    savedAccount.getOverdraftLimit());
+            
+            // Record transaction using domain factory method
+            Transaction transaction = phases.time(UseCasePhase.JOURNAL, () -> transactionRepository.save(Transaction.createDeposit(
+                    accountNumber, 
+                    amount, 
+                    savedAccount.getBalance()
+            )));
+            
+            publishBalanceChange(savedAccount, transaction);
+            return savedAccount;
+        });
     }
 
     @Override
-    public BankAccount setOverdraftLimit(String accountNumber, Double overdraftLimit) {
-        BankAccount account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
-        
-        // Use domain logic (includes validation)
-        try {
-            account.setOverdraft(overdraftLimit);
-        } catch (IllegalStateException e) {
-            throw new SavingsAccountOverdraftException();
-        }
-        
-        return accountRepository.save(account);
+    public BankAccount withdraw(AccountNumber accountNumber, Double amount) {
+        return metrics.record(BankAccountConstants.USE_CASE_WITHDRAW, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            Double balanceBefore = account.getBalance();
+            Double overdraftLimitBefore = account.getOverdraftLimit();
+            
+            phases.time(UseCasePhase.DOMAIN, () -> {
+                // Check business rule
+                if (!account.canWithdraw(amount)) {
+                    throw new InsufficientBalanceException(account.getBalance(), amount);
+                }
+                
+                // Use domain logic
+                account.withdraw(amount);
+            });
+            
+            // Save account
+            BankAccount savedAccount = phases.time(UseCasePhase.SAVE, () -> accountRepository.save(account));
+            overdraftExposure.recordChange(balanceBefore, overdraftLimitBefore, savedAccount.getBalance(),
+                    savedAccount.getOverdraftLimit());
+            
+            // Record transaction using domain factory method
+            Transaction transaction = phases.time(UseCasePhase.JOURNAL, () -> transactionRepository.save(Transaction.createWithdrawal(
+                    accountNumber, 
+                    amount, 
+                    savedAccount.getBalance()
+            )));
+            
+            publishBalanceChange(savedAccount, transaction);
+            return savedAccount;
+        });
+    }
+
+    @Override
+    public BankAccount setOverdraftLimit(AccountNumber accountNumber, Double overdraftLimit) {
+        return metrics.record(BankAccountConstants.USE_CASE_SET_OVERDRAFT, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            Double balanceBefore = account.getBalance();
+            Double overdraftLimitBefore = account.getOverdraftLimit();
+            
+            // Use domain logic (includes validation)
+            phases.time(UseCasePhase.DOMAIN, () -> {
+                try {
+                    account.setOverdraft(overdraftLimit);
+                } catch (IllegalStateException e) {
+                    throw new SavingsAccountOverdraftException();
+                }
+            });
+            
+            BankAccount savedAccount = phases.time(UseCasePhase.SAVE, () -> accountRepository.save(account));
+            overdraftExposure.recordChange(balanceBefore, overdraftLimitBefore, savedAccount.getBalance(),
+                    savedAccount.getOverdraftLimit());
+            return savedAccount;
+        });
+    }
+
+    @Override
+    public BankAccount depositToSavings(AccountNumber accountNumber, Double amount) {
+        return metrics.record(BankAccountConstants.USE_CASE_DEPOSIT_SAVINGS, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            
+            // Use domain logic (handles partial deposit)
+            Double depositedAmount = phases.time(UseCasePhase.DOMAIN, () -> account.depositToSavings(amount));
+            
+            // Save account
+            BankAccount savedAccount = phases.time(UseCasePhase.SAVE, () -> accountRepository.save(account));
+            
+            // Record transaction using domain factory method
+            Transaction transaction = phases.time(UseCasePhase.JOURNAL, () -> transactionRepository.save(Transaction.createSavingsDeposit(
+                    accountNumber, 
+                    depositedAmount, 
+                    savedAccount.getSavingsBalance()
+            )));
+            
+            publishBalanceChange(savedAccount, transaction);
+            return savedAccount;
+        });
+    }
+
+    @Override
+    public BankAccount transferFromSavings(AccountNumber accountNumber, Double amount) {
+        return metrics.record(BankAccountConstants.USE_CASE_TRANSFER_FROM_SAVINGS, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            Double balanceBefore = account.getBalance();
+            Double overdraftLimitBefore = account.getOverdraftLimit();
+            
+            phases.time(UseCasePhase.DOMAIN, () -> {
+                // Check business rule
+                if (!account.canTransferFromSavings(amount)) {
+                    throw new InsufficientBalanceException(account.getSavingsBalance(), amount);
+                }
+                
+                // Use domain logic
+                account.transferFromSavings(amount);
+            });
+            
+            // Both balances change in the same versioned update
+            BankAccount savedAccount = phases.time(UseCasePhase.SAVE, () -> accountRepository.save(account));
+            overdraftExposure.recordChange(balanceBefore, overdraftLimitBefore, savedAccount.getBalance(),
+                    savedAccount.getOverdraftLimit());
+            
+            // Both legs are written in a single batch
+            List<Transaction> transactions = phases.time(UseCasePhase.JOURNAL, () -> transactionRepository.saveAll(
+                    Transaction.createTransferFromSavings(
+                            accountNumber,
+                            amount,
+                            savedAccount.getBalance(),
+                            savedAccount.getSavingsBalance()
+                    )));
+            
+            transactions.forEach(transaction -> publishBalanceChange(savedAccount, transaction));
+            return savedAccount;
+        });
     }
 
     @Override
-    public BankAccount depositToSavings(String accountNumber, Double amount) {
-        BankAccount account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
-        
-        // Use domain logic (handles partial deposit)
-        Double depositedAmount = account.depositToSavings(amount);
-        
-        // Save account
-        BankAccount savedAccount = accountRepository.save(account);
-        
-        // Record transaction using domain factory method
-        Transaction transaction = Transaction.createSavingsDeposit(
-                accountNumber, 
-                depositedAmount, 
-                savedAccount.getSavingsBalance()
-        );
-        transactionRepository.save(transaction);
-        
-        return savedAccount;
+    @Transactional(readOnly = true)
+    public Statement getStatement(AccountNumber accountNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        return getStatement(accountNumber, now.minusDays(BankAccountConstants.STATEMENT_DEFAULT_WINDOW_DAYS), now,
+                0, BankAccountConstants.STATEMENT_MAX_PAGE_SIZE);
     }
 
     @Override
-    public Statement getStatement(String accountNumber) {
-        BankAccount account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
-        
-        // Get transactions from last 30 days
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<Transaction> transactions = transactionRepository
-                .findByAccountNumberAndDateAfter(accountNumber, thirtyDaysAgo);
-        
-        // Build statement using domain logic
-        return Statement.builder()
-                .accountNumber(accountNumber)
-                .accountType(account.getAccountType())
-                .currentBalance(account.getBalance())
+    @Transactional(readOnly = true)
+    public Statement getStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to, int page, int size) {
+        if (!from.isBefore(to)) {
+            throw new InvalidStatementPeriodException();
+        }
+
+        return metrics.record(BankAccountConstants.USE_CASE_GET_STATEMENT, phases -> {
+            BankAccount account = phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber));
+            
+            // Bounded page over the requested period, newest first
+            int pageSize = Math.clamp(size, 1, BankAccountConstants.STATEMENT_MAX_PAGE_SIZE);
+            TransactionPage transactions = phases.time(UseCasePhase.JOURNAL, () -> transactionRepository
+                    .findByAccountNumberAndDateBetween(accountNumber, from, to, Math.max(page, 0), pageSize));
+            
+            // Build statement using domain logic
+            return Statement.builder()
+                    .accountNumber(accountNumber)
+                    .accountType(account.getAccountType())
+                    .currentBalance(account.getBalance())
+                    .savingsBalance(account.getSavingsBalance())
+                    .statementDate(LocalDateTime.now())
+                    .periodStart(from)
+                    .periodEnd(to)
+                    .page(transactions.getPage())
+                    .hasMore(transactions.isHasMore())
+                    .transactions(transactions.getTransactions())
+                    .build();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionStream streamStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidStatementPeriodException();
+        }
+
+        // Only the checks run here: the rows are read later, by whoever consumes the stream
+        metrics.record(BankAccountConstants.USE_CASE_STREAM_STATEMENT, phases ->
+                phases.time(UseCasePhase.LOOKUP, () -> findAccount(accountNumber)));
+        return consumer -> transactionRepository.streamByAccountNumberAndDateBetween(accountNumber, from, to, consumer);
+    }
+
+    private void publishBalanceChange(BankAccount account, Transaction transaction) {
+        // Delivered to live subscribers once the surrounding transaction commits
+        balanceChangePublisher.publish(BalanceChange.builder()
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
                 .savingsBalance(account.getSavingsBalance())
-                .statementDate(LocalDateTime.now())
-                .transactions(transactions)
-                .build();
+                .transaction(transaction)
+                .build());
+    }
+
+    private BankAccount findAccount(AccountNumber accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber.value()));
     }
 }
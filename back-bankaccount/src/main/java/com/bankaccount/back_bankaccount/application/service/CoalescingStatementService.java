@@ -0,0 +1,154 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.StatementCoalescingProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+import com.bankaccount.back_bankaccount.domain.model.Statement;
+import com.bankaccount.back_bankaccount.domain.model.TransactionStream;
+import com.bankaccount.back_bankaccount.domain.ports.in.GetStatementUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight front of the statement use case: concurrent identical statement requests
+ * share one computation, and its result keeps answering them for a short freshness window.
+ * Committed balance changes of an account forget its statements at once, so a client reading
+ * its own writes never gets a statement computed before them; writes that bypass the balance
+ * events (interest accrual batches) are visible at the latest when the window ends.
+ * Failures are handed to the requests that waited for them but never remembered.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "app.statement-coalescing", name = "enabled", havingValue = "true")
+public class CoalescingStatementService implements GetStatementUseCase {
+
+    private final BankAccountService delegate;
+    private final StatementCoalescingProperties properties;
+    private final Counter computed;
+    private final Counter shared;
+
+    // Per account, so that a write forgets all the statements of its account in one removal
+    private final Map<AccountNumber, Map<StatementKey, Flight>> flights = new ConcurrentHashMap<>();
+
+    public CoalescingStatementService(BankAccountService delegate, StatementCoalescingProperties properties,
+            MeterRegistry registry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.computed = Counter.builder(BankAccountConstants.METRIC_STATEMENT_READS)
+                .tag(BankAccountConstants.TAG_OUTCOME, BankAccountConstants.OUTCOME_COMPUTED)
+                .register(registry);
+        this.shared = Counter.builder(BankAccountConstants.METRIC_STATEMENT_READS)
+                .tag(BankAccountConstants.TAG_OUTCOME, BankAccountConstants.OUTCOME_SHARED)
+                .register(registry);
+    }
+
+    @Override
+    public Statement getStatement(AccountNumber accountNumber) {
+        return delegate.getStatement(accountNumber);
+    }
+
+    @Override
+    public Statement getStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to, int page, int size) {
+        StatementKey key = new StatementKey(from, to, page, size);
+        Map<StatementKey, Flight> accountFlights = flights.computeIfAbsent(accountNumber,
+                account -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+        long freshness = properties.getFreshness().toNanos();
+        Flight candidate = new Flight();
+        Flight flight = accountFlights.compute(key, (k, current) ->
+                current != null && current.isFresh(now, freshness) ? current : candidate);
+
+        if (flight != candidate) {
+            shared.increment();
+            return flight.await();
+        }
+
+        computed.increment();
+        sweepIfNeeded(now, freshness);
+        try {
+            Statement statement = delegate.getStatement(accountNumber, from, to, page, size);
+            flight.complete(statement);
+            return statement;
+        } catch (Throwable e) {
+            // Errors too: an unfinished flight counts as fresh, and would hold its waiters forever
+            accountFlights.remove(key, flight);
+            flight.fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TransactionStream streamStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to) {
+        // A stream is read once, by whoever consumes it: there is nothing to share
+        return delegate.streamStatement(accountNumber, from, to);
+    }
+
+    /**
+     * Forget the statements of an account once a change to it is committed
+     */
+    @TransactionalEventListener
+    public void onBalanceChange(BalanceChange change) {
+        // A computation still running for the account finishes into the detached map and is never shared
+        flights.remove(change.getAccountNumber());
+    }
+
+    private void sweepIfNeeded(long now, long freshness) {
+        if (flights.size() <= properties.getSweepThreshold()) {
+            return;
+        }
+        flights.values().removeIf(accountFlights -> {
+            accountFlights.values().removeIf(flight -> !flight.isFresh(now, freshness));
+            return accountFlights.isEmpty();
+        });
+    }
+
+    private record StatementKey(LocalDateTime from, LocalDateTime to, int page, int size) {
+    }
+
+    /**
+     * One statement computation, running or completed
+     */
+    private static final class Flight {
+
+        private final CompletableFuture<Statement> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isFresh(long now, long freshness) {
+            return !result.isDone() || now - completedAt < freshness;
+        }
+
+        void complete(Statement statement) {
+            completedAt = System.nanoTime();
+            result.complete(statement);
+        }
+
+        void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+
+        Statement await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
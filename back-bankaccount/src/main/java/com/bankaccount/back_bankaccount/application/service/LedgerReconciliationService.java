@@ -0,0 +1,228 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.ReconciliationProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.DiscrepancyType;
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationDiscrepancy;
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationReport;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileLedgerUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.LedgerReadPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Application service implementing the ledger reconciliation.
+ * The account id space is split recursively in a fork-join pool; each leaf
+ * streams its accounts' transactions ordered by account and date, replays the
+ * current and savings balance_after chains and compares their last value with
+ * the stored balances. Only one account's running state is held at a time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerReconciliationService implements ReconcileLedgerUseCase {
+
+    private final LedgerReadPort ledgerReadPort;
+    private final ReconciliationProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public ReconciliationReport reconcile() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        // Accounts and transactions of a leaf are read from the same snapshot
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        ReconciliationResult result = ledgerReadPort.findAccountIdRange()
+                .map(range -> {
+                    try (ForkJoinPool pool = new ForkJoinPool(properties.getParallelism())) {
+                        return pool.invoke(new RangeTask(range, snapshot));
+                    }
+                })
+                .orElseGet(this::emptyResult);
+
+        for (String accountNumber : ledgerReadPort.findOrphanTransactionAccountNumbers(
+                properties.getMaxReportedDiscrepancies())) {
+            result.add(ReconciliationDiscrepancy.builder()
+                    .accountNumber(accountNumber)
+                    .type(DiscrepancyType.ORPHAN_TRANSACTIONS)
+                    .build());
+        }
+
+        ReconciliationReport report = ReconciliationReport.builder()
+                .startedAt(startedAt)
+                .durationMillis((System.nanoTime() - start) / 1_000_000)
+                .accountsChecked(result.accountsChecked)
+                .transactionsChecked(result.transactionsChecked)
+                .discrepancyCount(result.discrepancyCount)
+                .discrepancies(result.discrepancies)
+                .build();
+        log.info("Ledger reconciliation: {} accounts, {} transactions, {} discrepancies in {} ms",
+                report.getAccountsChecked(), report.getTransactionsChecked(),
+                report.getDiscrepancyCount(), report.getDurationMillis());
+        return report;
+    }
+
+    private ReconciliationResult emptyResult() {
+        return new ReconciliationResult(properties.getMaxReportedDiscrepancies());
+    }
+
+    /**
+     * Verifies a range of account ids, splitting it in halves until it is small enough
+     */
+    private final class RangeTask extends RecursiveTask<ReconciliationResult> {
+
+        private final AccountIdRange range;
+        private final TransactionTemplate snapshot;
+
+        private RangeTask(AccountIdRange range, TransactionTemplate snapshot) {
+            this.range = range;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        protected ReconciliationResult compute() {
+            long from = range.getFromId();
+            long to = range.getToId();
+            if (to - from < properties.getAccountsPerTask()) {
+                return snapshot.execute(status -> verify(range));
+            }
+
+            long middle = from + (to - from) / 2;
+            RangeTask left = new RangeTask(new AccountIdRange(from, middle), snapshot);
+            RangeTask right = new RangeTask(new AccountIdRange(middle + 1, to), snapshot);
+            left.fork();
+            ReconciliationResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    private ReconciliationResult verify(AccountIdRange range) {
+        Map<AccountNumber, BankAccount> accounts = new HashMap<>();
+        ledgerReadPort.streamAccounts(range, account -> accounts.put(account.getAccountNumber(), account));
+
+        ReconciliationResult result = emptyResult();
+        result.accountsChecked = accounts.size();
+        LedgerVerifier verifier = new LedgerVerifier(accounts, result);
+        ledgerReadPort.streamTransactions(range, verifier);
+        verifier.finish();
+        return result;
+    }
+
+    /**
+     * Replays the transactions of consecutive accounts and checks their balance chains
+     */
+    private final class LedgerVerifier implements Consumer<Transaction> {
+
+        private final Map<AccountNumber, BankAccount> accounts;
+        private final ReconciliationResult result;
+        private BankAccount account;
+        private Double balance;
+        private Double savingsBalance;
+
+        private LedgerVerifier(Map<AccountNumber, BankAccount> accounts, ReconciliationResult result) {
+            this.accounts = accounts;
+            this.result = result;
+        }
+
+        @Override
+        public void accept(Transaction transaction) {
+            if (account == null || !account.getAccountNumber().equals(transaction.getAccountNumber())) {
+                finish();
+                account = accounts.get(transaction.getAccountNumber());
+            }
+            result.transactionsChecked++;
+
+            if (transaction.getType().isSavingsMovement()) {
+                checkChain(transaction, savingsBalance, DiscrepancyType.SAVINGS_CHAIN_BROKEN);
+                savingsBalance = transaction.getBalanceAfter();
+            } else {
+                checkChain(transaction, balance, DiscrepancyType.BALANCE_CHAIN_BROKEN);
+                balance = transaction.getBalanceAfter();
+            }
+        }
+
+        private void checkChain(Transaction transaction, Double previous, DiscrepancyType type) {
+            // The first movement of a chain has no known opening balance to start from
+            if (previous != null) {
+                check(type, transaction.getId(), previous + transaction.getAmount(), transaction.getBalanceAfter());
+            }
+        }
+
+        private void finish() {
+            if (account != null) {
+                if (balance != null) {
+                    check(DiscrepancyType.BALANCE_MISMATCH, null, balance, account.getBalance());
+                }
+                if (savingsBalance != null) {
+                    check(DiscrepancyType.SAVINGS_BALANCE_MISMATCH, null, savingsBalance, account.getSavingsBalance());
+                }
+            }
+            balance = null;
+            savingsBalance = null;
+        }
+
+        private void check(DiscrepancyType type, Long transactionId, double expected, double actual) {
+            if (Math.abs(expected - actual) > properties.getTolerance()) {
+                result.add(ReconciliationDiscrepancy.builder()
+                        .accountNumber(account.getAccountNumber().value())
+                        .type(type)
+                        .transactionId(transactionId)
+                        .expected(expected)
+                        .actual(actual)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Partial result of a fork-join task, merged up the task tree
+     */
+    private static final class ReconciliationResult {
+
+        private final int maxReported;
+        private final List<ReconciliationDiscrepancy> discrepancies = new ArrayList<>();
+        private long accountsChecked;
+        private long transactionsChecked;
+        private long discrepancyCount;
+
+        private ReconciliationResult(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        private void add(ReconciliationDiscrepancy discrepancy) {
+            discrepancyCount++;
+            if (discrepancies.size() < maxReported) {
+                discrepancies.add(discrepancy);
+            }
+        }
+
+        private ReconciliationResult merge(ReconciliationResult other) {
+            accountsChecked += other.accountsChecked;
+            transactionsChecked += other.transactionsChecked;
+            discrepancyCount += other.discrepancyCount;
+            int room = Math.max(0, maxReported - discrepancies.size());
+            discrepancies.addAll(other.discrepancies.subList(0, Math.min(room, other.discrepancies.size())));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.OverdraftExposureProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+import com.bankaccount.back_bankaccount.domain.ports.in.GetOverdraftExposureUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileOverdraftExposureUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.OverdraftExposurePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service keeping the overdraft exposure up to date without scanning the accounts.
+ * Account use cases report each change of a balance or overdraft limit; its effect on the totals
+ * is added once the surrounding transaction commits, with lock-free adders, so reads are O(1).
+ * <p>
+ * Writes outside the account use cases (imports, direct updates) are caught up by reconciliations,
+ * run at startup and periodically: they scan the accounts and add the difference to the totals.
+ * The scan reads a repeatable-read snapshot, so only the commits around the moment it is taken
+ * are ambiguous: every commit is numbered before it reaches the database, and a snapshot taken
+ * while the numbering moved is dropped and taken again after a growing delay, a few times at
+ * most before the reconciliation is skipped until the next run.
+ */
+@Slf4j
+@Service
+@Lazy(false)
+public class OverdraftExposureService implements GetOverdraftExposureUseCase, ReconcileOverdraftExposureUseCase {
+
+    private final OverdraftExposurePort overdraftExposurePort;
+    private final OverdraftExposureProperties properties;
+    private final TransactionTemplate snapshot;
+
+    private final LongAdder negativeBalanceCents = new LongAdder();
+    private final LongAdder overdraftLimitCents = new LongAdder();
+    private final LongAdder overdrawnAccounts = new LongAdder();
+
+    // A snapshot is trusted only if no commit was in progress nor started while it was taken
+    private final AtomicLong commitsInProgress = new AtomicLong();
+    private final AtomicLong commitSequence = new AtomicLong();
+
+    private final Counter consistent;
+    private final Counter corrected;
+    private final Counter skipped;
+    private volatile LocalDateTime reconciledAt;
+
+    public OverdraftExposureService(OverdraftExposurePort overdraftExposurePort,
+            OverdraftExposureProperties properties, PlatformTransactionManager transactionManager,
+            MeterRegistry registry) {
+        this.overdraftExposurePort = overdraftExposurePort;
+        this.properties = properties;
+        // Not read-only: the totals of this instance follow the primary, not a lagging replica
+        this.snapshot = new TransactionTemplate(transactionManager);
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Gauge.builder(BankAccountConstants.METRIC_OVERDRAFT_NEGATIVE_BALANCES, negativeBalanceCents,
+                cents -> cents.sum() / 100.0).register(registry);
+        Gauge.builder(BankAccountConstants.METRIC_OVERDRAFT_LIMITS, overdraftLimitCents,
+                cents -> cents.sum() / 100.0).register(registry);
+        Gauge.builder(BankAccountConstants.METRIC_OVERDRAFT_ACCOUNTS, overdrawnAccounts, LongAdder::sum)
+                .register(registry);
+        this.consistent = reconciliationCounter(registry, BankAccountConstants.OUTCOME_CONSISTENT);
+        this.corrected = reconciliationCounter(registry, BankAccountConstants.OUTCOME_CORRECTED);
+        this.skipped = reconciliationCounter(registry, BankAccountConstants.OUTCOME_SKIPPED);
+    }
+
+    /**
+     * Report a change of an account's balance or overdraft limit, counted once the current transaction commits
+     */
+    public void recordChange(Double balanceBefore, Double overdraftLimitBefore, Double balanceAfter,
+            Double overdraftLimitAfter) {
+        long negativeBalanceDelta = negativeBalanceCents(balanceAfter) - negativeBalanceCents(balanceBefore);
+        long overdraftLimitDelta = cents(overdraftLimitAfter) - cents(overdraftLimitBefore);
+        long overdrawnDelta = overdrawn(balanceAfter) - overdrawn(balanceBefore);
+        if (negativeBalanceDelta == 0 && overdraftLimitDelta == 0 && overdrawnDelta == 0) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitSequence.incrementAndGet();
+            apply(negativeBalanceDelta, overdraftLimitDelta, overdrawnDelta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public int getOrder() {
+                // Ahead of the shard transactions, which commit in their own beforeCommit
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+                commitsInProgress.incrementAndGet();
+                commitSequence.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(negativeBalanceDelta, overdraftLimitDelta, overdrawnDelta);
+                }
+                if (committing) {
+                    commitsInProgress.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    @Override
+    public OverdraftExposure getOverdraftExposure() {
+        return OverdraftExposure.builder()
+                .negativeBalanceCents(negativeBalanceCents.sum())
+                .overdraftLimitCents(overdraftLimitCents.sum())
+                .overdrawnAccounts(overdrawnAccounts.sum())
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @Override
+    public OverdraftExposure reconcile() {
+        long retryDelay = properties.getReconciliationRetryDelay().toMillis();
+        for (int attempt = 0; attempt < properties.getMaxReconciliationAttempts(); attempt++) {
+            if (attempt > 0 && !backOff(retryDelay << (attempt - 1))) {
+                break;
+            }
+            Optional<Scan> scan = snapshot.execute(status -> scanSnapshot());
+            if (scan.isPresent()) {
+                correct(scan.get().tracked(), scan.get().stored());
+                return getOverdraftExposure();
+            }
+        }
+        skipped.increment();
+        log.info("Overdraft exposure reconciliation skipped: accounts kept changing during {} attempts",
+                properties.getMaxReconciliationAttempts());
+        return getOverdraftExposure();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAtStartup() {
+        reconcile();
+    }
+
+    private Optional<Scan> scanSnapshot() {
+        long sequence = commitSequence.get();
+        if (commitsInProgress.get() != 0) {
+            return Optional.empty();
+        }
+        // Every commit numbered up to here is applied; a later one moves the numbering
+        OverdraftExposure tracked = getOverdraftExposure();
+        overdraftExposurePort.beginSnapshot();
+        if (commitSequence.get() != sequence) {
+            return Optional.empty();
+        }
+        // Commits made from now on are neither in the snapshot nor in the tracked totals
+        return Optional.of(new Scan(tracked, overdraftExposurePort.sumOverdraftExposure()));
+    }
+
+    private static boolean backOff(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void correct(OverdraftExposure tracked, OverdraftExposure stored) {
+        // Adding the difference rather than resetting keeps the changes applied since the scan
+        long negativeBalanceDrift = stored.getNegativeBalanceCents() - tracked.getNegativeBalanceCents();
+        long overdraftLimitDrift = stored.getOverdraftLimitCents() - tracked.getOverdraftLimitCents();
+        long overdrawnDrift = stored.getOverdrawnAccounts() - tracked.getOverdrawnAccounts();
+        negativeBalanceCents.add(negativeBalanceDrift);
+        overdraftLimitCents.add(overdraftLimitDrift);
+        overdrawnAccounts.add(overdrawnDrift);
+        reconciledAt = LocalDateTime.now();
+
+        if (negativeBalanceDrift == 0 && overdraftLimitDrift == 0 && overdrawnDrift == 0) {
+            consistent.increment();
+            return;
+        }
+        corrected.increment();
+        log.info("Overdraft exposure corrected by {} cents of negative balances, {} cents of limits, {} accounts",
+                negativeBalanceDrift, overdraftLimitDrift, overdrawnDrift);
+    }
+
+    private void apply(long negativeBalanceDelta, long overdraftLimitDelta, long overdrawnDelta) {
+        negativeBalanceCents.add(negativeBalanceDelta);
+        overdraftLimitCents.add(overdraftLimitDelta);
+        overdrawnAccounts.add(overdrawnDelta);
+    }
+
+    private static long negativeBalanceCents(Double balance) {
+        return balance != null && balance < 0 ? Math.round(-balance * 100) : 0;
+    }
+
+    private static long cents(Double amount) {
+        return amount != null ? Math.round(amount * 100) : 0;
+    }
+
+    private static long overdrawn(Double balance) {
+        return balance != null && balance < 0 ? 1 : 0;
+    }
+
+    private static Counter reconciliationCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder(BankAccountConstants.METRIC_OVERDRAFT_RECONCILIATIONS)
+                .tag(BankAccountConstants.TAG_OUTCOME, outcome)
+                .register(registry);
+    }
+
+    private record Scan(OverdraftExposure tracked, OverdraftExposure stored) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+import com.bankaccount.back_bankaccount.domain.ports.in.GetResourceVersionUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.ResourceVersionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Application service implementing the resource version reads.
+ * Kept apart from BankAccountService so that a conditional request answered
+ * with 304 costs a single aggregate query and no entity loading.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ResourceVersionService implements GetResourceVersionUseCase {
+
+    private final ResourceVersionPort resourceVersionPort;
+
+    @Override
+    public String getAccountsVersion(AccountType accountType) {
+        return resourceVersionPort.findAccountsVersion(accountType);
+    }
+
+    @Override
+    public Optional<String> getStatementVersion(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to) {
+        // Invalid periods are left to the statement use case to reject
+        if (!from.isBefore(to)) {
+            return Optional.empty();
+        }
+        return resourceVersionPort.findStatementVersion(accountNumber, from, to);
+    }
+}
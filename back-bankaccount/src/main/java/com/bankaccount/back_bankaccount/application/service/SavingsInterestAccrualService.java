@@ -0,0 +1,127 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.InterestProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.InterestAccrualReport;
+import com.bankaccount.back_bankaccount.domain.model.InterestRate;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.in.AccrueSavingsInterestUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.SavingsInterestPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application service implementing the savings interest accrual.
+ * The account id space is cut into chunks aligned on multiples of the chunk size,
+ * credited concurrently by a fixed pool of workers. Each chunk locks its savings
+ * accounts, computes their interest in whole cents and writes the new balances,
+ * the interest transactions and its checkpoint in a single database transaction,
+ * so a rerun for the same date skips the chunks already credited.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SavingsInterestAccrualService implements AccrueSavingsInterestUseCase {
+
+    private final SavingsInterestPort savingsInterestPort;
+    private final InterestProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public InterestAccrualReport accrue(LocalDate accrualDate) {
+        long start = System.nanoTime();
+        int chunkSize = properties.getChunkSize();
+        InterestRate rate = InterestRate.ofBasisPoints(properties.getAnnualRateBasisPoints());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Set<Long> credited = savingsInterestPort.findCreditedChunks(accrualDate, chunkSize);
+        AccrualProgress progress = new AccrualProgress();
+        savingsInterestPort.findSavingsAccountIdRange().ifPresent(range -> {
+            try (ExecutorService workers = Executors.newFixedThreadPool(properties.getParallelism())) {
+                // Aligned chunk starts stay the same from one run to the next, whatever the smallest id
+                for (long from = Math.floorDiv(range.getFromId(), chunkSize) * chunkSize; from <= range.getToId();
+                        from += chunkSize) {
+                    AccountIdRange chunk = new AccountIdRange(from, from + chunkSize - 1);
+                    if (credited.contains(from)) {
+                        progress.resumedChunks.increment();
+                        continue;
+                    }
+                    workers.execute(() -> creditChunk(accrualDate, chunk, rate, transaction, progress));
+                }
+            }
+        });
+
+        InterestAccrualReport report = InterestAccrualReport.builder()
+                .accrualDate(accrualDate)
+                .durationMillis((System.nanoTime() - start) / 1_000_000)
+                .committedChunks(progress.committedChunks.sum())
+                .resumedChunks(progress.resumedChunks.sum())
+                .failedChunks(progress.failedChunks.sum())
+                .accountsCredited(progress.accountsCredited.sum())
+                .totalInterest(progress.interestCents.sum() / 100.0)
+                .build();
+        log.info("Savings interest for {}: {} accounts credited {} in {} ms "
+                + "({} chunks committed, {} resumed, {} failed)", accrualDate, report.getAccountsCredited(),
+                report.getTotalInterest(), report.getDurationMillis(), report.getCommittedChunks(),
+                report.getResumedChunks(), report.getFailedChunks());
+        return report;
+    }
+
+    private void creditChunk(LocalDate accrualDate, AccountIdRange chunk, InterestRate rate,
+            TransactionTemplate transaction, AccrualProgress progress) {
+        try {
+            List<Transaction> interest = transaction.execute(status -> {
+                // Millisecond timestamps survive the TIMESTAMP column as is, so the chunk rows can be found again
+                LocalDateTime postedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+                List<BankAccount> accounts = savingsInterestPort.lockSavingsAccounts(chunk);
+                List<Transaction> postings = new ArrayList<>(accounts.size());
+                for (BankAccount account : accounts) {
+                    long balanceCents = Math.round(account.getSavingsBalance() * 100);
+                    long interestCents = rate.dailyInterestCents(balanceCents, properties.getDaysInYear());
+                    // Balances too small to earn a cent in a day are not credited
+                    if (interestCents > 0) {
+                        postings.add(Transaction.createSavingsInterest(account.getAccountNumber(),
+                                interestCents / 100.0, (balanceCents + interestCents) / 100.0, postedAt));
+                    }
+                }
+                savingsInterestPort.creditInterest(accrualDate, chunk, properties.getChunkSize(), postings);
+                return postings;
+            });
+            for (Transaction posting : interest) {
+                progress.interestCents.add(Math.round(posting.getAmount() * 100));
+            }
+            progress.accountsCredited.add(interest.size());
+            progress.committedChunks.increment();
+        } catch (RuntimeException e) {
+            // The chunk is rolled back and left for the next run of the same date
+            progress.failedChunks.increment();
+            log.warn("Savings interest chunk {}-{} for {} failed: {}", chunk.getFromId(), chunk.getToId(),
+                    accrualDate, e.getMessage());
+        }
+    }
+
+    /**
+     * Counters updated by the workers of a run
+     */
+    private static final class AccrualProgress {
+        private final LongAdder committedChunks = new LongAdder();
+        private final LongAdder resumedChunks = new LongAdder();
+        private final LongAdder failedChunks = new LongAdder();
+        private final LongAdder accountsCredited = new LongAdder();
+        private final LongAdder interestCents = new LongAdder();
+    }
+}
@@ -0,0 +1,114 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.TransactionExportProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.ExportWatermark;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionExportReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ExportTransactionsUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.ExportWatermarkPort;
+import com.bankaccount.back_bankaccount.domain.ports.out.LedgerReadPort;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionExportPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Application service implementing the incremental transaction export.
+ * Transactions after the stored watermark are streamed in (date, id) order
+ * straight into columnar files, rolling over to a new file every
+ * maxRowsPerFile rows. The watermark only moves once every file of the run is
+ * committed, so a failed run is simply repeated by the next one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService implements ExportTransactionsUseCase {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final LedgerReadPort ledgerReadPort;
+    private final ExportWatermarkPort watermarkPort;
+    private final TransactionExportPort exportPort;
+    private final TransactionExportProperties properties;
+
+    @Override
+    public synchronized TransactionExportReport exportNewTransactions() {
+        long start = System.nanoTime();
+        ExportWatermark after = watermarkPort.find(BankAccountConstants.TRANSACTION_EXPORT_NAME).orElse(null);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(properties.getSettleSeconds());
+
+        RollingExport export = new RollingExport();
+        try {
+            ledgerReadPort.streamTransactionsAfter(after, before, export);
+            export.commit();
+        } finally {
+            export.close();
+        }
+
+        ExportWatermark watermark = export.last != null ? export.last : after;
+        if (export.last != null) {
+            watermarkPort.save(BankAccountConstants.TRANSACTION_EXPORT_NAME, watermark);
+        }
+
+        TransactionExportReport report = TransactionExportReport.builder()
+                .files(export.files)
+                .rows(export.rows)
+                .durationMillis((System.nanoTime() - start) / 1_000_000)
+                .watermark(watermark)
+                .build();
+        log.info("Transaction export: {} rows in {} files in {} ms", report.getRows(),
+                report.getFiles().size(), report.getDurationMillis());
+        return report;
+    }
+
+    /**
+     * Writes the streamed rows to successive export files
+     */
+    private final class RollingExport implements Consumer<Transaction> {
+
+        private final List<String> files = new ArrayList<>();
+        private TransactionExportPort.ExportFile current;
+        private long rowsInFile;
+        private long rows;
+        private ExportWatermark last;
+
+        @Override
+        public void accept(Transaction transaction) {
+            if (current == null) {
+                // Named after its first row so that re-exporting after a failed run overwrites the same file
+                String fileName = String.format(BankAccountConstants.TRANSACTION_EXPORT_FILE_PATTERN,
+                        transaction.getTransactionDate().format(FILE_DATE_FORMAT), transaction.getId());
+                current = exportPort.open(fileName);
+                files.add(fileName);
+            }
+            current.append(transaction);
+            rows++;
+            last = new ExportWatermark(transaction.getTransactionDate(), transaction.getId());
+            if (++rowsInFile == properties.getMaxRowsPerFile()) {
+                commit();
+            }
+        }
+
+        private void commit() {
+            if (current != null) {
+                current.commit();
+                close();
+            }
+        }
+
+        private void close() {
+            if (current != null) {
+                current.close();
+                current = null;
+                rowsInFile = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.OutboxEntry;
+import com.bankaccount.back_bankaccount.domain.model.OutboxRelayReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.RelayTransactionEventsUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionEventSinkPort;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionOutboxPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application service relaying the transaction outbox to the downstream sink.
+ * Batches are read oldest first and only removed once the sink accepted them,
+ * so every transaction is delivered at least once; a failed batch stops the
+ * run and is retried by the next one, keeping delivery in order.
+ * Pending entries and the age of the oldest one are published as gauges.
+ */
+@Slf4j
+@Service
+public class TransactionOutboxRelayService implements RelayTransactionEventsUseCase {
+
+    private final TransactionOutboxPort outboxPort;
+    private final TransactionEventSinkPort sinkPort;
+    private final OutboxProperties properties;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public TransactionOutboxRelayService(TransactionOutboxPort outboxPort, TransactionEventSinkPort sinkPort,
+            OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outboxPort = outboxPort;
+        this.sinkPort = sinkPort;
+        this.properties = properties;
+        this.delivered = meterRegistry.counter(BankAccountConstants.METRIC_OUTBOX_DELIVERED);
+        this.failures = meterRegistry.counter(BankAccountConstants.METRIC_OUTBOX_FAILURES);
+        this.batchTimer = meterRegistry.timer(BankAccountConstants.METRIC_OUTBOX_BATCH);
+        meterRegistry.gauge(BankAccountConstants.METRIC_OUTBOX_PENDING, pending);
+        meterRegistry.more().timeGauge(BankAccountConstants.METRIC_OUTBOX_LAG, Tags.empty(), lagMillis,
+                TimeUnit.MILLISECONDS, AtomicLong::doubleValue);
+    }
+
+    @Override
+    public synchronized OutboxRelayReport relayPendingEvents() {
+        long start = System.nanoTime();
+        long deliveredInRun = 0;
+        int batches = 0;
+        boolean failed = false;
+
+        List<OutboxEntry> batch = outboxPort.findOldest(properties.getBatchSize());
+        while (!batch.isEmpty()) {
+            if (!deliver(batch)) {
+                failed = true;
+                break;
+            }
+            deliveredInRun += batch.size();
+            batches++;
+            if (batch.size() < properties.getBatchSize()) {
+                break;
+            }
+            batch = outboxPort.findOldest(properties.getBatchSize());
+        }
+
+        pending.set(outboxPort.countPending());
+        lagMillis.set(outboxPort.findOldestCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+
+        OutboxRelayReport report = OutboxRelayReport.builder()
+                .delivered(deliveredInRun)
+                .batches(batches)
+                .failed(failed)
+                .pending(pending.get())
+                .lagMillis(lagMillis.get())
+                .durationMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+        if (deliveredInRun > 0 || failed) {
+            log.info("Outbox relay: {} events in {} batches in {} ms, {} pending",
+                    report.getDelivered(), report.getBatches(), report.getDurationMillis(), report.getPending());
+        }
+        return report;
+    }
+
+    private boolean deliver(List<OutboxEntry> batch) {
+        try {
+            batchTimer.record(() -> sinkPort.deliver(batch.stream().map(OutboxEntry::getTransaction).toList()));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay: delivery of {} events failed: {}", batch.size(), e.getMessage());
+            return false;
+        }
+        // A crash before this delete redelivers the batch: at least once, never lost
+        outboxPort.delete(batch.stream().map(OutboxEntry::getId).toList());
+        delivered.increment(batch.size());
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bankaccount.back_bankaccount.config;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Guards the AOT bean definitions against a configuration they were not generated for.
+ * Beans behind profiles and property conditions are resolved once, when the definitions are
+ * generated: this records the active profiles and the condition properties at that point, and
+ * refuses to start with the generated definitions when they differ, instead of silently running
+ * without the beans the configuration asks for.
+ */
+public class AotBuildConditions implements BeanFactoryInitializationAotProcessor,
+        ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    static final String ACTIVE_PROFILES = "spring.profiles.active";
+
+    // Every property a @ConditionalOnProperty of the application depends on, with the value its condition
+    // assumes when it is unset
+    static final Map<String, String> CONDITION_PROPERTIES = new TreeMap<>(Map.of(
+            "app.export.enabled", "false",
+            "app.interest.enabled", "false",
+            "app.outbox.enabled", "false",
+            "app.outbox.sink", "file",
+            "app.overdraft-exposure.enabled", "false",
+            "app.rate-limit.enabled", "false",
+            "app.reconciliation.enabled", "false",
+            "app.replica.enabled", "false",
+            "app.sharding.enabled", "false",
+            "app.statement-coalescing.enabled", "false"));
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Properties conditions = record(beanFactory.getBean(Environment.class));
+        return (generationContext, code) -> {
+            StringWriter content = new StringWriter();
+            try {
+                conditions.store(content, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            generationContext.getGeneratedFiles()
+                    .addResourceFile(BankAccountConstants.AOT_BUILD_CONDITIONS_RESOURCE, content.toString());
+        };
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        ClassPathResource resource = new ClassPathResource(BankAccountConstants.AOT_BUILD_CONDITIONS_RESOURCE);
+        if (!AotDetector.useGeneratedArtifacts() || !resource.exists()) {
+            return;
+        }
+        Properties recorded = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            recorded.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<String> mismatches = mismatches(recorded, record(event.getEnvironment()));
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException(BankAccountConstants.AOT_BUILD_CONDITIONS_MISMATCH_ERROR + mismatches);
+        }
+    }
+
+    static Properties record(Environment environment) {
+        Properties conditions = new Properties();
+        conditions.setProperty(ACTIVE_PROFILES, String.join(",", environment.getActiveProfiles()));
+        // Conditions compare values regardless of case
+        CONDITION_PROPERTIES.forEach((property, unset) ->
+                conditions.setProperty(property, environment.getProperty(property, unset).toLowerCase(Locale.ROOT)));
+        return conditions;
+    }
+
+    static List<String> mismatches(Properties recorded, Properties current) {
+        List<String> mismatches = new ArrayList<>();
+        for (String property : CONDITION_PROPERTIES.keySet()) {
+            compare(property, recorded, current, mismatches);
+        }
+        compare(ACTIVE_PROFILES, recorded, current, mismatches);
+        return mismatches;
+    }
+
+    private static void compare(String property, Properties recorded, Properties current, List<String> mismatches) {
+        String built = recorded.getProperty(property);
+        String running = current.getProperty(property);
+        if (!Objects.equals(built, running)) {
+            mismatches.add(property + " built with " + built + ", running with " + running);
+        }
+    }
+}
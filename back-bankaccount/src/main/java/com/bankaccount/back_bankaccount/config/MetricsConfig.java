@@ -0,0 +1,38 @@
+package com.bankaccount.back_bankaccount.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import com.bankaccount.back_bankaccount.config.metrics.SqlStatementCounter;
+import com.bankaccount.back_bankaccount.config.metrics.StatementCountingDataSource;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics configuration: counts the SQL statements run through the application data source,
+ * and on the async tasks of a request (streamed responses) on behalf of that request
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the data source everything uses: wrapping the pools behind it would count twice
+                return bean instanceof DataSource dataSource && BankAccountConstants.DATA_SOURCE_BEAN.equals(beanName)
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    public TaskDecorator sqlStatementCounterTaskDecorator() {
+        return SqlStatementCounter::propagating;
+    }
+}
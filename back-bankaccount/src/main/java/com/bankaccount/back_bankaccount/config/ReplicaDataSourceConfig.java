@@ -0,0 +1,59 @@
+package com.bankaccount.back_bankaccount.config;
+
+import com.bankaccount.back_bankaccount.config.datasource.ReadYourWritesTracker;
+import com.bankaccount.back_bankaccount.config.datasource.ReplicaRoutingDataSource;
+import com.bankaccount.back_bankaccount.config.properties.ReplicaProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with a primary/replica pair when a replica is configured.
+ * The primary pool keeps its spring.datasource settings.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName(BankAccountConstants.REPLICA_POOL_NAME);
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername());
+        replica.setPassword(properties.getPassword());
+        replica.setMaximumPoolSize(properties.getMaxPoolSize());
+        if (properties.isInitializeSchema()) {
+            new ResourceDatabasePopulator(new ClassPathResource(BankAccountConstants.SCHEMA_SCRIPT))
+                    .execute(replica);
+        }
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReadYourWritesTracker readYourWrites,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, readYourWrites, meterRegistry));
+    }
+}
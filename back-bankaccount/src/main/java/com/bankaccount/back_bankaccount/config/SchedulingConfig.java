@@ -0,0 +1,12 @@
+package com.bankaccount.back_bankaccount.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled batch jobs (each one is switched on by its own property)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
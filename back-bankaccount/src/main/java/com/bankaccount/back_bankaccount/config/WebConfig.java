@@ -1,11 +1,15 @@
 package com.bankaccount.back_bankaccount.config;
 
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.bankaccount.back_bankaccount.config.properties.CorsProperties;
+import com.bankaccount.back_bankaccount.config.ratelimit.RateLimitInterceptor;
+import com.bankaccount.back_bankaccount.constants.ResourcePath;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class WebConfig implements WebMvcConfigurer {
 
     private final CorsProperties corsProperties;
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
 
     /**
      * Configure CORS settings to allow cross-origin requests from frontend
@@ -41,4 +46,13 @@ public class WebConfig implements WebMvcConfigurer {
             .allowCredentials(true)
             .maxAge(corsProperties.getMaxAge());
     }
+
+    /**
+     * Put the rate limiter, when enabled, in front of the bank account API
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        rateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+            .addPathPatterns(ResourcePath.PATH_BANK_ACCOUNT + "/**"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.bankaccount.back_bankaccount.config.datasource;
+
+import com.bankaccount.back_bankaccount.config.properties.ReplicaProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the accounts this instance wrote recently, so that reading them
+ * again skips the replica until it is guaranteed to have caught up.
+ * Persistence adapters call beforeRead ahead of their first query on an account;
+ * the routing data source then picks the primary for the connection it opens.
+ * A requirement no connection consumed is dropped when its transaction completes,
+ * so it never leaks to the next request served by the same thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    // Expired entries are swept once the map grows past this size
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final ReplicaProperties properties;
+    private final Map<AccountNumber, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Record a write to an account, effective once the current transaction commits
+     */
+    public void recordWrite(AccountNumber accountNumber) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markWritten(accountNumber);
+                }
+            });
+        } else {
+            markWritten(accountNumber);
+        }
+    }
+
+    /**
+     * Require the primary for the next connection of this thread if the account was written recently
+     */
+    public void beforeRead(AccountNumber accountNumber) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long writtenAt = lastWrites.get(accountNumber);
+        if (writtenAt == null || System.nanoTime() - writtenAt >= properties.getMaxStaleness().toNanos()
+                || PRIMARY_REQUIRED.get() != null) {
+            return;
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        // The transaction may already hold its connection: the requirement must not outlive it
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    PRIMARY_REQUIRED.remove();
+                }
+            });
+        }
+    }
+
+    /**
+     * Whether the connection being opened must come from the primary; clears the requirement
+     */
+    boolean consumePrimaryRequired() {
+        Boolean required = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.remove();
+        return required != null;
+    }
+
+    private void markWritten(AccountNumber accountNumber) {
+        long now = System.nanoTime();
+        lastWrites.put(accountNumber, now);
+        if (lastWrites.size() > SWEEP_THRESHOLD) {
+            long maxStaleness = properties.getMaxStaleness().toNanos();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= maxStaleness);
+        }
+    }
+}
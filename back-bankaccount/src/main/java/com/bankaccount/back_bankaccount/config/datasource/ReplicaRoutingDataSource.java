@@ -0,0 +1,51 @@
+package com.bankaccount.back_bankaccount.config.datasource;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes connections of read-only transactions to the replica and all others to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the connection is then opened at the first
+ * statement, once the transaction is flagged read-only and the read-your-writes check has run.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWrites,
+            MeterRegistry meterRegistry) {
+        this.readYourWrites = readYourWrites;
+        this.primaryRoutes = routeCounter(meterRegistry, Target.PRIMARY);
+        this.replicaRoutes = routeCounter(meterRegistry, Target.REPLICA);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean primaryRequired = readYourWrites.consumePrimaryRequired();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !primaryRequired) {
+            replicaRoutes.increment();
+            return Target.REPLICA;
+        }
+        primaryRoutes.increment();
+        return Target.PRIMARY;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder(BankAccountConstants.METRIC_DATASOURCE_ROUTE)
+                .tag(BankAccountConstants.TAG_TARGET, target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
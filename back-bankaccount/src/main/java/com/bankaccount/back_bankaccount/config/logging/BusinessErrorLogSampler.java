@@ -0,0 +1,58 @@
+package com.bankaccount.back_bankaccount.config.logging;
+
+import com.bankaccount.back_bankaccount.config.properties.LoggingProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs expected business errors (declined withdrawals, unknown accounts...) by sampling.
+ * Every occurrence is counted in bankaccount.business.errors, but only the first one of each
+ * sample window is logged, so a burst of rejections does not turn into a burst of log events.
+ * Suppressed occurrences never reach the logging framework and allocate nothing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessErrorLogSampler {
+
+    private final LoggingProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, ErrorStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Count a business error and log it if it opens a new sample window
+     */
+    public void log(String errorCode, Exception error) {
+        ErrorStats errorStats = stats.get(errorCode);
+        if (errorStats == null) {
+            errorStats = stats.computeIfAbsent(errorCode, code -> new ErrorStats(Counter
+                    .builder(BankAccountConstants.METRIC_BUSINESS_ERRORS)
+                    .tag(BankAccountConstants.TAG_CODE, code)
+                    .register(registry)));
+        }
+        errorStats.counter.increment();
+        long occurrence = errorStats.occurrences.getAndIncrement();
+        if (occurrence % properties.getBusinessErrorSampleRate() == 0 && log.isWarnEnabled()) {
+            log.warn("Business error {} (occurrence {}, 1 in {} logged): {}", errorCode, occurrence + 1,
+                    properties.getBusinessErrorSampleRate(), error.getMessage());
+        }
+    }
+
+    private static final class ErrorStats {
+
+        private final Counter counter;
+        private final AtomicLong occurrences = new AtomicLong();
+
+        private ErrorStats(Counter counter) {
+            this.counter = counter;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how many SQL statements each HTTP request issued, per method and URI pattern.
+ * An asynchronous request (a streamed response) is recorded once its last dispatch ends,
+ * including the statements its async tasks ran; summaries are built once per method and URI.
+ */
+@Component
+public class DatabaseCallMetricsFilter extends OncePerRequestFilter {
+
+    private final Meter.MeterProvider<DistributionSummary> dbCalls;
+    private final Map<String, Map<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    public DatabaseCallMetricsFilter(MeterRegistry registry) {
+        this.dbCalls = DistributionSummary.builder(BankAccountConstants.METRIC_REQUEST_DB_CALLS)
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        LongAdder statements = (LongAdder) request.getAttribute(BankAccountConstants.REQUEST_DB_CALLS_ATTRIBUTE);
+        if (statements == null) {
+            statements = new LongAdder();
+            request.setAttribute(BankAccountConstants.REQUEST_DB_CALLS_ATTRIBUTE, statements);
+        }
+        LongAdder previous = SqlStatementCounter.bind(statements);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.bind(previous);
+            if (!request.isAsyncStarted()) {
+                // The pattern is only known once the handler mapping has run
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                summary(request.getMethod(), pattern != null ? pattern.toString() : BankAccountConstants.URI_UNKNOWN)
+                        .record(statements.sum());
+            }
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        Map<String, DistributionSummary> byUri = summaries.get(method);
+        if (byUri == null) {
+            byUri = summaries.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        DistributionSummary summary = byUri.get(uri);
+        if (summary == null) {
+            summary = byUri.computeIfAbsent(uri, key -> dbCalls.withTags(
+                    BankAccountConstants.TAG_METHOD, method, BankAccountConstants.TAG_URI, key));
+        }
+        return summary;
+    }
+}
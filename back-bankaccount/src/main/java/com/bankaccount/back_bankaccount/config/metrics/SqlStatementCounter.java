@@ -0,0 +1,83 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements executed on the current thread through a {@link StatementCountingDataSource}:
+ * Hibernate and JdbcTemplate statements alike, one per execute call (a JDBC batch counts once).
+ * While a request is bound to the thread, its statements are also added to the request's count;
+ * tasks wrapped with {@link #propagating} count towards the request that submitted them.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<LongAdder> REQUEST = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+        LongAdder request = REQUEST.get();
+        if (request != null) {
+            request.increment();
+        }
+    }
+
+    /**
+     * Number of statements executed so far on the current thread
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Count the statements of the current thread towards a request (none if null), returning the previous one
+     */
+    static LongAdder bind(LongAdder request) {
+        LongAdder previous = REQUEST.get();
+        if (request != null) {
+            REQUEST.set(request);
+        } else {
+            REQUEST.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * Task counting its statements towards the request bound to the submitting thread
+     */
+    public static Runnable propagating(Runnable task) {
+        LongAdder request = REQUEST.get();
+        if (request == null) {
+            return task;
+        }
+        return () -> {
+            LongAdder previous = bind(request);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    /**
+     * Task counting its statements towards the request bound to the submitting thread
+     */
+    public static <T> Callable<T> propagating(Callable<T> task) {
+        LongAdder request = REQUEST.get();
+        if (request == null) {
+            return task;
+        }
+        return () -> {
+            LongAdder previous = bind(request);
+            try {
+                return task.call();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+}
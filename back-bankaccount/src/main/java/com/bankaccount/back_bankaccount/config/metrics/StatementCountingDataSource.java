@@ -0,0 +1,71 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Data source whose connections report every statement execution to {@link SqlStatementCounter}
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) proxy(Connection.class, connection, (method, result) ->
+                result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())
+                        ? countingStatement(method.getReturnType(), statement)
+                        : result);
+    }
+
+    private static Object countingStatement(Class<?> type, Statement statement) {
+        // Proxied as the type asked for: Statement, PreparedStatement or CallableStatement
+        return proxy(type, statement, (method, result) -> result);
+    }
+
+    private static Object proxy(Class<?> type, Object target, ResultWrapper wrapper) {
+        return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] {type},
+                (self, method, args) -> switch (method.getName()) {
+                    case "equals" -> self == args[0];
+                    case "hashCode" -> System.identityHashCode(self);
+                    default -> {
+                        if (method.getName().startsWith("execute") && target instanceof Statement) {
+                            SqlStatementCounter.increment();
+                        }
+                        yield wrapper.wrap(method, invoke(target, method, args));
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultWrapper {
+
+        Object wrap(Method method, Object result);
+    }
+}
@@ -0,0 +1,114 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records the latency of each use case and of its phases as Micrometer timers
+ * with percentile histograms, published on /actuator/metrics.
+ * Timers are built once per (use case, phase or outcome) and then reused; they are
+ * found by use case name, then by phase ordinal or outcome, without building a key.
+ */
+@Component
+@RequiredArgsConstructor
+public class UseCaseMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final Map<String, UseCaseTimers> useCases = new ConcurrentHashMap<>();
+
+    /**
+     * Time a whole use case, tagged with its outcome, and let the body time its phases
+     */
+    public <T> T record(String useCase, Function<Phases, T> body) {
+        UseCaseTimers timers = useCases.get(useCase);
+        if (timers == null) {
+            timers = useCases.computeIfAbsent(useCase, UseCaseTimers::new);
+        }
+        Phases phases = new Phases(timers);
+        long start = System.nanoTime();
+        String outcome = BankAccountConstants.OUTCOME_SUCCESS;
+        try {
+            return body.apply(phases);
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timers.outcome(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String useCase, String tag, String value) {
+        return Timer.builder(name)
+                .tag(BankAccountConstants.TAG_USE_CASE, useCase)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+    }
+
+    /**
+     * Timers of one use case: by outcome, and by phase
+     */
+    private final class UseCaseTimers {
+
+        private final String useCase;
+        private final Map<String, Timer> outcomes = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<Timer> phases = new AtomicReferenceArray<>(UseCasePhase.values().length);
+
+        private UseCaseTimers(String useCase) {
+            this.useCase = useCase;
+        }
+
+        Timer outcome(String outcome) {
+            Timer timer = outcomes.get(outcome);
+            if (timer == null) {
+                timer = outcomes.computeIfAbsent(outcome, key -> timer(BankAccountConstants.METRIC_USE_CASE,
+                        useCase, BankAccountConstants.TAG_OUTCOME, key));
+            }
+            return timer;
+        }
+
+        Timer phase(UseCasePhase phase) {
+            Timer timer = phases.get(phase.ordinal());
+            if (timer == null) {
+                // The registry hands the same timer to threads racing to register it
+                timer = timer(BankAccountConstants.METRIC_USE_CASE_PHASE, useCase, BankAccountConstants.TAG_PHASE,
+                        phase.tag());
+                phases.set(phase.ordinal(), timer);
+            }
+            return timer;
+        }
+    }
+
+    /**
+     * Phase timers of one use case execution
+     */
+    public final class Phases {
+
+        private final UseCaseTimers timers;
+
+        private Phases(UseCaseTimers timers) {
+            this.timers = timers;
+        }
+
+        public <T> T time(UseCasePhase phase, Supplier<T> step) {
+            return timers.phase(phase).record(step);
+        }
+
+        public void time(UseCasePhase phase, Runnable step) {
+            timers.phase(phase).record(step);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+/**
+ * Phases a write use case is split into for latency measurement
+ */
+public enum UseCasePhase {
+    /** Loading the account */
+    LOOKUP,
+    /** Applying the domain rules in memory */
+    DOMAIN,
+    /** Persisting the account */
+    SAVE,
+    /** Recording the transaction in the ledger */
+    JOURNAL;
+
+    private final String tag = name().toLowerCase();
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Account number negative lookup cache configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.account-filter")
+public class AccountFilterProperties {
+
+    /**
+     * Whether unknown account numbers are rejected by the Bloom filter before any database lookup.
+     * Single-instance deployments only: accounts created by another instance or by plain SQL
+     * are not in the filter and would be reported missing until the next restart
+     */
+    private boolean enabled = false;
+
+    /**
+     * Minimum number of account numbers the filter is sized for
+     */
+    private long expectedAccounts = 1_000_000;
+
+    /**
+     * Target probability that an unknown account number still goes to the database
+     */
+    private double falsePositiveRate = 0.01;
+}
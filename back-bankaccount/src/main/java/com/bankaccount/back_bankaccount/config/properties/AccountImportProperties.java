@@ -0,0 +1,30 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Bulk account import configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class AccountImportProperties {
+
+    /**
+     * Number of records inserted per batch and per checkpoint
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of chunks validated and inserted concurrently
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Maximum number of rejected records detailed in the import report
+     */
+    private int maxReportedRejects = 1000;
+}
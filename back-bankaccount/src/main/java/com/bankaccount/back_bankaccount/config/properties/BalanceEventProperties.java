@@ -0,0 +1,32 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Balance event stream configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.balance-events")
+public class BalanceEventProperties {
+
+    /**
+     * Number of events buffered for a subscriber before it is considered too slow and disconnected
+     */
+    private int subscriberBufferSize = 64;
+
+    /**
+     * Maximum number of accounts a single subscription may follow
+     */
+    private int maxAccountsPerSubscription = 50;
+
+    /**
+     * Time after which a subscription is closed; clients reconnect automatically
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,45 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Savings interest accrual configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.interest")
+public class InterestProperties {
+
+    /**
+     * Whether the nightly interest accrual job is scheduled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cron expression of the nightly interest accrual job
+     */
+    private String cron = "0 30 1 * * *";
+
+    /**
+     * Annual savings interest rate in basis points (hundredths of a percent)
+     */
+    private int annualRateBasisPoints = 300;
+
+    /**
+     * Number of days a year of interest is spread over
+     */
+    private int daysInYear = 365;
+
+    /**
+     * Number of account ids credited in a single database transaction
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of chunks credited concurrently
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,29 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+/**
+ * Request path logging configuration properties
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.logging")
+public class LoggingProperties {
+
+    /**
+     * Only one business error out of this many is logged per error code; all of them are counted
+     */
+    @Min(1)
+    private int businessErrorSampleRate = 100;
+
+    /**
+     * Capacity of the event queue of the async-logging profile (read by logback-spring.xml)
+     */
+    private int asyncQueueSize = 8192;
+}
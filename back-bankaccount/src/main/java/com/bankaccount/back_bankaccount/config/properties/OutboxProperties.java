@@ -0,0 +1,42 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Transaction outbox configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether recorded transactions are written to the outbox and relayed downstream
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between the end of a relay run and the start of the next one
+     */
+    private Duration relayDelay = Duration.ofSeconds(1);
+
+    /**
+     * Number of outbox entries delivered to the sink at once
+     */
+    private int batchSize = 500;
+
+    /**
+     * Downstream sink: "file" appends JSON lines to a local file, "memory" keeps them in memory (tests)
+     */
+    private String sink = "file";
+
+    /**
+     * File the file sink appends to
+     */
+    private String file = "outbox/transaction-events.ndjson";
+}
@@ -0,0 +1,37 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Overdraft exposure aggregate configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.overdraft-exposure")
+public class OverdraftExposureProperties {
+
+    /**
+     * Whether the aggregate is periodically reconciled against the stored accounts (it always is at startup)
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between the end of a reconciliation and the start of the next one
+     */
+    private Duration reconciliationDelay = Duration.ofMinutes(5);
+
+    /**
+     * Snapshots tried by a reconciliation before giving up because accounts kept changing meanwhile
+     */
+    private int maxReconciliationAttempts = 5;
+
+    /**
+     * Delay before the second snapshot of a reconciliation, doubled before each following one
+     */
+    private Duration reconciliationRetryDelay = Duration.ofMillis(50);
+}
@@ -0,0 +1,96 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting and load shedding configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests to the bank account API are rate limited and shed under load
+     */
+    private boolean enabled = false;
+
+    /**
+     * Requests a single account number can receive in a burst
+     */
+    private int accountBurst = 20;
+
+    /**
+     * Sustained requests per second a single account number can receive
+     */
+    private double accountRatePerSecond = 10;
+
+    /**
+     * Requests a single client can send in a burst
+     */
+    private int clientBurst = 100;
+
+    /**
+     * Sustained requests per second a single client can send
+     */
+    private double clientRatePerSecond = 50;
+
+    /**
+     * Request header identifying the client, read only on requests from a trusted proxy;
+     * the remote address is used otherwise, or when the header is absent
+     */
+    private String clientIdHeader = "X-Client-Id";
+
+    /**
+     * Remote addresses of the proxies allowed to name the client with the client id header
+     */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    /**
+     * Number of account and client buckets kept per scope; beyond it, the idle ones are evicted
+     * and the keys that still do not fit share one overflow bucket
+     */
+    private int maxTrackedKeys = 100_000;
+
+    /**
+     * Minimum interval between two sweeps of idle buckets once the tracked keys are at their maximum
+     */
+    private Duration evictionInterval = Duration.ofSeconds(1);
+
+    /**
+     * Concurrent requests admitted at startup
+     */
+    private int initialConcurrencyLimit = 64;
+
+    /**
+     * Lowest concurrency limit the adaptive limiter can shrink to
+     */
+    private int minConcurrencyLimit = 4;
+
+    /**
+     * Highest concurrency limit the adaptive limiter can grow to
+     */
+    private int maxConcurrencyLimit = 512;
+
+    /**
+     * p99 request latency above which the concurrency limit is reduced
+     */
+    private Duration latencyThreshold = Duration.ofMillis(250);
+
+    /**
+     * Factor applied to the concurrency limit each time the latency threshold is crossed
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Interval between two adjustments of the concurrency limit
+     */
+    private Duration adjustmentInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,45 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Ledger reconciliation configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * Whether the nightly reconciliation job is scheduled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cron expression of the nightly reconciliation job
+     */
+    private String cron = "0 0 2 * * *";
+
+    /**
+     * Number of account ids verified by a single fork-join leaf task
+     */
+    private int accountsPerTask = 5000;
+
+    /**
+     * Number of account ranges verified concurrently
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Largest difference between two amounts still considered equal
+     */
+    private double tolerance = 0.005;
+
+    /**
+     * Maximum number of discrepancies detailed in the report
+     */
+    private int maxReportedDiscrepancies = 1000;
+}
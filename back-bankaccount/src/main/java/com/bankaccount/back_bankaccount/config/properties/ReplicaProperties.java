@@ -0,0 +1,52 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Read replica configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.replica")
+public class ReplicaProperties {
+
+    /**
+     * Send read-only transactions to the replica database
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica database
+     */
+    private String url;
+
+    /**
+     * Login user of the replica database
+     */
+    private String username = "sa";
+
+    /**
+     * Login password of the replica database
+     */
+    private String password = "";
+
+    /**
+     * Maximum number of connections in the replica pool
+     */
+    private int maxPoolSize = 16;
+
+    /**
+     * Upper bound of the replica lag: reads of an account written less than this long ago use the primary
+     */
+    private Duration maxStaleness = Duration.ofSeconds(5);
+
+    /**
+     * Create the tables of sql/schema.sql on the replica at startup (local replicas only)
+     */
+    private boolean initializeSchema = false;
+}
@@ -0,0 +1,59 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Account sharding configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /**
+     * Store bank accounts and their transactions on the shard databases instead of the main datasource
+     */
+    private boolean enabled = false;
+
+    /**
+     * Shard databases; an account and its transactions live on the shard picked by the hash of its number.
+     * Changing the number of shards moves accounts to other shards.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Maximum number of connections in the pool of each shard
+     */
+    private int maxPoolSize = 8;
+
+    /**
+     * Create the bank_account and transaction tables on each shard at startup, and interleave
+     * their id sequences so that ids are unique across shards
+     */
+    private boolean initializeSchema = true;
+
+    @Data
+    public static class Shard {
+
+        /**
+         * JDBC URL of the shard database
+         */
+        private String url;
+
+        /**
+         * Login user of the shard database
+         */
+        private String username = "sa";
+
+        /**
+         * Login password of the shard database
+         */
+        private String password = "";
+    }
+}
@@ -0,0 +1,32 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Statement read coalescing configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.statement-coalescing")
+public class StatementCoalescingProperties {
+
+    /**
+     * Share one statement computation between concurrent identical statement requests
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long a computed statement keeps answering identical requests, unless its account is written meanwhile
+     */
+    private Duration freshness = Duration.ofMillis(500);
+
+    /**
+     * Number of accounts with remembered statements above which expired ones are swept
+     */
+    private int sweepThreshold = 10_000;
+}
@@ -0,0 +1,46 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Transaction export configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class TransactionExportProperties {
+
+    /**
+     * Whether the incremental transaction export job is scheduled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Cron expression of the transaction export job
+     */
+    private String cron = "0 15 * * * *";
+
+    /**
+     * Directory the export files are written to
+     */
+    private String directory = "export";
+
+    /**
+     * Number of rows encoded together in one columnar row group
+     */
+    private int rowGroupSize = 10000;
+
+    /**
+     * Maximum number of rows written to a single export file
+     */
+    private int maxRowsPerFile = 1_000_000;
+
+    /**
+     * Transactions younger than this many seconds are left to the next run,
+     * so rows of still-open transactions cannot land behind the watermark
+     */
+    private long settleSeconds = 60;
+}
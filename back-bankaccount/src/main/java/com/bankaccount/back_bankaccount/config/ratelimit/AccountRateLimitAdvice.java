@@ -0,0 +1,42 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.adapters.in.rest.BankAccountRestController;
+import com.bankaccount.back_bankaccount.dto.AccountRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Takes a token from the bucket of the account named in a request body, as soon as
+ * the body is read and before the use case runs.
+ */
+@RequiredArgsConstructor
+@ControllerAdvice(assignableTypes = BankAccountRestController.class)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class AccountRateLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private final RequestRateLimiter rateLimiter;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+            Class<? extends HttpMessageConverter<?>> converterType) {
+        return AccountRequest.class.isAssignableFrom(methodParameter.getParameterType());
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+            Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        String accountNumber = ((AccountRequest) body).getAccountNumber();
+        // Missing account numbers are left to bean validation
+        if (accountNumber != null) {
+            rateLimiter.checkAccount(accountNumber);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,125 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.config.properties.RateLimitProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the number of requests in flight, with a limit adapted to the observed latency.
+ * Once per adjustment interval, the first request to complete compares the recent p99
+ * latency with the threshold: above it the limit shrinks multiplicatively, below it the
+ * limit grows by one if it was reached meanwhile (AIMD). Requests beyond the limit are
+ * shed immediately rather than queued behind slow ones.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class AdaptiveConcurrencyLimiter {
+
+    private final RateLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong nextAdjustment;
+    private final long adjustmentIntervalNanos;
+    private final long retryAfterSeconds;
+    private final Timer latency;
+    private final Counter rejections;
+
+    public AdaptiveConcurrencyLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.limit = new AtomicInteger(properties.getInitialConcurrencyLimit());
+        this.adjustmentIntervalNanos = properties.getAdjustmentInterval().toNanos();
+        this.nextAdjustment = new AtomicLong(System.nanoTime() + adjustmentIntervalNanos);
+        this.retryAfterSeconds = Math.max(1, properties.getAdjustmentInterval().toSeconds());
+        this.latency = Timer.builder(BankAccountConstants.METRIC_REQUEST_LATENCY)
+                .publishPercentiles(BankAccountConstants.REQUEST_LATENCY_PERCENTILE)
+                .distributionStatisticExpiry(properties.getAdjustmentInterval()
+                        .multipliedBy(BankAccountConstants.LATENCY_WINDOW_INTERVALS))
+                .distributionStatisticBufferLength(BankAccountConstants.LATENCY_WINDOW_INTERVALS)
+                .register(registry);
+        this.rejections = registry.counter(BankAccountConstants.METRIC_RATE_LIMIT_REJECTED,
+                BankAccountConstants.TAG_SCOPE, BankAccountConstants.SCOPE_CONCURRENCY);
+        registry.gauge(BankAccountConstants.METRIC_CONCURRENCY_LIMIT, limit);
+        registry.gauge(BankAccountConstants.METRIC_CONCURRENCY_IN_FLIGHT, inFlight);
+    }
+
+    /**
+     * Admit a request, or shed it when the limit is reached
+     */
+    public void acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                peakInFlight.accumulateAndGet(current, Math::max);
+                rejections.increment();
+                throw new ServiceOverloadedException(retryAfterSeconds);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and record how long it took
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+        long now = System.nanoTime();
+        long due = nextAdjustment.get();
+        if (now - due >= 0 && nextAdjustment.compareAndSet(due, now + adjustmentIntervalNanos)) {
+            adjust();
+        }
+    }
+
+    /**
+     * Release an admitted request whose response is completed asynchronously (streams, events)
+     */
+    public void releaseUntimed() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    private void adjust() {
+        int current = limit.get();
+        int peak = peakInFlight.getAndSet(inFlight.get());
+        double p99Nanos = p99Nanos();
+        int next = current;
+        if (p99Nanos > properties.getLatencyThreshold().toNanos()) {
+            next = Math.max(properties.getMinConcurrencyLimit(), (int) (current * properties.getBackoffRatio()));
+        } else if (peak >= current) {
+            next = Math.min(properties.getMaxConcurrencyLimit(), current + 1);
+        }
+        if (next != current) {
+            limit.set(next);
+            log.debug("Concurrency limit {} -> {} (p99 {} ms, peak in flight {})", current, next,
+                    p99Nanos / 1_000_000, peak);
+        }
+    }
+
+    private double p99Nanos() {
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == BankAccountConstants.REQUEST_LATENCY_PERCENTILE) {
+                return percentile.value(TimeUnit.NANOSECONDS);
+            }
+        }
+        return 0;
+    }
+}
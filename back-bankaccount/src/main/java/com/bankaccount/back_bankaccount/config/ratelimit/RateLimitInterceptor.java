@@ -0,0 +1,81 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.config.properties.RateLimitProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Admits requests to the bank account API: the client and the account named in the
+ * path must have a token left, then the request must fit under the concurrency limit.
+ * Clients are told apart by their remote address, or by the client id header of the
+ * requests forwarded by a trusted proxy.
+ * Accounts named in request bodies are checked by {@link AccountRateLimitAdvice}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMITTED_AT = RateLimitInterceptor.class.getName() + ".admittedAt";
+
+    private final RequestRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RateLimitProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The asynchronous dispatch of a streamed response was admitted with its initial request
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        rateLimiter.checkClient(clientId(request));
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null && pathVariables.containsKey(BankAccountConstants.ACCOUNT_NUMBER)) {
+            rateLimiter.checkAccount(pathVariables.get(BankAccountConstants.ACCOUNT_NUMBER));
+        }
+        concurrencyLimiter.acquire();
+        request.setAttribute(ADMITTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // A stream may stay open for minutes: it stops counting once the request thread is released
+        if (request.getAttribute(ADMITTED_AT) != null) {
+            request.removeAttribute(ADMITTED_AT);
+            concurrencyLimiter.releaseUntimed();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object admittedAt = request.getAttribute(ADMITTED_AT);
+        if (admittedAt != null) {
+            request.removeAttribute(ADMITTED_AT);
+            concurrencyLimiter.release(System.nanoTime() - (long) admittedAt);
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        // Anyone can send the header: only a trusted proxy gets to name the client
+        String remoteAddress = request.getRemoteAddr();
+        if (!properties.getTrustedProxies().contains(remoteAddress)) {
+            return remoteAddress;
+        }
+        String clientId = request.getHeader(properties.getClientIdHeader());
+        return clientId != null && !clientId.isBlank() ? clientId : remoteAddress;
+    }
+}
@@ -0,0 +1,113 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.config.properties.RateLimitProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket rate limits per account number and per client.
+ * Buckets are created on first use and only the idle, refilled ones are evicted, so a busy
+ * key never loses its state. Once as many keys as configured are tracked, idle buckets are
+ * swept at most once per eviction interval, and new keys that still do not fit share one
+ * overflow bucket per scope: a flood of distinct keys neither grows the tables nor gets
+ * more than one key's rate.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RequestRateLimiter {
+
+    private final RateLimitProperties properties;
+    private final BucketTable accountBuckets;
+    private final BucketTable clientBuckets;
+    private final Counter accountRejections;
+    private final Counter clientRejections;
+
+    public RequestRateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        long now = System.nanoTime();
+        this.accountBuckets = new BucketTable(
+                new TokenBucket(properties.getAccountBurst(), properties.getAccountRatePerSecond(), now), now);
+        this.clientBuckets = new BucketTable(
+                new TokenBucket(properties.getClientBurst(), properties.getClientRatePerSecond(), now), now);
+        registry.gaugeMapSize(BankAccountConstants.METRIC_RATE_LIMIT_BUCKETS,
+                Tags.of(BankAccountConstants.TAG_SCOPE, BankAccountConstants.SCOPE_ACCOUNT), accountBuckets.buckets);
+        registry.gaugeMapSize(BankAccountConstants.METRIC_RATE_LIMIT_BUCKETS,
+                Tags.of(BankAccountConstants.TAG_SCOPE, BankAccountConstants.SCOPE_CLIENT), clientBuckets.buckets);
+        this.accountRejections = registry.counter(BankAccountConstants.METRIC_RATE_LIMIT_REJECTED,
+                BankAccountConstants.TAG_SCOPE, BankAccountConstants.SCOPE_ACCOUNT);
+        this.clientRejections = registry.counter(BankAccountConstants.METRIC_RATE_LIMIT_REJECTED,
+                BankAccountConstants.TAG_SCOPE, BankAccountConstants.SCOPE_CLIENT);
+    }
+
+    /**
+     * Take a token from the bucket of an account number, or reject the request
+     */
+    public void checkAccount(String accountNumber) {
+        check(accountBuckets, accountNumber, properties.getAccountBurst(), properties.getAccountRatePerSecond(),
+                accountRejections);
+    }
+
+    /**
+     * Take a token from the bucket of a client, or reject the request
+     */
+    public void checkClient(String clientId) {
+        check(clientBuckets, clientId, properties.getClientBurst(), properties.getClientRatePerSecond(),
+                clientRejections);
+    }
+
+    private void check(BucketTable table, String key, int burst, double ratePerSecond, Counter rejections) {
+        long now = System.nanoTime();
+        TokenBucket bucket = table.buckets.get(key);
+        if (bucket == null) {
+            bucket = table.admit(key, burst, ratePerSecond, now);
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            rejections.increment();
+            throw new RateLimitExceededException(Math.ceilDiv(waitNanos, TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+
+    /**
+     * Buckets of one scope, bounded by the number of tracked keys
+     */
+    private final class BucketTable {
+
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow;
+        private final AtomicLong nextEvictionAt;
+
+        private BucketTable(TokenBucket overflow, long now) {
+            this.overflow = overflow;
+            this.nextEvictionAt = new AtomicLong(now);
+        }
+
+        private TokenBucket admit(String key, int burst, double ratePerSecond, long now) {
+            if (buckets.size() >= properties.getMaxTrackedKeys()) {
+                evictIdle(now);
+                if (buckets.size() >= properties.getMaxTrackedKeys()) {
+                    return overflow;
+                }
+            }
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(burst, ratePerSecond, now));
+        }
+
+        private void evictIdle(long now) {
+            // One thread sweeps per interval while the others carry on
+            long evictionAt = nextEvictionAt.get();
+            if (now - evictionAt >= 0 && nextEvictionAt.compareAndSet(evictionAt,
+                    now + properties.getEvictionInterval().toNanos())) {
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as the single instant at which it will be full again
+ * (generic cell rate algorithm). Taking a token pushes that instant one emission
+ * interval further with one compare-and-set; the bucket is empty once it lies more
+ * than a burst of intervals ahead of now.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int burst, double ratePerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstWindowNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take a token, returning 0, or the nanoseconds until one is available when the bucket is empty
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - nowNanos, 0) + nowNanos + emissionIntervalNanos;
+            long wait = next - nowNanos - burstWindowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has refilled completely, i.e. it was not used for a while
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
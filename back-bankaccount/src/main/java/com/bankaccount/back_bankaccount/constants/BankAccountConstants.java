@@ -10,20 +10,134 @@ public class BankAccountConstants {
     public static final String DEPOSIT_CURRENT_LABEL = "Dépôt sur compte courant";
     public static final String WITHDRAWAL_LABEL = "Retrait";
     public static final String DEPOSIT_SAVINGS_LABEL = "Dépôt sur livret d'épargne";
+    public static final String SAVINGS_INTEREST_LABEL = "Intérêts du livret d'épargne";
+    public static final String SAVINGS_TRANSFER_OUT_LABEL = "Virement vers le compte courant";
+    public static final String CURRENT_TRANSFER_IN_LABEL = "Virement depuis le livret d'épargne";
 
     public static final String ACCOUNT_NUMBER = "accountNumber";
+    public static final String FROM = "from";
+    public static final String TO = "to";
+    public static final String PAGE = "page";
+    public static final String SIZE = "size";
+    public static final String TYPE = "type";
+
+    // Statement
+    public static final int STATEMENT_DEFAULT_WINDOW_DAYS = 30;
+    public static final int STATEMENT_MAX_PAGE_SIZE = 200;
+
+    // Metrics
+    public static final String METRIC_USE_CASE = "bankaccount.usecase";
+    public static final String METRIC_USE_CASE_PHASE = "bankaccount.usecase.phase";
+    public static final String METRIC_REQUEST_DB_CALLS = "bankaccount.request.db.calls";
+    public static final String METRIC_BUSINESS_ERRORS = "bankaccount.business.errors";
+    public static final String METRIC_ACCOUNT_FILTER_REJECTIONS = "bankaccount.account.filter.rejections";
+    public static final String BALANCE_EVENT_NAME = "balance";
+    public static final String METRIC_BALANCE_EVENT_SUBSCRIBERS = "bankaccount.balance.events.subscribers";
+    public static final String METRIC_BALANCE_EVENT_DROPPED_SUBSCRIBERS = "bankaccount.balance.events.dropped.subscribers";
+    public static final String METRIC_OUTBOX_DELIVERED = "bankaccount.outbox.delivered";
+    public static final String METRIC_OUTBOX_FAILURES = "bankaccount.outbox.failures";
+    public static final String METRIC_OUTBOX_BATCH = "bankaccount.outbox.batch";
+    public static final String METRIC_OUTBOX_PENDING = "bankaccount.outbox.pending";
+    public static final String METRIC_OUTBOX_LAG = "bankaccount.outbox.lag";
+    public static final String METRIC_DATASOURCE_ROUTE = "bankaccount.datasource.route";
+    public static final String METRIC_RATE_LIMIT_BUCKETS = "bankaccount.ratelimit.buckets";
+    public static final String METRIC_RATE_LIMIT_REJECTED = "bankaccount.ratelimit.rejected";
+    public static final String METRIC_CONCURRENCY_LIMIT = "bankaccount.concurrency.limit";
+    public static final String METRIC_CONCURRENCY_IN_FLIGHT = "bankaccount.concurrency.inflight";
+    public static final String METRIC_REQUEST_LATENCY = "bankaccount.request.latency";
+    public static final String METRIC_STATEMENT_READS = "bankaccount.statement.reads";
+    public static final String METRIC_OVERDRAFT_NEGATIVE_BALANCES = "bankaccount.overdraft.negative.balances";
+    public static final String METRIC_OVERDRAFT_LIMITS = "bankaccount.overdraft.limits";
+    public static final String METRIC_OVERDRAFT_ACCOUNTS = "bankaccount.overdraft.accounts";
+    public static final String METRIC_OVERDRAFT_RECONCILIATIONS = "bankaccount.overdraft.reconciliations";
+    public static final String TAG_TARGET = "target";
+    public static final String TAG_SCOPE = "scope";
+    public static final String TAG_USE_CASE = "usecase";
+    public static final String TAG_PHASE = "phase";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_CODE = "code";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_URI = "uri";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_COMPUTED = "computed";
+    public static final String OUTCOME_SHARED = "shared";
+    public static final String OUTCOME_CONSISTENT = "consistent";
+    public static final String OUTCOME_CORRECTED = "corrected";
+    public static final String OUTCOME_SKIPPED = "skipped";
+    public static final String URI_UNKNOWN = "UNKNOWN";
+    public static final String REQUEST_DB_CALLS_ATTRIBUTE = "bankaccount.request.db.calls";
+    public static final String DATA_SOURCE_BEAN = "dataSource";
+    public static final String USE_CASE_GET_ALL_ACCOUNTS = "get-all-accounts";
+    public static final String USE_CASE_GET_ACCOUNTS_BY_TYPE = "get-accounts-by-type";
+    public static final String USE_CASE_DEPOSIT = "deposit";
+    public static final String USE_CASE_WITHDRAW = "withdraw";
+    public static final String USE_CASE_SET_OVERDRAFT = "set-overdraft";
+    public static final String USE_CASE_DEPOSIT_SAVINGS = "deposit-savings";
+    public static final String USE_CASE_TRANSFER_FROM_SAVINGS = "transfer-from-savings";
+    public static final String USE_CASE_GET_STATEMENT = "get-statement";
+    public static final String USE_CASE_STREAM_STATEMENT = "stream-statement";
 
     // Error messages
     public static final String INSUFFICIENT_BALANCE_ERROR = "Insufficient balance for withdrawal";
     public static final String OVERDRAFT_LIMIT_INVALID_ERROR = "Overdraft limit must be between 0 and 300";
     public static final String SAVINGS_OVERDRAFT_ERROR = "Savings accounts cannot have overdraft";
     public static final String SAVINGS_AT_CAPACITY_ERROR = "Savings account is at maximum capacity";
+    public static final String INSUFFICIENT_SAVINGS_ERROR = "Insufficient savings balance";
+    public static final String SAVINGS_LIMIT_EXCEEDED_ERROR = "Savings balance must be between 0 and the deposit limit";
+    public static final String BALANCE_REQUIRED_MESSAGE = "Balance is required";
 
     // Account types
     public static final String ACCOUNT_TYPE_SAVINGS_AND_CURRENT = "Compte Courant + Livret d'épargne";
     public static final String ACCOUNT_TYPE_SAVINGS = "Livret d'épargne";
     public static final String ACCOUNT_TYPE_CURRENT = "Compte Courant";
 
+    // Account defaults
+    public static final String SAVINGS_ACCOUNT_PREFIX = "SAV-";
+    public static final Double DEFAULT_SAVINGS_DEPOSIT_LIMIT = 22950.0; // Livret A limit
+
+    // Bulk import
+    public static final String IMPORT_ID = "importId";
+    public static final String MEDIA_TYPE_TEXT_CSV = "text/csv";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    public static final String CSV_SEPARATOR = ",";
+    public static final String CSV_HEADER_PREFIX = "accountNumber";
+    public static final String IMPORT_ACCOUNT_EXISTS_MESSAGE = "Account already exists";
+    public static final String IMPORT_MALFORMED_RECORD_MESSAGE = "Malformed record: ";
+    public static final String IMPORT_CHUNK_FAILED_MESSAGE = "Chunk could not be committed: ";
+    public static final String IMPORT_CHUNK_SIZE_CHANGED_ERROR = "Import was started with a different chunk size";
+
+    // Rate limiting and load shedding
+    public static final String SCOPE_ACCOUNT = "account";
+    public static final String SCOPE_CLIENT = "client";
+    public static final String SCOPE_CONCURRENCY = "concurrency";
+    public static final double REQUEST_LATENCY_PERCENTILE = 0.99;
+    public static final int LATENCY_WINDOW_INTERVALS = 3;
+
+    // Savings interest
+    public static final int BASIS_POINTS_PER_UNIT = 10_000;
+    public static final String NEGATIVE_INTEREST_RATE_MESSAGE = "Interest rate cannot be negative: ";
+    public static final String INTEREST_CHUNK_SIZE_CHANGED_ERROR =
+            "Interest accrual for this date was started with a different chunk size";
+
+    // Sharding and replicas
+    public static final String SCHEMA_SCRIPT = "sql/schema.sql";
+    public static final String SHARD_POOL_NAME_PREFIX = "shard-";
+    public static final String REPLICA_POOL_NAME = "replica";
+    public static final String NO_SHARDS_CONFIGURED_ERROR = "Sharding is enabled but no shard is configured";
+    public static final String SHARDED_OUTBOX_UNSUPPORTED_ERROR =
+            "The transaction outbox lives on the main datasource and cannot be enabled together with sharding";
+
+    // Startup
+    public static final String PRODUCTION_PROFILE = "prod";
+    public static final int STARTUP_STEP_CAPACITY = 4096;
+    public static final String AOT_BUILD_CONDITIONS_RESOURCE = "META-INF/aot-build-conditions.properties";
+    public static final String AOT_BUILD_CONDITIONS_MISMATCH_ERROR =
+            "The AOT bean definitions were generated for another configuration, rebuild the image for it: ";
+
+    // Transaction export
+    public static final String TRANSACTION_EXPORT_NAME = "transactions";
+    public static final String TRANSACTION_EXPORT_FILE_PATTERN = "transactions-%s-%d.txcol.gz";
+
     // Validation messages
     public static final String ACCOUNT_NUMBER_REQUIRED_MESSAGE = "Account number is required";
     public static final String AMOUNT_REQUIRED_MESSAGE = "Amount is required";
@@ -32,10 +146,20 @@ public class BankAccountConstants {
     // Exception messages
     public static final String ACCOUNT_NOT_FOUND_MESSAGE = "Account not found: ";
     public static final String INSUFFICIENT_BALANCE_MESSAGE = "Insufficient balance. Available: %.2f, Requested: %.2f";
+    public static final String INVALID_STATEMENT_PERIOD_MESSAGE = "Statement period start must be before its end";
+    public static final String INVALID_SUBSCRIPTION_MESSAGE = "A subscription must name between 1 and this many accounts: ";
+    public static final String RATE_LIMITED_MESSAGE = "Too many requests, please retry later";
+    public static final String SERVICE_OVERLOADED_MESSAGE = "The service is overloaded, please retry later";
+    public static final String CONCURRENT_UPDATE_MESSAGE = "The account was modified concurrently, please retry";
 
     // Error codes
     public static final String ERROR_CODE_INSUFFICIENT_BALANCE = "INSUFFICIENT_BALANCE";
     public static final String ERROR_CODE_ACCOUNT_NOT_FOUND = "ACCOUNT_NOT_FOUND";
+    public static final String ERROR_CODE_INVALID_STATEMENT_PERIOD = "INVALID_STATEMENT_PERIOD";
+    public static final String ERROR_CODE_CONCURRENT_UPDATE = "CONCURRENT_UPDATE";
+    public static final String ERROR_CODE_INVALID_SUBSCRIPTION = "INVALID_SUBSCRIPTION";
+    public static final String ERROR_CODE_RATE_LIMITED = "RATE_LIMITED";
+    public static final String ERROR_CODE_SERVICE_OVERLOADED = "SERVICE_OVERLOADED";
     public static final String ERROR_CODE_INTERNAL_ERROR = "INTERNAL_ERROR";
 
     // Error messages for responses
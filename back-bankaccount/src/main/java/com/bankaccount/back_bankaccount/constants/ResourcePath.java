@@ -13,6 +13,10 @@ public class ResourcePath {
     public static final String PATH_CASH_WITHDRAWAL = BankAccountConstants.SLASH + "cash-withdrawal";
     public static final String PATH_OVERDRAFT = BankAccountConstants.SLASH + "overdraft";
     public static final String PATH_SAVINGS_DEPOSIT = BankAccountConstants.SLASH + "savings-deposit";
+    public static final String PATH_SAVINGS_TRANSFER = BankAccountConstants.SLASH + "savings-transfer";
     public static final String PATH_STATEMENT = BankAccountConstants.SLASH + "statement";
+    public static final String PATH_EVENTS = BankAccountConstants.SLASH + "events";
+    public static final String PATH_IMPORT = BankAccountConstants.SLASH + "import";
     public static final String PATH_STATEMENT_BY_ACCOUNT = PATH_STATEMENT + BankAccountConstants.SLASH + "{accountNumber}";
+    public static final String PATH_STATEMENT_STREAM = PATH_STATEMENT_BY_ACCOUNT + BankAccountConstants.SLASH + "stream";
 }
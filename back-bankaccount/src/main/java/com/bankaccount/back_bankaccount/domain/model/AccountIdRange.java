@@ -0,0 +1,19 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pure domain model for an inclusive range of bank account ids.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountIdRange {
+
+    private long fromId;
+    private long toId;
+}
@@ -0,0 +1,9 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+/**
+ * Domain enum for the supported account import file formats.
+ */
+public enum AccountImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,20 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pure domain model for an imported record that was not inserted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportReject {
+
+    private long lineNumber;
+    private String accountNumber;
+    private String reason;
+}
@@ -0,0 +1,29 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Pure domain model summarising one run of a bulk account import.
+ * Only the first rejects are kept in detail, all of them are counted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportReport {
+
+    private String importId;
+    private long totalRecords;
+    private long imported;
+    private long rejected;
+    private long committedChunks;
+    private long resumedChunks;
+    private long durationMillis;
+    private double recordsPerSecond;
+    private List<AccountImportReject> rejects;
+}
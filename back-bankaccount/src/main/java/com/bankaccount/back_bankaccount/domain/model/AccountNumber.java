@@ -0,0 +1,87 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Pure domain value object for an account number.
+ * Parsed once at the edge of the application, it carries its hash codes and
+ * whether it designates a savings account, so neither is recomputed downstream.
+ */
+public final class AccountNumber implements Comparable<AccountNumber> {
+
+    private final String value;
+    private final int hash;
+    private final boolean savings;
+    private final long longHash;
+
+    private AccountNumber(String value) {
+        this.value = value;
+        this.hash = value.hashCode();
+        this.savings = value.regionMatches(true, 0, BankAccountConstants.SAVINGS_ACCOUNT_PREFIX, 0,
+                BankAccountConstants.SAVINGS_ACCOUNT_PREFIX.length());
+        this.longHash = longHash(value);
+    }
+
+    /**
+     * Parse an account number, rejecting null or blank values
+     */
+    public static AccountNumber of(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE);
+        }
+        return new AccountNumber(value);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Business rule: savings account numbers start with "SAV-", whatever the case
+     */
+    public boolean isSavings() {
+        return savings;
+    }
+
+    /**
+     * Well-mixed 64-bit hash of the value, for probabilistic structures such as Bloom filters
+     */
+    public long longHash() {
+        return longHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof AccountNumber other && hash == other.hash && value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public int compareTo(AccountNumber other) {
+        return value.compareTo(other.value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    // 64-bit FNV-1a finished with the MurmurHash3 mixer
+    private static long longHash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import lombok.Getter;
+
+/**
+ * Domain enum for account types.
+ * Contains the business rule deriving the type from the account balances.
+ */
+@Getter
+public enum AccountType {
+    CURRENT(BankAccountConstants.ACCOUNT_TYPE_CURRENT),
+    SAVINGS(BankAccountConstants.ACCOUNT_TYPE_SAVINGS),
+    SAVINGS_AND_CURRENT(BankAccountConstants.ACCOUNT_TYPE_SAVINGS_AND_CURRENT);
+
+    private final String label;
+
+    AccountType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Business rule: Determine account type from the current and savings balances
+     */
+    public static AccountType of(Double balance, Double savingsBalance) {
+        boolean hasSavings = savingsBalance != null && savingsBalance > 0;
+        boolean hasCurrentBalance = balance != null && balance != 0;
+
+        if (hasSavings && hasCurrentBalance) {
+            return SAVINGS_AND_CURRENT;
+        } else if (hasSavings) {
+            return SAVINGS;
+        } else {
+            return CURRENT;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pure domain model for a balance change.
+ * Balances of an account right after a recorded transaction.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceChange {
+
+    private AccountNumber accountNumber;
+    private Double balance;
+    private Double savingsBalance;
+    private Transaction transaction;
+}
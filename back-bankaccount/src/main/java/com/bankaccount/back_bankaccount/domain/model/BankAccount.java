@@ -17,11 +17,13 @@ import lombok.NoArgsConstructor;
 public class BankAccount {
     
     private Long id;
-    private String accountNumber;
+    private AccountNumber accountNumber;
     private Double balance;
     private Double overdraftLimit;
     private Double savingsBalance;
     private Double savingsDepositLimit;
+    private AccountType accountType;
+    private Long version;
 
     /**
      * Business rule: Check if account can withdraw amount
@@ -40,6 +42,7 @@ public class BankAccount {
             throw new IllegalStateException(BankAccountConstants.INSUFFICIENT_BALANCE_ERROR);
         }
         this.balance -= amount;
+        refreshAccountType();
     }
 
     /**
@@ -47,14 +50,14 @@ public class BankAccount {
      */
     public void deposit(Double amount) {
         this.balance += amount;
+        refreshAccountType();
     }
 
     /**
      * Business rule: Check if account is a savings account
      */
     public boolean isSavingsAccount() {
-        return this.accountNumber != null && 
-               this.accountNumber.toUpperCase().startsWith("SAV-");
+        return this.accountNumber != null && this.accountNumber.isSavings();
     }
 
     /**
@@ -91,23 +94,68 @@ public class BankAccount {
         Double depositAmount = Math.min(amount, availableSpace);
         Double currentSavings = this.savingsBalance != null ? this.savingsBalance : 0.0;
         this.savingsBalance = currentSavings + depositAmount;
+        refreshAccountType();
         
         return depositAmount;
     }
 
     /**
-     * Business rule: Determine account type
+     * Business rule: Check if savings hold enough to transfer amount to the current balance
      */
-    public String getAccountType() {
-        boolean hasSavings = this.savingsBalance != null && this.savingsBalance > 0;
-        boolean hasCurrentBalance = this.balance != null && this.balance != 0;
-        
-        if (hasSavings && hasCurrentBalance) {
-            return BankAccountConstants.ACCOUNT_TYPE_SAVINGS_AND_CURRENT;
-        } else if (hasSavings) {
-            return BankAccountConstants.ACCOUNT_TYPE_SAVINGS;
-        } else {
-            return BankAccountConstants.ACCOUNT_TYPE_CURRENT;
+    public boolean canTransferFromSavings(Double amount) {
+        Double currentSavings = this.savingsBalance != null ? this.savingsBalance : 0.0;
+        return currentSavings >= amount;
+    }
+
+    /**
+     * Business rule: Move amount from savings to the current balance
+     */
+    public void transferFromSavings(Double amount) {
+        if (!canTransferFromSavings(amount)) {
+            throw new IllegalStateException(BankAccountConstants.INSUFFICIENT_SAVINGS_ERROR);
+        }
+        this.savingsBalance -= amount;
+        this.balance += amount;
+        refreshAccountType();
+    }
+
+    /**
+     * Business rule: Check an account created from external data is consistent
+     */
+    public void validate() {
+        if (this.accountNumber == null) {
+            throw new IllegalArgumentException(BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE);
+        }
+        if (this.balance == null) {
+            throw new IllegalArgumentException(BankAccountConstants.BALANCE_REQUIRED_MESSAGE);
         }
+        // Checked in place: setOverdraft rejects savings accounts whatever the limit, even 0
+        if (this.overdraftLimit == null || this.overdraftLimit < 0 || this.overdraftLimit > 300) {
+            throw new IllegalArgumentException(BankAccountConstants.OVERDRAFT_LIMIT_INVALID_ERROR);
+        }
+        if (isSavingsAccount() && this.overdraftLimit != 0) {
+            throw new IllegalStateException(BankAccountConstants.SAVINGS_OVERDRAFT_ERROR);
+        }
+        if (!canWithdraw(0.0)) {
+            throw new IllegalStateException(BankAccountConstants.INSUFFICIENT_BALANCE_ERROR);
+        }
+        Double currentSavings = this.savingsBalance != null ? this.savingsBalance : 0.0;
+        if (currentSavings < 0 || getSavingsAvailableSpace() < 0) {
+            throw new IllegalStateException(BankAccountConstants.SAVINGS_LIMIT_EXCEEDED_ERROR);
+        }
+        refreshAccountType();
+    }
+
+    /**
+     * Business rule: Determine account type.
+     * The type is stored with the account and refreshed on each balance change;
+     * it is only derived here for accounts built without one.
+     */
+    public AccountType getAccountType() {
+        return this.accountType != null ? this.accountType : AccountType.of(this.balance, this.savingsBalance);
+    }
+
+    private void refreshAccountType() {
+        this.accountType = AccountType.of(this.balance, this.savingsBalance);
     }
 }
@@ -0,0 +1,17 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+/**
+ * Domain enum for the inconsistencies detected by the ledger reconciliation.
+ */
+public enum DiscrepancyType {
+    /** A current-account transaction does not follow from the previous balance_after */
+    BALANCE_CHAIN_BROKEN,
+    /** A savings transaction does not follow from the previous savings balance_after */
+    SAVINGS_CHAIN_BROKEN,
+    /** The stored balance differs from the last current-account balance_after */
+    BALANCE_MISMATCH,
+    /** The stored savings balance differs from the last savings balance_after */
+    SAVINGS_BALANCE_MISMATCH,
+    /** Transactions reference an account number that does not exist */
+    ORPHAN_TRANSACTIONS
+}
@@ -0,0 +1,22 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pure domain model for the position of the last exported transaction.
+ * Transactions are exported in (transactionDate, id) order, so this pair is a total watermark.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportWatermark {
+
+    private LocalDateTime transactionDate;
+    private Long transactionId;
+}
@@ -0,0 +1,28 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Pure domain model for the outcome of a savings interest accrual run.
+ * Chunks already committed by an earlier run for the same date are skipped
+ * and counted as resumed; failed chunks are picked up by the next run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrualReport {
+
+    private LocalDate accrualDate;
+    private long durationMillis;
+    private long committedChunks;
+    private long resumedChunks;
+    private long failedChunks;
+    private long accountsCredited;
+    private double totalInterest;
+}
@@ -0,0 +1,60 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Pure domain value object for an annual interest rate, held in basis points.
+ * Interest is computed on whole cents with integer arithmetic, so accruing the
+ * same balance always yields the same amount whatever the floating point path.
+ */
+public final class InterestRate {
+
+    private final int basisPoints;
+
+    private InterestRate(int basisPoints) {
+        this.basisPoints = basisPoints;
+    }
+
+    /**
+     * Rate of a number of hundredths of a percent, e.g. 300 for 3%
+     */
+    public static InterestRate ofBasisPoints(int basisPoints) {
+        if (basisPoints < 0) {
+            throw new IllegalArgumentException(BankAccountConstants.NEGATIVE_INTEREST_RATE_MESSAGE + basisPoints);
+        }
+        return new InterestRate(basisPoints);
+    }
+
+    public int basisPoints() {
+        return basisPoints;
+    }
+
+    /**
+     * Business rule: one day of interest on a balance, in cents, rounded half to even
+     */
+    public long dailyInterestCents(long balanceCents, int daysInYear) {
+        long numerator = Math.multiplyExact(balanceCents, (long) basisPoints);
+        long denominator = (long) BankAccountConstants.BASIS_POINTS_PER_UNIT * daysInYear;
+        long quotient = Math.floorDiv(numerator, denominator);
+        long twiceRemainder = 2 * Math.floorMod(numerator, denominator);
+        if (twiceRemainder > denominator || (twiceRemainder == denominator && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof InterestRate other && basisPoints == other.basisPoints);
+    }
+
+    @Override
+    public int hashCode() {
+        return basisPoints;
+    }
+
+    @Override
+    public String toString() {
+        return basisPoints + "bp";
+    }
+}
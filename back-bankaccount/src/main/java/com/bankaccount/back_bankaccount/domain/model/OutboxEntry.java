@@ -0,0 +1,23 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pure domain model for a transaction waiting in the outbox.
+ * Recorded with the transaction itself and removed once delivered downstream.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEntry {
+
+    private Long id;
+    private LocalDateTime createdAt;
+    private Transaction transaction;
+}
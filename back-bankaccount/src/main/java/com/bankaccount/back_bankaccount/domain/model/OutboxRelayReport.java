@@ -0,0 +1,23 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pure domain model for the outcome of one outbox relay run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayReport {
+
+    private long delivered;
+    private int batches;
+    private boolean failed;
+    private long pending;
+    private long lagMillis;
+    private long durationMillis;
+}
@@ -0,0 +1,25 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pure domain model of the overdraft exposure over all accounts.
+ * Amounts are whole cents: each account's contribution is rounded once, so
+ * totals kept up to date change by change equal totals summed from scratch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdraftExposure {
+
+    private long negativeBalanceCents;
+    private long overdraftLimitCents;
+    private long overdrawnAccounts;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,22 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pure domain model for one inconsistency found between an account and its transactions.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationDiscrepancy {
+
+    private String accountNumber;
+    private DiscrepancyType type;
+    private Long transactionId;
+    private Double expected;
+    private Double actual;
+}
@@ -0,0 +1,27 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pure domain model summarising a ledger reconciliation run.
+ * Only the first discrepancies are kept in detail, all of them are counted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationReport {
+
+    private LocalDateTime startedAt;
+    private long durationMillis;
+    private long accountsChecked;
+    private long transactionsChecked;
+    private long discrepancyCount;
+    private List<ReconciliationDiscrepancy> discrepancies;
+}
@@ -18,10 +18,14 @@ import java.util.List;
 @AllArgsConstructor
 public class Statement {
     
-    private String accountNumber;
-    private String accountType;
+    private AccountNumber accountNumber;
+    private AccountType accountType;
     private Double currentBalance;
     private Double savingsBalance;
     private LocalDateTime statementDate;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private int page;
+    private boolean hasMore;
     private List<Transaction> transactions;
 }
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Pure domain model for Transaction.
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class Transaction {
     
     private Long id;
-    private String accountNumber;
+    private AccountNumber accountNumber;
     private LocalDateTime transactionDate;
     private TransactionType type;
     private Double amount;
@@ -27,7 +28,7 @@ public class Transaction {
     /**
      * Factory method to create a deposit transaction
      */
-    public static Transaction createDeposit(String accountNumber, Double amount, Double balanceAfter) {
+    public static Transaction createDeposit(AccountNumber accountNumber, Double amount, Double balanceAfter) {
         return Transaction.builder()
                 .accountNumber(accountNumber)
                 .transactionDate(LocalDateTime.now())
@@ -40,7 +41,7 @@ public class Transaction {
     /**
      * Factory method to create a withdrawal transaction
      */
-    public static Transaction createWithdrawal(String accountNumber, Double amount, Double balanceAfter) {
+    public static Transaction createWithdrawal(AccountNumber accountNumber, Double amount, Double balanceAfter) {
         return Transaction.builder()
                 .accountNumber(accountNumber)
                 .transactionDate(LocalDateTime.now())
@@ -53,7 +54,7 @@ public class Transaction {
     /**
      * Factory method to create a savings deposit transaction
      */
-    public static Transaction createSavingsDeposit(String accountNumber, Double amount, Double balanceAfter) {
+    public static Transaction createSavingsDeposit(AccountNumber accountNumber, Double amount, Double balanceAfter) {
         return Transaction.builder()
                 .accountNumber(accountNumber)
                 .transactionDate(LocalDateTime.now())
@@ -62,4 +63,42 @@ public class Transaction {
                 .balanceAfter(balanceAfter)
                 .build();
     }
+
+    /**
+     * Factory method to create a savings interest transaction, posted at the time of its accrual run
+     */
+    public static Transaction createSavingsInterest(AccountNumber accountNumber, Double amount, Double balanceAfter,
+            LocalDateTime postedAt) {
+        return Transaction.builder()
+                .accountNumber(accountNumber)
+                .transactionDate(postedAt)
+                .type(TransactionType.SAVINGS_INTEREST)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .build();
+    }
+
+    /**
+     * Factory method to create both legs of a transfer from savings to the current balance:
+     * the savings leg first, then the current one, at the same instant
+     */
+    public static List<Transaction> createTransferFromSavings(AccountNumber accountNumber, Double amount,
+            Double balanceAfter, Double savingsBalanceAfter) {
+        LocalDateTime now = LocalDateTime.now();
+        return List.of(
+                Transaction.builder()
+                        .accountNumber(accountNumber)
+                        .transactionDate(now)
+                        .type(TransactionType.SAVINGS_TRANSFER_OUT)
+                        .amount(-amount)  // Negative for the savings side
+                        .balanceAfter(savingsBalanceAfter)
+                        .build(),
+                Transaction.builder()
+                        .accountNumber(accountNumber)
+                        .transactionDate(now)
+                        .type(TransactionType.CURRENT_TRANSFER_IN)
+                        .amount(amount)
+                        .balanceAfter(balanceAfter)
+                        .build());
+    }
 }
@@ -0,0 +1,23 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Pure domain model summarising one incremental transaction export run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionExportReport {
+
+    private List<String> files;
+    private long rows;
+    private long durationMillis;
+    private ExportWatermark watermark;
+}
@@ -0,0 +1,23 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Pure domain model for a bounded page of transactions.
+ * Tells the caller whether older transactions remain in the requested period.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPage {
+
+    private List<Transaction> transactions;
+    private int page;
+    private boolean hasMore;
+}
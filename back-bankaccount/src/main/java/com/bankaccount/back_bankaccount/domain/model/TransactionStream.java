@@ -0,0 +1,15 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Pure domain model for a lazily read sequence of transactions.
+ * Nothing is read until forEach is called; rows are then handed to the
+ * consumer one at a time, so a slow consumer slows the read down instead of
+ * letting rows pile up in memory.
+ */
+@FunctionalInterface
+public interface TransactionStream {
+
+    void forEach(Consumer<Transaction> consumer);
+}
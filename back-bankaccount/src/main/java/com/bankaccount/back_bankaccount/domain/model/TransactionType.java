@@ -11,11 +11,21 @@ import lombok.Getter;
 public enum TransactionType {
     DEPOSIT_CURRENT(BankAccountConstants.DEPOSIT_CURRENT_LABEL),
     WITHDRAWAL(BankAccountConstants.WITHDRAWAL_LABEL),
-    DEPOSIT_SAVINGS(BankAccountConstants.DEPOSIT_SAVINGS_LABEL);
+    DEPOSIT_SAVINGS(BankAccountConstants.DEPOSIT_SAVINGS_LABEL),
+    SAVINGS_INTEREST(BankAccountConstants.SAVINGS_INTEREST_LABEL),
+    SAVINGS_TRANSFER_OUT(BankAccountConstants.SAVINGS_TRANSFER_OUT_LABEL),
+    CURRENT_TRANSFER_IN(BankAccountConstants.CURRENT_TRANSFER_IN_LABEL);
 
     private final String label;
 
     TransactionType(String label) {
         this.label = label;
     }
+
+    /**
+     * Business rule: Check if balance_after refers to the savings balance rather than the current one
+     */
+    public boolean isSavingsMovement() {
+        return this == DEPOSIT_SAVINGS || this == SAVINGS_INTEREST || this == SAVINGS_TRANSFER_OUT;
+    }
 }
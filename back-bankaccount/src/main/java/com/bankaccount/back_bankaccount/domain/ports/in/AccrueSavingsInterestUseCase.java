@@ -0,0 +1,17 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.InterestAccrualReport;
+
+import java.time.LocalDate;
+
+/**
+ * Input port for crediting one day of interest to every savings balance.
+ * This is a use case interface (primary port).
+ */
+public interface AccrueSavingsInterestUseCase {
+
+    /**
+     * Accrue the interest of a day; running it again for the same day credits nothing twice
+     */
+    InterestAccrualReport accrue(LocalDate accrualDate);
+}
@@ -1,5 +1,6 @@
 package com.bankaccount.back_bankaccount.domain.ports.in;
 
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 
 /**
@@ -7,5 +8,5 @@ import com.bankaccount.back_bankaccount.domain.model.BankAccount;
  * This is a use case interface (primary port).
  */
 public interface DepositToSavingsUseCase {
-    BankAccount depositToSavings(String accountNumber, Double amount);
+    BankAccount depositToSavings(AccountNumber accountNumber, Double amount);
 }
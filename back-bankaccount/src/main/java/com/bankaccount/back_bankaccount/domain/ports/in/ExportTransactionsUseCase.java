@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.TransactionExportReport;
+
+/**
+ * Input port for exporting the transactions recorded since the last export.
+ * This is a use case interface (primary port).
+ */
+public interface ExportTransactionsUseCase {
+    TransactionExportReport exportNewTransactions();
+}
@@ -1,5 +1,6 @@
 package com.bankaccount.back_bankaccount.domain.ports.in;
 
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 
 import java.util.List;
@@ -10,4 +11,6 @@ import java.util.List;
  */
 public interface GetAllAccountsUseCase {
     List<BankAccount> getAllAccounts();
+
+    List<BankAccount> getAccountsByType(AccountType accountType);
 }
@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+
+/**
+ * Input port for reading the overdraft exposure without scanning the accounts.
+ * This is a use case interface (primary port).
+ */
+public interface GetOverdraftExposureUseCase {
+    OverdraftExposure getOverdraftExposure();
+}
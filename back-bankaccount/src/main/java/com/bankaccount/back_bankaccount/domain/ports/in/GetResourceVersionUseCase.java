@@ -0,0 +1,22 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Input port for reading the version of account and statement reads,
+ * used to answer conditional requests without building the response.
+ * This is a use case interface (primary port).
+ */
+public interface GetResourceVersionUseCase {
+
+    String getAccountsVersion(AccountType accountType);
+
+    /**
+     * Empty when no version can be given and the statement must be built (unknown account, invalid period)
+     */
+    Optional<String> getStatementVersion(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to);
+}
@@ -1,11 +1,30 @@
 package com.bankaccount.back_bankaccount.domain.ports.in;
 
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
 import com.bankaccount.back_bankaccount.domain.model.Statement;
+import com.bankaccount.back_bankaccount.domain.model.TransactionStream;
+
+import java.time.LocalDateTime;
 
 /**
  * Input port for getting account statement.
  * This is a use case interface (primary port).
  */
 public interface GetStatementUseCase {
-    Statement getStatement(String accountNumber);
+
+    /**
+     * Statement over the default sliding window (last 30 days), first page
+     */
+    Statement getStatement(AccountNumber accountNumber);
+
+    /**
+     * Statement over [from, to), newest first, one bounded page at a time
+     */
+    Statement getStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to, int page, int size);
+
+    /**
+     * All transactions of [from, to), newest first, read as they are consumed.
+     * The account and period are checked before the stream is returned.
+     */
+    TransactionStream streamStatement(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to);
 }
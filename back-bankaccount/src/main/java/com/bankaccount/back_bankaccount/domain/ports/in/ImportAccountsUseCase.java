@@ -0,0 +1,15 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReport;
+
+import java.io.InputStream;
+
+/**
+ * Input port for bulk importing bank accounts from a file.
+ * Running again with the same import id resumes after the chunks already committed.
+ * This is a use case interface (primary port).
+ */
+public interface ImportAccountsUseCase {
+    AccountImportReport importAccounts(String importId, AccountImportFormat format, InputStream input);
+}
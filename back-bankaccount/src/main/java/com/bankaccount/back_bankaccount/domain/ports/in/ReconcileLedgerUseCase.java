@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationReport;
+
+/**
+ * Input port for checking stored balances against the transaction history.
+ * This is a use case interface (primary port).
+ */
+public interface ReconcileLedgerUseCase {
+    ReconciliationReport reconcile();
+}
@@ -0,0 +1,11 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+
+/**
+ * Input port for correcting the overdraft exposure against the stored accounts.
+ * This is a use case interface (primary port).
+ */
+public interface ReconcileOverdraftExposureUseCase {
+    OverdraftExposure reconcile();
+}
@@ -0,0 +1,15 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.OutboxRelayReport;
+
+/**
+ * Input port for delivering the outbox of recorded transactions downstream.
+ * This is a use case interface (primary port).
+ */
+public interface RelayTransactionEventsUseCase {
+
+    /**
+     * Deliver pending outbox entries in batches, oldest first, until the outbox is drained or delivery fails
+     */
+    OutboxRelayReport relayPendingEvents();
+}
@@ -0,0 +1,12 @@
+package com.bankaccount.back_bankaccount.domain.ports.in;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+
+/**
+ * Input port for moving money from the savings balance back to the current balance.
+ * This is a use case interface (primary port).
+ */
+public interface TransferFromSavingsUseCase {
+    BankAccount transferFromSavings(AccountNumber accountNumber, Double amount);
+}
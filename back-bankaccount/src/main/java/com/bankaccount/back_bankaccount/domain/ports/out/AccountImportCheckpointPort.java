@@ -0,0 +1,20 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import java.util.Set;
+
+/**
+ * Output port for bulk import progress.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface AccountImportCheckpointPort {
+
+    /**
+     * Find the indexes of the chunks already committed for an import
+     */
+    Set<Long> findCommittedChunks(String importId, int chunkSize);
+
+    /**
+     * Record a chunk as committed, in the same transaction as its accounts
+     */
+    void markChunkCommitted(String importId, long chunkIndex, int chunkSize, int imported, int rejected);
+}
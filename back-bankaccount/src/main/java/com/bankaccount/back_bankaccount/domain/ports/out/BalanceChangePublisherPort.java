@@ -0,0 +1,13 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+
+/**
+ * Output port for publishing balance changes to live subscribers.
+ * A change published inside a transaction is delivered only once it commits.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface BalanceChangePublisherPort {
+
+    void publish(BalanceChange change);
+}
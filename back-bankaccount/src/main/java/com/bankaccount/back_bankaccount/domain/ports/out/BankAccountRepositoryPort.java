@@ -1,9 +1,13 @@
 package com.bankaccount.back_bankaccount.domain.ports.out;
 
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Output port for bank account persistence.
@@ -15,14 +19,29 @@ public interface BankAccountRepositoryPort {
      * Find all bank accounts
      */
     List<BankAccount> findAll();
+
+    /**
+     * Find bank accounts of the given type
+     */
+    List<BankAccount> findByAccountType(AccountType accountType);
     
     /**
      * Find bank account by account number
      */
-    Optional<BankAccount> findByAccountNumber(String accountNumber);
+    Optional<BankAccount> findByAccountNumber(AccountNumber accountNumber);
     
     /**
      * Save or update a bank account
      */
     BankAccount save(BankAccount account);
+
+    /**
+     * Insert new bank accounts in a single batch
+     */
+    void saveAll(List<BankAccount> accounts);
+
+    /**
+     * Find which of the given account numbers already exist
+     */
+    Set<AccountNumber> findExistingAccountNumbers(Collection<AccountNumber> accountNumbers);
 }
@@ -0,0 +1,22 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.ExportWatermark;
+
+import java.util.Optional;
+
+/**
+ * Output port for export progress.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface ExportWatermarkPort {
+
+    /**
+     * Find the last exported position of an export, empty before its first run
+     */
+    Optional<ExportWatermark> find(String exportName);
+
+    /**
+     * Save the last exported position of an export
+     */
+    void save(String exportName, ExportWatermark watermark);
+}
@@ -0,0 +1,45 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.ExportWatermark;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Output port for streaming reads over the whole ledger.
+ * Rows are pushed to the consumer one by one, never loaded as a whole.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface LedgerReadPort {
+
+    /**
+     * Find the lowest and highest bank account ids, empty when there is no account
+     */
+    Optional<AccountIdRange> findAccountIdRange();
+
+    /**
+     * Stream the bank accounts whose id is in the range
+     */
+    void streamAccounts(AccountIdRange range, Consumer<BankAccount> consumer);
+
+    /**
+     * Stream the transactions of the accounts in the range, ordered by account number then date
+     */
+    void streamTransactions(AccountIdRange range, Consumer<Transaction> consumer);
+
+    /**
+     * Stream the transactions after a watermark (all of them when null) and before a date,
+     * ordered by date then id
+     */
+    void streamTransactionsAfter(ExportWatermark after, LocalDateTime before, Consumer<Transaction> consumer);
+
+    /**
+     * Find account numbers referenced by transactions but missing from bank_account
+     */
+    List<String> findOrphanTransactionAccountNumbers(int limit);
+}
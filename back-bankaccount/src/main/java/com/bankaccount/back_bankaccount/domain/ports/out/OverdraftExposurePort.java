@@ -0,0 +1,21 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+
+/**
+ * Output port summing the overdraft exposure over every stored account.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface OverdraftExposurePort {
+
+    /**
+     * Fix the snapshot of the current repeatable-read transaction with a cheap read,
+     * so that the following scan sees the accounts as they were at this point
+     */
+    void beginSnapshot();
+
+    /**
+     * Exposure of all accounts, read in one scan; reconciledAt is left unset
+     */
+    OverdraftExposure sumOverdraftExposure();
+}
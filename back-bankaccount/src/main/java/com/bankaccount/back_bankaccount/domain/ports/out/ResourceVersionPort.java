@@ -0,0 +1,26 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Output port reading version tokens of API resources.
+ * A token changes whenever the data the resource is built from changes, and
+ * is much cheaper to read than the resource itself.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface ResourceVersionPort {
+
+    /**
+     * Version of the account list, or of the accounts of one type when accountType is not null
+     */
+    String findAccountsVersion(AccountType accountType);
+
+    /**
+     * Version of an account's statement over [from, to), empty if the account does not exist
+     */
+    Optional<String> findStatementVersion(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to);
+}
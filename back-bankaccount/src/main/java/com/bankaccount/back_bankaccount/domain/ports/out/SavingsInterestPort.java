@@ -0,0 +1,38 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountIdRange;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Output port for the savings interest accrual batch.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface SavingsInterestPort {
+
+    /**
+     * Smallest and largest id of the accounts holding savings, empty when there are none
+     */
+    Optional<AccountIdRange> findSavingsAccountIdRange();
+
+    /**
+     * Find the first account id of the chunks already credited for a date
+     */
+    Set<Long> findCreditedChunks(LocalDate accrualDate, int chunkSize);
+
+    /**
+     * Lock the accounts of an id range holding savings, until the current transaction ends
+     */
+    List<BankAccount> lockSavingsAccounts(AccountIdRange chunk);
+
+    /**
+     * Credit the interest transactions to their savings balances and record the chunk as credited,
+     * in the same transaction as the lock
+     */
+    void creditInterest(LocalDate accrualDate, AccountIdRange chunk, int chunkSize, List<Transaction> interest);
+}
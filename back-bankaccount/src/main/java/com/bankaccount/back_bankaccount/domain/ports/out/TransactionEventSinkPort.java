@@ -0,0 +1,19 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Output port delivering recorded transactions to downstream systems.
+ * Delivery is at least once: a batch may be delivered again after a failure,
+ * so consumers deduplicate on the transaction id.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface TransactionEventSinkPort {
+
+    /**
+     * Deliver a batch durably, or throw so that it is retried
+     */
+    void deliver(List<Transaction> transactions);
+}
@@ -0,0 +1,37 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+
+/**
+ * Output port for writing exported transactions to files.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface TransactionExportPort {
+
+    /**
+     * Open a new export file; nothing is visible under its name until it is committed
+     */
+    ExportFile open(String fileName);
+
+    /**
+     * An export file being written
+     */
+    interface ExportFile extends AutoCloseable {
+
+        /**
+         * Append a transaction, in export order
+         */
+        void append(Transaction transaction);
+
+        /**
+         * Flush the remaining rows and publish the file under its final name
+         */
+        void commit();
+
+        /**
+         * Discard the file unless it was committed
+         */
+        @Override
+        void close();
+    }
+}
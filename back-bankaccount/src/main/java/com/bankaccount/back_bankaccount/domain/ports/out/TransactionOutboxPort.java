@@ -0,0 +1,36 @@
+package com.bankaccount.back_bankaccount.domain.ports.out;
+
+import com.bankaccount.back_bankaccount.domain.model.OutboxEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for reading and clearing the transaction outbox.
+ * Entries are written by the transaction persistence adapter, in the same
+ * database transaction as the transaction they announce.
+ * This is a secondary port that will be implemented by infrastructure adapters.
+ */
+public interface TransactionOutboxPort {
+
+    /**
+     * Find the oldest pending entries, in insertion order
+     */
+    List<OutboxEntry> findOldest(int limit);
+
+    /**
+     * Remove delivered entries
+     */
+    void delete(List<Long> ids);
+
+    /**
+     * Count pending entries
+     */
+    long countPending();
+
+    /**
+     * Creation time of the oldest pending entry
+     */
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
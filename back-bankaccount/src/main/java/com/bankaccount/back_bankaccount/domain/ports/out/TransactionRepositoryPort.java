@@ -1,9 +1,12 @@
 package com.bankaccount.back_bankaccount.domain.ports.out;
 
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
 import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionPage;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Output port for transaction persistence.
@@ -15,9 +18,21 @@ public interface TransactionRepositoryPort {
      * Save a transaction
      */
     Transaction save(Transaction transaction);
+
+    /**
+     * Save several transactions in a single batch, returning them with their ids in the same order
+     */
+    List<Transaction> saveAll(List<Transaction> transactions);
     
     /**
-     * Find transactions by account number after a specific date
+     * Find one page of transactions of an account in [from, to), newest first
+     */
+    TransactionPage findByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to,
+            int page, int size);
+
+    /**
+     * Stream all transactions of an account in [from, to), newest first, without materialising them
      */
-    List<Transaction> findByAccountNumberAndDateAfter(String accountNumber, LocalDateTime date);
+    void streamByAccountNumberAndDateBetween(AccountNumber accountNumber, LocalDateTime from, LocalDateTime to,
+            Consumer<Transaction> consumer);
 }
@@ -0,0 +1,16 @@
+package com.bankaccount.back_bankaccount.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportRejectDto {
+    private long lineNumber;
+    private String accountNumber;
+    private String reason;
+}
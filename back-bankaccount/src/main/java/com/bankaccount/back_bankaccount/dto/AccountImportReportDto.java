@@ -0,0 +1,24 @@
+package com.bankaccount.back_bankaccount.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountImportReportDto {
+    private String importId;
+    private long totalRecords;
+    private long imported;
+    private long rejected;
+    private long committedChunks;
+    private long resumedChunks;
+    private long durationMillis;
+    private double recordsPerSecond;
+    private List<AccountImportRejectDto> rejects;
+}
@@ -0,0 +1,9 @@
+package com.bankaccount.back_bankaccount.dto;
+
+/**
+ * Request DTO operating on a single account
+ */
+public interface AccountRequest {
+
+    String getAccountNumber();
+}
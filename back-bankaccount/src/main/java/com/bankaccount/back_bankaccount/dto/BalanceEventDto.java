@@ -0,0 +1,17 @@
+package com.bankaccount.back_bankaccount.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceEventDto {
+    private String accountNumber;
+    private Double balance;
+    private Double savingsBalance;
+    private TransactionDto transaction;
+}
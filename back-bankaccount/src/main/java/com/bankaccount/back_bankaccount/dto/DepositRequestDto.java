@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class DepositRequestDto implements Serializable {
+public class DepositRequestDto implements AccountRequest, Serializable {
 
     @NotBlank(message = BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE)
     private String accountNumber;
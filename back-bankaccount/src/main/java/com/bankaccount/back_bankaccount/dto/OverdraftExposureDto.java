@@ -0,0 +1,19 @@
+package com.bankaccount.back_bankaccount.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdraftExposureDto {
+    private double negativeBalanceTotal;
+    private double overdraftLimitTotal;
+    private long overdrawnAccounts;
+    private LocalDateTime reconciledAt;
+}
@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class OverdraftRequestDto implements Serializable {
+public class OverdraftRequestDto implements AccountRequest, Serializable {
 
     private String accountNumber;
     private Double overdraftLimit; // Max 300€
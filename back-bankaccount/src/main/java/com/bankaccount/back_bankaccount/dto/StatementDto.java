@@ -18,5 +18,9 @@ public class StatementDto {
     private Double currentBalance;
     private Double savingsBalance;
     private LocalDateTime statementDate;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private int page;
+    private boolean hasMore;
     private List<TransactionDto> transactions;
 }
\ No newline at end of file
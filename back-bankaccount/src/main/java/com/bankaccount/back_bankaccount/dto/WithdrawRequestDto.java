@@ -18,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class WithdrawRequestDto implements Serializable {
+public class WithdrawRequestDto implements AccountRequest, Serializable {
 
     @NotBlank(message = BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE)
     private String accountNumber;
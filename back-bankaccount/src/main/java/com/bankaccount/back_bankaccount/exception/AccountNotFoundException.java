@@ -5,7 +5,7 @@ import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
 /**
  * Exception thrown when a bank account is not found
  */
-public class AccountNotFoundException extends RuntimeException {
+public class AccountNotFoundException extends BusinessException {
 
     public AccountNotFoundException(String accountNumber) {
         super(BankAccountConstants.ACCOUNT_NOT_FOUND_MESSAGE + accountNumber);
@@ -0,0 +1,17 @@
+package com.bankaccount.back_bankaccount.exception;
+
+/**
+ * Base class of the expected business rejections (unknown account, declined withdrawal...).
+ * They are thrown on high-frequency paths and always mapped to an error response, so they
+ * skip stack trace capture and suppression tracking.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -1,22 +1,29 @@
 package com.bankaccount.back_bankaccount.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import com.bankaccount.back_bankaccount.config.logging.BusinessErrorLogSampler;
 import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final BusinessErrorLogSampler businessErrorLogSampler;
+
     @ExceptionHandler(InsufficientBalanceException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponse> handleInsufficientBalanceException(InsufficientBalanceException ex) {
-        log.warn("Insufficient balance error: {}", ex.getMessage());
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_INSUFFICIENT_BALANCE, ex);
         ErrorResponse errorResponse = new ErrorResponse(
             BankAccountConstants.ERROR_CODE_INSUFFICIENT_BALANCE,
             ex.getMessage()
@@ -27,7 +34,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(AccountNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<ErrorResponse> handleAccountNotFoundException(AccountNotFoundException ex) {
-        log.warn("Account not found error: {}", ex.getMessage());
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_ACCOUNT_NOT_FOUND, ex);
         ErrorResponse errorResponse = new ErrorResponse(
             BankAccountConstants.ERROR_CODE_ACCOUNT_NOT_FOUND,
             ex.getMessage()
@@ -35,6 +42,65 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidStatementPeriodException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleInvalidStatementPeriodException(InvalidStatementPeriodException ex) {
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_INVALID_STATEMENT_PERIOD, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+            BankAccountConstants.ERROR_CODE_INVALID_STATEMENT_PERIOD,
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidSubscriptionException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleInvalidSubscriptionException(InvalidSubscriptionException ex) {
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_INVALID_SUBSCRIPTION, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+            BankAccountConstants.ERROR_CODE_INVALID_SUBSCRIPTION,
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_RATE_LIMITED, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+            BankAccountConstants.ERROR_CODE_RATE_LIMITED,
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_SERVICE_OVERLOADED, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+            BankAccountConstants.ERROR_CODE_SERVICE_OVERLOADED,
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        businessErrorLogSampler.log(BankAccountConstants.ERROR_CODE_CONCURRENT_UPDATE, ex);
+        ErrorResponse errorResponse = new ErrorResponse(
+            BankAccountConstants.ERROR_CODE_CONCURRENT_UPDATE,
+            BankAccountConstants.CONCURRENT_UPDATE_MESSAGE
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
@@ -0,0 +1,13 @@
+package com.bankaccount.back_bankaccount.exception;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Exception thrown when a statement is requested over an empty or reversed period
+ */
+public class InvalidStatementPeriodException extends BusinessException {
+
+    public InvalidStatementPeriodException() {
+        super(BankAccountConstants.INVALID_STATEMENT_PERIOD_MESSAGE);
+    }
+}
@@ -0,0 +1,17 @@
+package com.bankaccount.back_bankaccount.exception;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Exception thrown when a balance event subscription names no account, a blank account or too many accounts
+ */
+public class InvalidSubscriptionException extends BusinessException {
+
+    public InvalidSubscriptionException(int maxAccounts) {
+        super(BankAccountConstants.INVALID_SUBSCRIPTION_MESSAGE + maxAccounts);
+    }
+
+    public InvalidSubscriptionException(String message) {
+        super(message);
+    }
+}
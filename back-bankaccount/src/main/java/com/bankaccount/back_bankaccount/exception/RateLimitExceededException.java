@@ -0,0 +1,20 @@
+package com.bankaccount.back_bankaccount.exception;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Exception thrown when an account or a client has used up its request budget
+ */
+public class RateLimitExceededException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(BankAccountConstants.RATE_LIMITED_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
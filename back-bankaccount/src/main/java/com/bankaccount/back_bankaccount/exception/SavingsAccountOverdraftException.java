@@ -2,7 +2,7 @@ package com.bankaccount.back_bankaccount.exception;
 
 import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
 
-public class SavingsAccountOverdraftException extends RuntimeException {
+public class SavingsAccountOverdraftException extends BusinessException {
     
     public SavingsAccountOverdraftException() {
         super(BankAccountConstants.SAVINGS_OVERDRAFT_ERROR);
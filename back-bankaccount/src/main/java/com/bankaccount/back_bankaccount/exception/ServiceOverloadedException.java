@@ -0,0 +1,20 @@
+package com.bankaccount.back_bankaccount.exception;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+
+/**
+ * Exception thrown when a request is shed because the concurrency limit is reached
+ */
+public class ServiceOverloadedException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(long retryAfterSeconds) {
+        super(BankAccountConstants.SERVICE_OVERLOADED_MESSAGE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,8 +1,8 @@
 -- Sample bank accounts for testing
 -- This file is automatically executed by Spring Boot on application startup
 
-INSERT INTO bank_account (account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit) 
-VALUES ('ACC001-001', 2500.50, 300.0, 500.00, 22950.0);
+INSERT INTO bank_account (account_number, balance, overdraft_limit, savings_balance, savings_deposit_limit, account_type) 
+VALUES ('ACC001-001', 2500.50, 300.0, 500.00, 22950.0, 'SAVINGS_AND_CURRENT');
 
 -- Sample transactions for testing
 INSERT INTO transaction (account_number, transaction_date, type, amount, balance_after)
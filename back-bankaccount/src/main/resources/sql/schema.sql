@@ -8,9 +8,14 @@ CREATE TABLE IF NOT EXISTS bank_account (
     balance DOUBLE NOT NULL,
     overdraft_limit DOUBLE NOT NULL DEFAULT 0.0,
     savings_balance DOUBLE NOT NULL DEFAULT 0.0,
-    savings_deposit_limit DOUBLE NOT NULL DEFAULT 22950.0
+    savings_deposit_limit DOUBLE NOT NULL DEFAULT 22950.0,
+    account_type VARCHAR(32) NOT NULL DEFAULT 'CURRENT',
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+-- Index used to list accounts by type
+CREATE INDEX IF NOT EXISTS idx_bank_account_type ON bank_account (account_type);
+
 -- Create sequence for transaction id
 CREATE SEQUENCE IF NOT EXISTS transaction_id_seq;
 
@@ -22,4 +27,47 @@ CREATE TABLE IF NOT EXISTS transaction (
     type VARCHAR(50) NOT NULL,
     amount DOUBLE NOT NULL,
     balance_after DOUBLE NOT NULL
-);
\ No newline at end of file
+);
+
+-- Statements scan one account over a date range
+CREATE INDEX IF NOT EXISTS idx_transaction_account_date ON transaction (account_number, transaction_date);
+
+-- Create account_import_chunk table (bulk import checkpoints)
+CREATE TABLE IF NOT EXISTS account_import_chunk (
+    import_id VARCHAR(64) NOT NULL,
+    chunk_index BIGINT NOT NULL,
+    chunk_size INT NOT NULL,
+    imported INT NOT NULL,
+    rejected INT NOT NULL,
+    PRIMARY KEY (import_id, chunk_index)
+);
+
+-- Create interest_accrual_chunk table (savings interest accrual checkpoints)
+CREATE TABLE IF NOT EXISTS interest_accrual_chunk (
+    accrual_date DATE NOT NULL,
+    chunk_start BIGINT NOT NULL,
+    chunk_size INT NOT NULL,
+    accounts_credited INT NOT NULL,
+    interest DOUBLE NOT NULL,
+    PRIMARY KEY (accrual_date, chunk_start)
+);
+
+-- Exports read the ledger in (transaction_date, id) order from their watermark
+CREATE INDEX IF NOT EXISTS idx_transaction_date_id ON transaction (transaction_date, id);
+
+-- Create export_watermark table (last exported position per export)
+CREATE TABLE IF NOT EXISTS export_watermark (
+    export_name VARCHAR(64) PRIMARY KEY,
+    last_transaction_date TIMESTAMP NOT NULL,
+    last_transaction_id BIGINT NOT NULL
+);
+
+-- Create sequence for transaction_outbox id
+CREATE SEQUENCE IF NOT EXISTS transaction_outbox_id_seq;
+
+-- Create transaction_outbox table (transactions waiting to be delivered downstream)
+CREATE TABLE IF NOT EXISTS transaction_outbox (
+    id BIGINT DEFAULT NEXTVAL('transaction_outbox_id_seq') PRIMARY KEY,
+    transaction_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
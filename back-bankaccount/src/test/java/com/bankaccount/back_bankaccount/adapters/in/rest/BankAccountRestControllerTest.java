@@ -2,6 +2,9 @@ package com.bankaccount.back_bankaccount.adapters.in.rest;
 
 import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.BankAccountDtoMapper;
 import com.bankaccount.back_bankaccount.adapters.in.rest.mapper.StatementDtoMapper;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import com.bankaccount.back_bankaccount.domain.model.Statement;
 import com.bankaccount.back_bankaccount.domain.ports.in.*;
@@ -16,11 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +41,8 @@ import static org.mockito.Mockito.*;
 class BankAccountRestControllerTest {
 
     private static final String ACC_001 = "ACC-001";
+    private static final AccountNumber ACC_001_NUMBER = AccountNumber.of(ACC_001);
+    private static final String VERSION = "1-2a-2a-3";
 
     @InjectMocks
     private BankAccountRestController controller;
@@ -55,6 +65,9 @@ class BankAccountRestControllerTest {
     @Mock
     private GetStatementUseCase getStatementUseCase;
 
+    @Mock
+    private GetResourceVersionUseCase getResourceVersionUseCase;
+
     @Mock
     private BankAccountDtoMapper accountMapper;
 
@@ -68,7 +81,7 @@ class BankAccountRestControllerTest {
     void setUp() {
         account = BankAccount.builder()
                 .id(1L)
-                .accountNumber(ACC_001)
+                .accountNumber(ACC_001_NUMBER)
                 .balance(100.0)
                 .overdraftLimit(50.0)
                 .savingsBalance(0.0)
@@ -91,19 +104,36 @@ class BankAccountRestControllerTest {
         List<BankAccount> accounts = List.of(account);
         List<BankAccountDto> dtos = List.of(accountDto);
 
+        when(getResourceVersionUseCase.getAccountsVersion(null)).thenReturn(VERSION);
         when(getAllAccountsUseCase.getAllAccounts()).thenReturn(accounts);
         when(accountMapper.toDtoList(accounts)).thenReturn(dtos);
 
         // When
-        ResponseEntity<List<BankAccountDto>> response = controller.getAllBankAccounts();
+        ResponseEntity<List<BankAccountDto>> response = controller.getAllBankAccounts(null, webRequest(null));
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + VERSION + "\"");
         verify(getAllAccountsUseCase).getAllAccounts();
         verify(accountMapper).toDtoList(accounts);
     }
 
+    @Test
+    void should_not_load_accounts_when_client_version_is_current() {
+        // Given
+        ServletWebRequest webRequest = webRequest("\"" + VERSION + "\"");
+        when(getResourceVersionUseCase.getAccountsVersion(null)).thenReturn(VERSION);
+
+        // When
+        ResponseEntity<List<BankAccountDto>> response = controller.getAllBankAccounts(null, webRequest);
+
+        // Then
+        assertThat(response).isNull();
+        assertThat(webRequest.getResponse().getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verifyNoInteractions(getAllAccountsUseCase, accountMapper);
+    }
+
     @Test
     void should_deposit_money() {
         // Given
@@ -113,7 +143,7 @@ class BankAccountRestControllerTest {
                 .build();
 
         BankAccount updatedAccount = BankAccount.builder()
-                .accountNumber(ACC_001)
+                .accountNumber(ACC_001_NUMBER)
                 .balance(150.0)
                 .build();
 
@@ -122,7 +152,7 @@ class BankAccountRestControllerTest {
                 .balance(150.0)
                 .build();
 
-        when(depositMoneyUseCase.deposit(ACC_001, 50.0)).thenReturn(updatedAccount);
+        when(depositMoneyUseCase.deposit(ACC_001_NUMBER, 50.0)).thenReturn(updatedAccount);
         when(accountMapper.toDto(updatedAccount)).thenReturn(updatedDto);
 
         // When
@@ -131,7 +161,7 @@ class BankAccountRestControllerTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getBalance()).isEqualTo(150.0);
-        verify(depositMoneyUseCase).deposit(ACC_001, 50.0);
+        verify(depositMoneyUseCase).deposit(ACC_001_NUMBER, 50.0);
     }
 
     @Test
@@ -143,7 +173,7 @@ class BankAccountRestControllerTest {
                 .build();
 
         BankAccount updatedAccount = BankAccount.builder()
-                .accountNumber(ACC_001)
+                .accountNumber(ACC_001_NUMBER)
                 .balance(70.0)
                 .build();
 
@@ -152,7 +182,7 @@ class BankAccountRestControllerTest {
                 .balance(70.0)
                 .build();
 
-        when(withdrawMoneyUseCase.withdraw(ACC_001, 30.0)).thenReturn(updatedAccount);
+        when(withdrawMoneyUseCase.withdraw(ACC_001_NUMBER, 30.0)).thenReturn(updatedAccount);
         when(accountMapper.toDto(updatedAccount)).thenReturn(updatedDto);
 
         // When
@@ -161,7 +191,7 @@ class BankAccountRestControllerTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getBalance()).isEqualTo(70.0);
-        verify(withdrawMoneyUseCase).withdraw(ACC_001, 30.0);
+        verify(withdrawMoneyUseCase).withdraw(ACC_001_NUMBER, 30.0);
     }
 
     @Test
@@ -173,7 +203,7 @@ class BankAccountRestControllerTest {
                 .build();
 
         BankAccount updatedAccount = BankAccount.builder()
-                .accountNumber(ACC_001)
+                .accountNumber(ACC_001_NUMBER)
                 .overdraftLimit(200.0)
                 .build();
 
@@ -182,7 +212,7 @@ class BankAccountRestControllerTest {
                 .overdraftLimit(200.0)
                 .build();
 
-        when(setOverdraftLimitUseCase.setOverdraftLimit(ACC_001, 200.0)).thenReturn(updatedAccount);
+        when(setOverdraftLimitUseCase.setOverdraftLimit(ACC_001_NUMBER, 200.0)).thenReturn(updatedAccount);
         when(accountMapper.toDto(updatedAccount)).thenReturn(updatedDto);
 
         // When
@@ -191,7 +221,7 @@ class BankAccountRestControllerTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getOverdraftLimit()).isEqualTo(200.0);
-        verify(setOverdraftLimitUseCase).setOverdraftLimit(ACC_001, 200.0);
+        verify(setOverdraftLimitUseCase).setOverdraftLimit(ACC_001_NUMBER, 200.0);
     }
 
     @Test
@@ -203,7 +233,7 @@ class BankAccountRestControllerTest {
                 .build();
 
         BankAccount updatedAccount = BankAccount.builder()
-                .accountNumber(ACC_001)
+                .accountNumber(ACC_001_NUMBER)
                 .savingsBalance(1000.0)
                 .build();
 
@@ -212,7 +242,7 @@ class BankAccountRestControllerTest {
                 .savingsBalance(1000.0)
                 .build();
 
-        when(depositToSavingsUseCase.depositToSavings(ACC_001, 1000.0)).thenReturn(updatedAccount);
+        when(depositToSavingsUseCase.depositToSavings(ACC_001_NUMBER, 1000.0)).thenReturn(updatedAccount);
         when(accountMapper.toDto(updatedAccount)).thenReturn(updatedDto);
 
         // When
@@ -221,15 +251,15 @@ class BankAccountRestControllerTest {
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getSavingsBalance()).isEqualTo(1000.0);
-        verify(depositToSavingsUseCase).depositToSavings(ACC_001, 1000.0);
+        verify(depositToSavingsUseCase).depositToSavings(ACC_001_NUMBER, 1000.0);
     }
 
     @Test
     void should_get_statement() {
         // Given
         Statement statement = Statement.builder()
-                .accountNumber(ACC_001)
-                .accountType("Compte Courant")
+                .accountNumber(ACC_001_NUMBER)
+                .accountType(AccountType.CURRENT)
                 .currentBalance(100.0)
                 .savingsBalance(0.0)
                 .statementDate(LocalDateTime.now())
@@ -245,15 +275,28 @@ class BankAccountRestControllerTest {
                 .transactions(List.of())
                 .build();
 
-        when(getStatementUseCase.getStatement(ACC_001)).thenReturn(statement);
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        when(getResourceVersionUseCase.getStatementVersion(ACC_001_NUMBER, from, to)).thenReturn(Optional.of(VERSION));
+        when(getStatementUseCase.getStatement(ACC_001_NUMBER, from, to, 0, BankAccountConstants.STATEMENT_MAX_PAGE_SIZE))
+                .thenReturn(statement);
         when(statementMapper.toDto(statement)).thenReturn(statementDto);
 
         // When
-        ResponseEntity<StatementDto> response = controller.getStatement(ACC_001);
+        ResponseEntity<StatementDto> response = controller.getStatement(ACC_001, from, to, 0, null, webRequest(null));
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody().getAccountNumber()).isEqualTo(ACC_001);
-        verify(getStatementUseCase).getStatement(ACC_001);
+        verify(getStatementUseCase).getStatement(ACC_001_NUMBER, from, to, 0, BankAccountConstants.STATEMENT_MAX_PAGE_SIZE);
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bank-accounts");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 }
@@ -0,0 +1,50 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AccountNumberBloomFilter.
+ */
+class AccountNumberBloomFilterTest {
+
+    private static final int ACCOUNTS = 100_000;
+
+    @Test
+    void mightContain_shouldNeverMissAnAddedAccountNumber() {
+        // Given
+        AccountNumberBloomFilter filter = new AccountNumberBloomFilter(ACCOUNTS, 0.01);
+
+        // When
+        for (int i = 0; i < ACCOUNTS; i++) {
+            filter.put(AccountNumber.of("ACC" + i));
+        }
+
+        // Then
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertThat(filter.mightContain(AccountNumber.of("ACC" + i))).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_shouldRejectMostUnknownAccountNumbers() {
+        // Given
+        AccountNumberBloomFilter filter = new AccountNumberBloomFilter(ACCOUNTS, 0.01);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            filter.put(AccountNumber.of("ACC" + i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            if (filter.mightContain(AccountNumber.of("UNKNOWN" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat((double) falsePositives / ACCOUNTS).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bankaccount.back_bankaccount.adapters.out.persistence;
+
+import com.bankaccount.back_bankaccount.config.properties.AccountFilterProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountNumberIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountNumberIndexTest {
+
+    private static final AccountNumber SCANNED = AccountNumber.of("ACC-001");
+    private static final AccountNumber INSERTED_DURING_SCAN = AccountNumber.of("ACC-002");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final AccountFilterProperties properties = new AccountFilterProperties();
+    private AccountNumberIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setExpectedAccounts(1_000);
+        index = new AccountNumberIndex(properties, jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void should_keep_accounts_inserted_while_the_filter_is_built() {
+        // Given - the scan sees one row, another one is inserted meanwhile but committed after it
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+        doAnswer(invocation -> {
+            index.add(INSERTED_DURING_SCAN);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        // When
+        index.build();
+
+        // Then
+        assertThat(index.mightExist(INSERTED_DURING_SCAN)).isTrue();
+        assertThat(index.mightExist(AccountNumber.of("NO-SUCH-ACCOUNT"))).isFalse();
+    }
+
+    @Test
+    void should_let_every_account_through_when_disabled() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        index.build();
+
+        // Then
+        assertThat(index.mightExist(SCANNED)).isTrue();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
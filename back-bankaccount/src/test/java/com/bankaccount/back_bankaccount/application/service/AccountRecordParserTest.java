@@ -0,0 +1,53 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AccountRecordParser.
+ */
+class AccountRecordParserTest {
+
+    private final AccountRecordParser parser = new AccountRecordParser(JsonMapper.builder().build());
+
+    @Test
+    void should_parse_csv_and_ndjson_records() {
+        // When
+        BankAccount fromCsv = parser.parse(AccountImportFormat.CSV, "IMP001,100.5,50,10");
+        BankAccount fromJson = parser.parse(AccountImportFormat.NDJSON,
+                "{\"accountNumber\":\"IMP002\",\"balance\":100.5,\"savingsBalance\":10}");
+
+        // Then
+        assertThat(fromCsv.getBalance()).isEqualTo(100.5);
+        assertThat(fromCsv.getOverdraftLimit()).isEqualTo(50.0);
+        assertThat(fromCsv.getSavingsBalance()).isEqualTo(10.0);
+        assertThat(fromJson.getAccountNumber().value()).isEqualTo("IMP002");
+        assertThat(fromJson.getSavingsBalance()).isEqualTo(10.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"IMP001,NaN", "IMP001,Infinity", "IMP001,-Infinity", "IMP001,1e400",
+            "IMP001,100,0,NaN", "IMP001,100,0,0,Infinity", "IMP001,abc"})
+    void should_reject_csv_amounts_that_are_not_finite_numbers(String line) {
+        // When / Then
+        assertThatThrownBy(() -> parser.parse(AccountImportFormat.CSV, line))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed record: " + line);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"accountNumber\":\"IMP001\",\"balance\":1e400}",
+            "{\"accountNumber\":\"IMP001\",\"balance\":100,\"savingsBalance\":\"NaN\"}"})
+    void should_reject_ndjson_amounts_that_are_not_finite_numbers(String line) {
+        // When / Then
+        assertThatThrownBy(() -> parser.parse(AccountImportFormat.NDJSON, line))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed record: " + line);
+    }
+}
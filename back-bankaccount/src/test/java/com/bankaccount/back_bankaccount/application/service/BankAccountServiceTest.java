@@ -1,18 +1,29 @@
 package com.bankaccount.back_bankaccount.application.service;
 
+import com.bankaccount.back_bankaccount.config.metrics.UseCaseMetrics;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.AccountType;
 import com.bankaccount.back_bankaccount.domain.model.BankAccount;
 import com.bankaccount.back_bankaccount.domain.model.Statement;
 import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionPage;
+import com.bankaccount.back_bankaccount.domain.model.TransactionStream;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import com.bankaccount.back_bankaccount.domain.ports.out.BalanceChangePublisherPort;
 import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
 import com.bankaccount.back_bankaccount.domain.ports.out.TransactionRepositoryPort;
 import com.bankaccount.back_bankaccount.exception.AccountNotFoundException;
 import com.bankaccount.back_bankaccount.exception.InsufficientBalanceException;
+import com.bankaccount.back_bankaccount.exception.InvalidStatementPeriodException;
 import com.bankaccount.back_bankaccount.exception.SavingsAccountOverdraftException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -21,6 +32,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,9 +44,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class BankAccountServiceTest {
 
-    private static final String ACC_001 = "ACC-001";
-    private static final String SAV_001 = "SAV-001";
-    private static final String UNKNOWN_ACCOUNT = "UNKNOWN";
+    private static final AccountNumber ACC_001 = AccountNumber.of("ACC-001");
+    private static final AccountNumber SAV_001 = AccountNumber.of("SAV-001");
+    private static final AccountNumber UNKNOWN_ACCOUNT = AccountNumber.of("UNKNOWN");
 
     @InjectMocks
     private BankAccountService service;
@@ -43,6 +57,15 @@ class BankAccountServiceTest {
     @Mock
     private TransactionRepositoryPort transactionRepository;
 
+    @Mock
+    private BalanceChangePublisherPort balanceChangePublisher;
+
+    @Mock
+    private OverdraftExposureService overdraftExposure;
+
+    @Spy
+    private UseCaseMetrics metrics = new UseCaseMetrics(new SimpleMeterRegistry());
+
     private BankAccount account;
 
     @BeforeEach
@@ -74,6 +97,20 @@ class BankAccountServiceTest {
         verify(accountRepository).findAll();
     }
 
+    @Test
+    void should_get_accounts_by_type() {
+        // Given
+        when(accountRepository.findByAccountType(AccountType.CURRENT)).thenReturn(List.of(account));
+
+        // When
+        List<BankAccount> result = service.getAccountsByType(AccountType.CURRENT);
+
+        // Then
+        assertThat(result).containsExactly(account);
+        verify(accountRepository).findByAccountType(AccountType.CURRENT);
+        verify(accountRepository, never()).findAll();
+    }
+
     // ========== DEPOSIT ==========
 
     @Test
@@ -93,6 +130,8 @@ class BankAccountServiceTest {
         assertThat(result.getBalance()).isEqualTo(150.0);
         verify(accountRepository).save(any(BankAccount.class));
         verify(transactionRepository).save(any(Transaction.class));
+        verify(balanceChangePublisher).publish(argThat(change ->
+                change.getBalance() == 150.0 && change.getTransaction().getAmount() == 50.0));
     }
 
     @Test
@@ -142,6 +181,7 @@ class BankAccountServiceTest {
 
         // Then
         assertThat(result.getBalance()).isEqualTo(-30.0);
+        verify(overdraftExposure).recordChange(100.0, 50.0, -30.0, 50.0);
     }
 
     @Test
@@ -171,6 +211,7 @@ class BankAccountServiceTest {
         // Then
         assertThat(result.getOverdraftLimit()).isEqualTo(200.0);
         verify(accountRepository).save(any(BankAccount.class));
+        verify(overdraftExposure).recordChange(100.0, 50.0, 100.0, 200.0);
     }
 
     @Test
@@ -239,6 +280,49 @@ class BankAccountServiceTest {
         assertThat(result.getSavingsBalance()).isEqualTo(22950.0); // Only 50€ deposited
     }
 
+    // ========== SAVINGS TRANSFER ==========
+
+    @Test
+    void should_transfer_from_savings_and_record_both_legs_in_one_batch() {
+        // Given
+        account.setSavingsBalance(500.0);
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.of(account));
+        when(accountRepository.save(any(BankAccount.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        BankAccount result = service.transferFromSavings(ACC_001, 200.0);
+
+        // Then
+        assertThat(result.getBalance()).isEqualTo(300.0);
+        assertThat(result.getSavingsBalance()).isEqualTo(300.0);
+        verify(accountRepository).save(account);
+        verify(transactionRepository).saveAll(argThat(legs -> legs.size() == 2
+                && legs.get(0).getType() == TransactionType.SAVINGS_TRANSFER_OUT
+                && legs.get(0).getAmount() == -200.0 && legs.get(0).getBalanceAfter() == 300.0
+                && legs.get(1).getType() == TransactionType.CURRENT_TRANSFER_IN
+                && legs.get(1).getAmount() == 200.0 && legs.get(1).getBalanceAfter() == 300.0));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(balanceChangePublisher, times(2)).publish(any());
+    }
+
+    @Test
+    void should_throw_exception_when_transfer_exceeds_savings() {
+        // Given
+        account.setSavingsBalance(50.0);
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.of(account));
+
+        // When / Then
+        assertThatThrownBy(() -> service.transferFromSavings(ACC_001, 100.0))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(accountRepository, never()).save(any());
+        verifyNoInteractions(transactionRepository);
+    }
+
     // ========== GET STATEMENT ==========
 
     @Test
@@ -246,8 +330,9 @@ class BankAccountServiceTest {
         // Given
         when(accountRepository.findByAccountNumber(ACC_001))
                 .thenReturn(Optional.of(account));
-        when(transactionRepository.findByAccountNumberAndDateAfter(eq(ACC_001), any(LocalDateTime.class)))
-                .thenReturn(List.of());
+        when(transactionRepository.findByAccountNumberAndDateBetween(eq(ACC_001), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0), eq(BankAccountConstants.STATEMENT_MAX_PAGE_SIZE)))
+                .thenReturn(TransactionPage.builder().transactions(List.of()).build());
 
         // When
         Statement result = service.getStatement(ACC_001);
@@ -255,7 +340,93 @@ class BankAccountServiceTest {
         // Then
         assertThat(result.getAccountNumber()).isEqualTo(ACC_001);
         assertThat(result.getCurrentBalance()).isEqualTo(100.0);
-        assertThat(result.getAccountType()).isEqualTo("Compte Courant");
-        verify(transactionRepository).findByAccountNumberAndDateAfter(eq(ACC_001), any(LocalDateTime.class));
+        assertThat(result.getAccountType()).isEqualTo(AccountType.CURRENT);
+        assertThat(result.getPeriodStart()).isEqualTo(result.getPeriodEnd().minusDays(30));
+        verify(transactionRepository).findByAccountNumberAndDateBetween(eq(ACC_001), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0), eq(BankAccountConstants.STATEMENT_MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void should_get_statement_page_over_custom_period() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.of(account));
+        when(transactionRepository.findByAccountNumberAndDateBetween(ACC_001, from, to, 2, 10))
+                .thenReturn(TransactionPage.builder().transactions(List.of()).page(2).hasMore(true).build());
+
+        // When
+        Statement result = service.getStatement(ACC_001, from, to, 2, 10);
+
+        // Then
+        assertThat(result.getPeriodStart()).isEqualTo(from);
+        assertThat(result.getPeriodEnd()).isEqualTo(to);
+        assertThat(result.getPage()).isEqualTo(2);
+        assertThat(result.isHasMore()).isTrue();
+    }
+
+    @Test
+    void should_cap_statement_page_size() {
+        // Given
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minusYears(5);
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.of(account));
+        when(transactionRepository.findByAccountNumberAndDateBetween(eq(ACC_001), eq(from), eq(to), eq(0), anyInt()))
+                .thenReturn(TransactionPage.builder().transactions(List.of()).build());
+
+        // When
+        service.getStatement(ACC_001, from, to, 0, 100_000);
+
+        // Then
+        verify(transactionRepository).findByAccountNumberAndDateBetween(ACC_001, from, to, 0,
+                BankAccountConstants.STATEMENT_MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void should_throw_exception_when_statement_period_is_reversed() {
+        // Given
+        LocalDateTime to = LocalDateTime.now();
+
+        // When & Then
+        assertThatThrownBy(() -> service.getStatement(ACC_001, to, to.minusDays(1), 0, 10))
+                .isInstanceOf(InvalidStatementPeriodException.class);
+        verifyNoInteractions(accountRepository, transactionRepository);
+    }
+
+    @Test
+    void should_check_account_before_reading_streamed_statement() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.of(account));
+
+        // When
+        TransactionStream stream = service.streamStatement(ACC_001, from, to);
+
+        // Then
+        verify(accountRepository).findByAccountNumber(ACC_001);
+        verifyNoInteractions(transactionRepository);
+
+        // When
+        stream.forEach(transaction -> { });
+
+        // Then
+        verify(transactionRepository).streamByAccountNumberAndDateBetween(eq(ACC_001), eq(from), eq(to), any());
+    }
+
+    @Test
+    void should_throw_exception_when_streamed_statement_account_not_found() {
+        // Given
+        LocalDateTime to = LocalDateTime.now();
+        when(accountRepository.findByAccountNumber(ACC_001))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.streamStatement(ACC_001, to.minusDays(1), to))
+                .isInstanceOf(AccountNotFoundException.class);
+        verifyNoInteractions(transactionRepository);
     }
 }
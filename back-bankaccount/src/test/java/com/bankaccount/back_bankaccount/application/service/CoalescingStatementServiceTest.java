@@ -0,0 +1,169 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.StatementCoalescingProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BalanceChange;
+import com.bankaccount.back_bankaccount.domain.model.Statement;
+import com.bankaccount.back_bankaccount.exception.AccountNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CoalescingStatementService.
+ */
+@ExtendWith(MockitoExtension.class)
+class CoalescingStatementServiceTest {
+
+    private static final AccountNumber ACC_001 = AccountNumber.of("ACC-001");
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(30);
+
+    @Mock
+    private BankAccountService delegate;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementCoalescingProperties properties = new StatementCoalescingProperties();
+    private CoalescingStatementService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setFreshness(Duration.ofMinutes(1));
+        service = new CoalescingStatementService(delegate, properties, registry);
+    }
+
+    @Test
+    void should_share_one_computation_between_concurrent_identical_requests() throws Exception {
+        // Given
+        Statement statement = Statement.builder().accountNumber(ACC_001).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getStatement(ACC_001, FROM, TO, 0, 200)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return statement;
+        });
+
+        // When
+        List<Future<Statement>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            results.add(executor.submit(() -> service.getStatement(ACC_001, FROM, TO, 0, 200)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> service.getStatement(ACC_001, FROM, TO, 0, 200)));
+            }
+            Thread.sleep(50);
+            release.countDown();
+        }
+
+        // Then
+        for (Future<Statement> result : results) {
+            assertThat(result.get()).isSameAs(statement);
+        }
+        verify(delegate, times(1)).getStatement(ACC_001, FROM, TO, 0, 200);
+        assertThat(registry.get("bankaccount.statement.reads").tag("outcome", "shared").counter().count())
+                .isEqualTo(7);
+    }
+
+    @Test
+    void should_compute_distinct_requests_separately() {
+        // Given
+        when(delegate.getStatement(eq(ACC_001), eq(FROM), eq(TO), anyInt(), eq(200)))
+                .thenAnswer(invocation -> Statement.builder().page(invocation.getArgument(3)).build());
+
+        // When
+        Statement first = service.getStatement(ACC_001, FROM, TO, 0, 200);
+        Statement second = service.getStatement(ACC_001, FROM, TO, 1, 200);
+
+        // Then
+        assertThat(first.getPage()).isZero();
+        assertThat(second.getPage()).isEqualTo(1);
+    }
+
+    @Test
+    void should_recompute_once_the_freshness_window_is_over() {
+        // Given
+        properties.setFreshness(Duration.ZERO);
+        when(delegate.getStatement(ACC_001, FROM, TO, 0, 200)).thenReturn(Statement.builder().build());
+
+        // When
+        service.getStatement(ACC_001, FROM, TO, 0, 200);
+        service.getStatement(ACC_001, FROM, TO, 0, 200);
+
+        // Then
+        verify(delegate, times(2)).getStatement(ACC_001, FROM, TO, 0, 200);
+    }
+
+    @Test
+    void should_forget_the_statements_of_an_account_once_it_changes() {
+        // Given
+        when(delegate.getStatement(ACC_001, FROM, TO, 0, 200)).thenReturn(Statement.builder().build());
+        service.getStatement(ACC_001, FROM, TO, 0, 200);
+        service.getStatement(ACC_001, FROM, TO, 0, 200);
+
+        // When
+        service.onBalanceChange(BalanceChange.builder().accountNumber(ACC_001).build());
+        service.getStatement(ACC_001, FROM, TO, 0, 200);
+
+        // Then
+        verify(delegate, times(2)).getStatement(ACC_001, FROM, TO, 0, 200);
+    }
+
+    @Test
+    void should_not_remember_failures() {
+        // Given
+        when(delegate.getStatement(ACC_001, FROM, TO, 0, 200))
+                .thenThrow(new AccountNotFoundException(ACC_001.value()))
+                .thenReturn(Statement.builder().build());
+
+        // When / Then
+        assertThatThrownBy(() -> service.getStatement(ACC_001, FROM, TO, 0, 200))
+                .isInstanceOf(AccountNotFoundException.class);
+        assertThat(service.getStatement(ACC_001, FROM, TO, 0, 200)).isNotNull();
+    }
+
+    @Test
+    void should_release_waiting_requests_when_the_computation_throws_an_error() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getStatement(ACC_001, FROM, TO, 0, 200))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new StackOverflowError();
+                })
+                .thenReturn(Statement.builder().build());
+
+        // When (not closing the executor: a waiter left hanging must fail the test, not block it)
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<Statement> first = executor.submit(() -> service.getStatement(ACC_001, FROM, TO, 0, 200));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Statement> waiting = executor.submit(() -> service.getStatement(ACC_001, FROM, TO, 0, 200));
+        Thread.sleep(50);
+        release.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(service.getStatement(ACC_001, FROM, TO, 0, 200)).isNotNull();
+        verify(delegate, times(2)).getStatement(ACC_001, FROM, TO, 0, 200);
+    }
+}
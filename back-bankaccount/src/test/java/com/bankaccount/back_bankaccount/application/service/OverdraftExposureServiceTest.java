@@ -0,0 +1,164 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.OverdraftExposureProperties;
+import com.bankaccount.back_bankaccount.domain.model.OverdraftExposure;
+import com.bankaccount.back_bankaccount.domain.ports.out.OverdraftExposurePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OverdraftExposureService.
+ */
+@ExtendWith(MockitoExtension.class)
+class OverdraftExposureServiceTest {
+
+    @Mock
+    private OverdraftExposurePort overdraftExposurePort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OverdraftExposureService service;
+
+    @BeforeEach
+    void setUp() {
+        OverdraftExposureProperties properties = new OverdraftExposureProperties();
+        properties.setReconciliationRetryDelay(Duration.ZERO);
+        service = new OverdraftExposureService(overdraftExposurePort, properties, transactionManager, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void should_follow_balances_crossing_zero_and_limit_changes() {
+        // When
+        service.recordChange(100.0, 0.0, 100.0, 200.0);
+        service.recordChange(100.0, 200.0, -50.26, 200.0);
+        service.recordChange(20.0, 100.0, -10.0, 100.0);
+        service.recordChange(-10.0, 100.0, 5.0, 100.0);
+
+        // Then
+        OverdraftExposure exposure = service.getOverdraftExposure();
+        assertThat(exposure.getNegativeBalanceCents()).isEqualTo(5026);
+        assertThat(exposure.getOverdraftLimitCents()).isEqualTo(20000);
+        assertThat(exposure.getOverdrawnAccounts()).isEqualTo(1);
+        assertThat(registry.get("bankaccount.overdraft.negative.balances").gauge().value()).isEqualTo(50.26);
+    }
+
+    @Test
+    void should_count_a_change_only_once_its_transaction_commits() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordChange(10.0, 0.0, -10.0, 0.0);
+        service.recordChange(10.0, 0.0, -20.0, 0.0);
+        assertThat(service.getOverdraftExposure().getNegativeBalanceCents()).isZero();
+
+        // When
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // Then
+        assertThat(service.getOverdraftExposure().getNegativeBalanceCents()).isEqualTo(3000);
+    }
+
+    @Test
+    void should_ignore_a_rolled_back_change() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordChange(10.0, 0.0, -10.0, 0.0);
+
+        // When
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        // Then
+        assertThat(service.getOverdraftExposure().getOverdrawnAccounts()).isZero();
+    }
+
+    @Test
+    void should_correct_drift_against_stored_accounts() {
+        // Given
+        service.recordChange(0.0, 0.0, -10.0, 100.0);
+        when(overdraftExposurePort.sumOverdraftExposure()).thenReturn(OverdraftExposure.builder()
+                .negativeBalanceCents(2500)
+                .overdraftLimitCents(30000)
+                .overdrawnAccounts(2)
+                .build());
+
+        // When
+        OverdraftExposure exposure = service.reconcile();
+
+        // Then
+        assertThat(exposure.getNegativeBalanceCents()).isEqualTo(2500);
+        assertThat(exposure.getOverdraftLimitCents()).isEqualTo(30000);
+        assertThat(exposure.getOverdrawnAccounts()).isEqualTo(2);
+        assertThat(exposure.getReconciledAt()).isNotNull();
+        assertThat(registry.get("bankaccount.overdraft.reconciliations").tag("outcome", "corrected").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_take_the_snapshot_again_when_a_commit_starts_meanwhile() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordChange(10.0, 0.0, -10.0, 0.0);
+        TransactionSynchronization commit = TransactionSynchronizationManager.getSynchronizations().get(0);
+        doAnswer(invocation -> {
+            commit.beforeCommit(false);
+            commit.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            return null;
+        }).doNothing().when(overdraftExposurePort).beginSnapshot();
+        when(overdraftExposurePort.sumOverdraftExposure()).thenReturn(OverdraftExposure.builder()
+                .negativeBalanceCents(1000)
+                .overdrawnAccounts(1)
+                .build());
+
+        // When
+        OverdraftExposure exposure = service.reconcile();
+
+        // Then
+        verify(overdraftExposurePort, times(2)).beginSnapshot();
+        verify(overdraftExposurePort, times(1)).sumOverdraftExposure();
+        assertThat(exposure.getNegativeBalanceCents()).isEqualTo(1000);
+        assertThat(registry.get("bankaccount.overdraft.reconciliations").tag("outcome", "consistent").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_skip_reconciliation_while_a_commit_is_in_progress() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        service.recordChange(10.0, 0.0, -10.0, 0.0);
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+
+        // When
+        OverdraftExposure exposure = service.reconcile();
+
+        // Then
+        assertThat(exposure.getReconciledAt()).isNull();
+        verifyNoInteractions(overdraftExposurePort);
+        assertThat(registry.get("bankaccount.overdraft.reconciliations").tag("outcome", "skipped").counter().count())
+                .isEqualTo(1);
+    }
+}
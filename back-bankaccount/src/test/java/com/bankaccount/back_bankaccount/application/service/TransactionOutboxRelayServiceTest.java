@@ -0,0 +1,92 @@
+package com.bankaccount.back_bankaccount.application.service;
+
+import com.bankaccount.back_bankaccount.config.properties.OutboxProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.OutboxEntry;
+import com.bankaccount.back_bankaccount.domain.model.OutboxRelayReport;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionEventSinkPort;
+import com.bankaccount.back_bankaccount.domain.ports.out.TransactionOutboxPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionOutboxRelayService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionOutboxRelayServiceTest {
+
+    @Mock
+    private TransactionOutboxPort outboxPort;
+
+    @Mock
+    private TransactionEventSinkPort sinkPort;
+
+    private TransactionOutboxRelayService service;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        service = new TransactionOutboxRelayService(outboxPort, sinkPort, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void should_deliver_batches_until_outbox_is_drained() {
+        // Given
+        when(outboxPort.findOldest(2))
+                .thenReturn(List.of(entry(1L), entry(2L)))
+                .thenReturn(List.of(entry(3L)));
+        when(outboxPort.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        // When
+        OutboxRelayReport report = service.relayPendingEvents();
+
+        // Then
+        assertThat(report.getDelivered()).isEqualTo(3);
+        assertThat(report.getBatches()).isEqualTo(2);
+        assertThat(report.isFailed()).isFalse();
+        verify(sinkPort, times(2)).deliver(anyList());
+        verify(outboxPort).delete(List.of(1L, 2L));
+        verify(outboxPort).delete(List.of(3L));
+    }
+
+    @Test
+    void should_keep_entries_when_delivery_fails() {
+        // Given
+        when(outboxPort.findOldest(2)).thenReturn(List.of(entry(1L), entry(2L)));
+        doThrow(new IllegalStateException("sink down")).when(sinkPort).deliver(anyList());
+        when(outboxPort.countPending()).thenReturn(2L);
+        when(outboxPort.findOldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(5)));
+
+        // When
+        OutboxRelayReport report = service.relayPendingEvents();
+
+        // Then
+        assertThat(report.isFailed()).isTrue();
+        assertThat(report.getDelivered()).isZero();
+        assertThat(report.getPending()).isEqualTo(2);
+        assertThat(report.getLagMillis()).isGreaterThanOrEqualTo(5000);
+        verify(outboxPort, never()).delete(anyList());
+    }
+
+    private static OutboxEntry entry(Long id) {
+        return OutboxEntry.builder()
+                .id(id)
+                .createdAt(LocalDateTime.now())
+                .transaction(Transaction.createDeposit(AccountNumber.of("ACC-001"), 10.0, 110.0))
+                .build();
+    }
+}
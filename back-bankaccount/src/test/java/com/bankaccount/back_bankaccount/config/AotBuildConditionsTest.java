@@ -0,0 +1,50 @@
+package com.bankaccount.back_bankaccount.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AotBuildConditions.
+ */
+class AotBuildConditionsTest {
+
+    @Test
+    void should_accept_an_unset_switch_against_its_explicit_default() {
+        // Given
+        MockEnvironment built = new MockEnvironment();
+        built.setActiveProfiles("prod");
+        MockEnvironment running = new MockEnvironment()
+                .withProperty("app.sharding.enabled", "FALSE")
+                .withProperty("app.outbox.sink", "file");
+        running.setActiveProfiles("prod");
+
+        // When
+        Properties recorded = AotBuildConditions.record(built);
+
+        // Then
+        assertThat(AotBuildConditions.mismatches(recorded, AotBuildConditions.record(running))).isEmpty();
+    }
+
+    @Test
+    void should_report_switches_and_profiles_changed_since_the_build() {
+        // Given
+        MockEnvironment built = new MockEnvironment().withProperty("app.rate-limit.enabled", "true");
+        built.setActiveProfiles("prod");
+        MockEnvironment running = new MockEnvironment().withProperty("app.sharding.enabled", "true");
+        running.setActiveProfiles("perf");
+
+        // When
+        Properties recorded = AotBuildConditions.record(built);
+
+        // Then
+        assertThat(AotBuildConditions.mismatches(recorded, AotBuildConditions.record(running)))
+                .containsExactly(
+                        "app.rate-limit.enabled built with true, running with false",
+                        "app.sharding.enabled built with false, running with true",
+                        "spring.profiles.active built with prod, running with perf");
+    }
+}
@@ -0,0 +1,72 @@
+package com.bankaccount.back_bankaccount.config.datasource;
+
+import com.bankaccount.back_bankaccount.config.properties.ReplicaProperties;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReadYourWritesTracker.
+ */
+class ReadYourWritesTrackerTest {
+
+    private static final AccountNumber ACC_001 = AccountNumber.of("ACC-001");
+
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setEnabled(true);
+        tracker = new ReadYourWritesTracker(properties);
+        tracker.recordWrite(ACC_001);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        tracker.consumePrimaryRequired();
+    }
+
+    @Test
+    void should_require_the_primary_to_read_a_recent_write() {
+        // When
+        tracker.beforeRead(ACC_001);
+
+        // Then
+        assertThat(tracker.consumePrimaryRequired()).isTrue();
+        assertThat(tracker.consumePrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void should_drop_an_unconsumed_requirement_with_its_transaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        tracker.beforeRead(ACC_001);
+
+        // When
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        assertThat(tracker.consumePrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void should_not_require_the_primary_for_other_accounts() {
+        // When
+        tracker.beforeRead(AccountNumber.of("ACC-002"));
+
+        // Then
+        assertThat(tracker.consumePrimaryRequired()).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bankaccount.back_bankaccount.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.bankaccount.back_bankaccount.config.properties.LoggingProperties;
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import com.bankaccount.back_bankaccount.exception.AccountNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BusinessErrorLogSampler, including an allocation benchmark
+ * of the sampled business-error path against logging every error.
+ */
+class BusinessErrorLogSamplerTest {
+
+    private static final String CODE = BankAccountConstants.ERROR_CODE_ACCOUNT_NOT_FOUND;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(BusinessErrorLogSampler.class);
+    private final List<String> messages = new ArrayList<>();
+    private final AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+        @Override
+        protected void append(ILoggingEvent event) {
+            // Formatting stands in for the encoder of a real appender
+            String message = event.getFormattedMessage();
+            if (messages.size() < 10) {
+                messages.add(message);
+            }
+        }
+    };
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setAdditive(true);
+    }
+
+    @Test
+    void log_shouldLogOneErrorPerSampleWindowAndCountAll() {
+        // Given
+        BusinessErrorLogSampler sampler = sampler(100);
+        AccountNotFoundException error = new AccountNotFoundException("ACC-404");
+
+        // When
+        for (int i = 0; i < 250; i++) {
+            sampler.log(CODE, error);
+        }
+
+        // Then
+        assertThat(messages).hasSize(3);
+        assertThat(messages.get(0)).contains(CODE).contains("occurrence 1,").contains("ACC-404");
+        assertThat(messages.get(2)).contains("occurrence 201,");
+        assertThat(registry.get(BankAccountConstants.METRIC_BUSINESS_ERRORS)
+                .tag(BankAccountConstants.TAG_CODE, CODE)
+                .counter()
+                .count()).isEqualTo(250);
+    }
+
+    @Test
+    void log_sampledPathShouldAllocateFarLessThanLoggingEveryError() {
+        // Given
+        AccountNotFoundException error = new AccountNotFoundException("ACC-404");
+        BusinessErrorLogSampler everyError = sampler(1);
+        BusinessErrorLogSampler sampled = sampler(100);
+
+        // When
+        double everyErrorBytes = bytesPerCall(everyError, error);
+        double sampledBytes = bytesPerCall(sampled, error);
+
+        // Then
+        assertThat(sampledBytes)
+                .as("bytes per error: sampled %.1f, every error logged %.1f", sampledBytes, everyErrorBytes)
+                .isLessThan(everyErrorBytes / 10);
+    }
+
+    private BusinessErrorLogSampler sampler(int sampleRate) {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setBusinessErrorSampleRate(sampleRate);
+        return new BusinessErrorLogSampler(properties, registry);
+    }
+
+    private static double bytesPerCall(BusinessErrorLogSampler sampler, Exception error) {
+        for (int i = 0; i < WARMUP; i++) {
+            sampler.log(CODE, error);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sampler.log(CODE, error);
+        }
+        return (double) (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,35 @@
+package com.bankaccount.back_bankaccount.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UseCaseMetrics.
+ */
+class UseCaseMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UseCaseMetrics metrics = new UseCaseMetrics(registry);
+
+    @Test
+    void should_time_each_use_case_by_outcome_and_phase() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            metrics.record("deposit", phases -> phases.time(UseCasePhase.LOOKUP, () -> "ACC-001"));
+        }
+        assertThatThrownBy(() -> metrics.record("withdraw", phases -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(registry.get("bankaccount.usecase").tag("usecase", "deposit").tag("outcome", "success")
+                .timer().count()).isEqualTo(3);
+        assertThat(registry.get("bankaccount.usecase.phase").tag("usecase", "deposit").tag("phase", "lookup")
+                .timer().count()).isEqualTo(3);
+        assertThat(registry.get("bankaccount.usecase").tag("usecase", "withdraw")
+                .tag("outcome", "IllegalStateException").timer().count()).isEqualTo(1);
+    }
+}
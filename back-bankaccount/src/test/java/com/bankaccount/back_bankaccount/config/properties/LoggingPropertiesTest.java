@@ -0,0 +1,35 @@
+package com.bankaccount.back_bankaccount.config.properties;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LoggingProperties.
+ */
+class LoggingPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(LoggingPropertiesConfiguration.class);
+
+    @Test
+    void should_refuse_a_sample_rate_below_one() {
+        // When / Then
+        contextRunner.withPropertyValues("app.logging.business-error-sample-rate=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void should_accept_a_sample_rate_of_one() {
+        // When / Then
+        contextRunner.withPropertyValues("app.logging.business-error-sample-rate=1")
+                .run(context -> assertThat(context.getBean(LoggingProperties.class).getBusinessErrorSampleRate())
+                        .isEqualTo(1));
+    }
+
+    @EnableConfigurationProperties(LoggingProperties.class)
+    static class LoggingPropertiesConfiguration {
+    }
+}
@@ -0,0 +1,78 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.config.properties.RateLimitProperties;
+import com.bankaccount.back_bankaccount.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setInitialConcurrencyLimit(2);
+        properties.setMinConcurrencyLimit(1);
+        properties.setMaxConcurrencyLimit(3);
+        properties.setLatencyThreshold(Duration.ofMillis(100));
+        properties.setBackoffRatio(0.5);
+        properties.setAdjustmentInterval(Duration.ofMillis(50));
+    }
+
+    @Test
+    void should_shed_requests_beyond_the_limit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, registry);
+        limiter.acquire();
+        limiter.acquire();
+
+        // Then
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ServiceOverloadedException.class);
+        limiter.releaseUntimed();
+        assertThatCode(limiter::acquire).doesNotThrowAnyException();
+        assertThat(registry.get("bankaccount.concurrency.inflight").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("bankaccount.ratelimit.rejected").tag("scope", "concurrency").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_shrink_the_limit_when_p99_latency_crosses_the_threshold() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, registry);
+        limiter.acquire();
+        Thread.sleep(60);
+
+        // When
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(registry.get("bankaccount.concurrency.limit").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void should_grow_the_limit_when_it_was_reached_with_low_latency() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, registry);
+        limiter.acquire();
+        limiter.acquire();
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(60);
+
+        // When
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,72 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import com.bankaccount.back_bankaccount.config.properties.RateLimitProperties;
+import com.bankaccount.back_bankaccount.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RequestRateLimiter.
+ */
+class RequestRateLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private RequestRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setClientBurst(2);
+        properties.setClientRatePerSecond(0.01);
+        properties.setMaxTrackedKeys(2);
+        properties.setEvictionInterval(Duration.ofHours(1));
+        rateLimiter = new RequestRateLimiter(properties, registry);
+    }
+
+    @Test
+    void should_not_track_more_keys_than_configured() {
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            try {
+                rateLimiter.checkClient("client-" + i);
+            } catch (RateLimitExceededException e) {
+                // The keys beyond the maximum share the overflow bucket
+            }
+        }
+
+        // Then
+        assertThat(registry.get("bankaccount.ratelimit.buckets").tag("scope", "client").gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void should_rate_limit_untracked_keys_together() {
+        // Given
+        rateLimiter.checkClient("client-a");
+        rateLimiter.checkClient("client-b");
+
+        // When / Then
+        rateLimiter.checkClient("client-c");
+        rateLimiter.checkClient("client-d");
+        assertThatThrownBy(() -> rateLimiter.checkClient("client-e"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void should_keep_the_state_of_busy_keys_when_full() {
+        // Given
+        rateLimiter.checkClient("client-a");
+        rateLimiter.checkClient("client-a");
+        rateLimiter.checkClient("client-b");
+
+        // When / Then
+        assertThatThrownBy(() -> rateLimiter.checkClient("client-a"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+}
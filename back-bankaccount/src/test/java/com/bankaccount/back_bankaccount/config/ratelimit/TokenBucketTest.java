@@ -0,0 +1,69 @@
+package com.bankaccount.back_bankaccount.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucket.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void should_allow_a_burst_then_refill_at_the_configured_rate() {
+        // Given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 2, now);
+
+        // When / Then
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryAcquire(now + SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(now + SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void should_report_full_once_idle() {
+        // Given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 1, now);
+        bucket.tryAcquire(now);
+
+        // Then
+        assertThat(bucket.isFull(now)).isFalse();
+        assertThat(bucket.isFull(now + SECOND)).isTrue();
+    }
+
+    @Test
+    void should_never_hand_out_more_than_the_burst_concurrently() throws InterruptedException {
+        // Given
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(1_000, 0.001, now);
+        AtomicInteger granted = new AtomicInteger();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (bucket.tryAcquire(now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertThat(granted).hasValue(1_000);
+    }
+}
@@ -0,0 +1,41 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AccountNumber value object.
+ */
+class AccountNumberTest {
+
+    @Test
+    void should_detect_savings_prefix_whatever_the_case() {
+        assertThat(AccountNumber.of("SAV-001").isSavings()).isTrue();
+        assertThat(AccountNumber.of("sav-001").isSavings()).isTrue();
+        assertThat(AccountNumber.of("ACC-001").isSavings()).isFalse();
+        assertThat(AccountNumber.of("SAV").isSavings()).isFalse();
+    }
+
+    @Test
+    void should_be_equal_by_value() {
+        // Given
+        AccountNumber first = AccountNumber.of("ACC-001");
+        AccountNumber second = AccountNumber.of(new String("ACC-001"));
+
+        // Then
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second).isNotEqualTo(AccountNumber.of("ACC-002"));
+        assertThat(first.longHash()).isEqualTo(second.longHash());
+        assertThat(first).hasToString("ACC-001");
+    }
+
+    @Test
+    void should_reject_blank_account_number() {
+        assertThatThrownBy(() -> AccountNumber.of(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(BankAccountConstants.ACCOUNT_NUMBER_REQUIRED_MESSAGE);
+        assertThatThrownBy(() -> AccountNumber.of(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.bankaccount.back_bankaccount.domain.model;
 
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +18,7 @@ class BankAccountTest {
     void setUp() {
         account = BankAccount.builder()
                 .id(1L)
-                .accountNumber("ACC-001")
+                .accountNumber(AccountNumber.of("ACC-001"))
                 .balance(100.0)
                 .overdraftLimit(50.0)
                 .savingsBalance(0.0)
@@ -99,7 +100,7 @@ class BankAccountTest {
     void should_not_allow_overdraft_for_savings_account() {
         // Given
         BankAccount savingsAccount = BankAccount.builder()
-                .accountNumber("SAV-001")
+                .accountNumber(AccountNumber.of("SAV-001"))
                 .balance(100.0)
                 .overdraftLimit(0.0)
                 .build();
@@ -114,7 +115,7 @@ class BankAccountTest {
     void should_identify_savings_account() {
         // Given
         BankAccount savingsAccount = BankAccount.builder()
-                .accountNumber("SAV-001")
+                .accountNumber(AccountNumber.of("SAV-001"))
                 .build();
         
         // Then
@@ -156,10 +157,37 @@ class BankAccountTest {
                 .hasMessageContaining("maximum capacity");
     }
 
+    @Test
+    void should_transfer_from_savings_to_current_balance() {
+        // Given
+        account.setSavingsBalance(500.0);
+        
+        // When
+        account.transferFromSavings(200.0);
+        
+        // Then
+        assertThat(account.getSavingsBalance()).isEqualTo(300.0);
+        assertThat(account.getBalance()).isEqualTo(300.0);
+    }
+
+    @Test
+    void should_not_transfer_more_than_savings_balance() {
+        // Given
+        account.setSavingsBalance(50.0);
+        
+        // Then
+        assertThat(account.canTransferFromSavings(50.0)).isTrue();
+        assertThat(account.canTransferFromSavings(50.01)).isFalse();
+        assertThatThrownBy(() -> account.transferFromSavings(100.0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(BankAccountConstants.INSUFFICIENT_SAVINGS_ERROR);
+        assertThat(account.getBalance()).isEqualTo(100.0);
+    }
+
     @Test
     void should_determine_account_type_current_only() {
         // Then
-        assertThat(account.getAccountType()).isEqualTo("Compte Courant");
+        assertThat(account.getAccountType()).isEqualTo(AccountType.CURRENT);
     }
 
     @Test
@@ -168,7 +196,7 @@ class BankAccountTest {
         account.setSavingsBalance(1000.0);
         
         // Then
-        assertThat(account.getAccountType()).isEqualTo("Compte Courant + Livret d'épargne");
+        assertThat(account.getAccountType()).isEqualTo(AccountType.SAVINGS_AND_CURRENT);
     }
 
     @Test
@@ -178,6 +206,80 @@ class BankAccountTest {
         account.setSavingsBalance(1000.0);
         
         // Then
-        assertThat(account.getAccountType()).isEqualTo("Livret d'épargne");
+        assertThat(account.getAccountType()).isEqualTo(AccountType.SAVINGS);
+    }
+
+    @Test
+    void should_refresh_stored_account_type_on_balance_changes() {
+        // When
+        account.depositToSavings(1000.0);
+
+        // Then
+        assertThat(account.getAccountType()).isEqualTo(AccountType.SAVINGS_AND_CURRENT);
+
+        // When
+        account.withdraw(100.0);
+
+        // Then
+        assertThat(account.getAccountType()).isEqualTo(AccountType.SAVINGS);
+        assertThat(account.getAccountType().getLabel()).isEqualTo("Livret d'épargne");
+    }
+
+    @Test
+    void should_validate_consistent_account() {
+        // When & Then
+        assertThatCode(() -> account.validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_not_validate_balance_below_overdraft() {
+        // Given
+        account.setBalance(-80.0);
+
+        // When & Then
+        assertThatThrownBy(() -> account.validate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Insufficient balance");
+    }
+
+    @Test
+    void should_not_validate_savings_above_deposit_limit() {
+        // Given
+        account.setSavingsBalance(30000.0);
+
+        // When & Then
+        assertThatThrownBy(() -> account.validate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("deposit limit");
+    }
+
+    @Test
+    void should_validate_account_without_savings_balance() {
+        // Given
+        account.setSavingsBalance(null);
+
+        // When & Then
+        assertThatCode(() -> account.validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_validate_savings_account_without_overdraft() {
+        // Given
+        account.setAccountNumber(AccountNumber.of("SAV-001"));
+        account.setOverdraftLimit(0.0);
+
+        // When & Then
+        assertThatCode(() -> account.validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_not_validate_savings_account_with_overdraft() {
+        // Given
+        account.setAccountNumber(AccountNumber.of("SAV-001"));
+
+        // When & Then
+        assertThatThrownBy(() -> account.validate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Savings accounts cannot have overdraft");
     }
 }
@@ -0,0 +1,37 @@
+package com.bankaccount.back_bankaccount.domain.model;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for InterestRate value object.
+ */
+class InterestRateTest {
+
+    private final InterestRate rate = InterestRate.ofBasisPoints(365);
+
+    @Test
+    void should_compute_daily_interest_in_cents() {
+        // 3.65% over 365 days is one ten-thousandth of the balance a day
+        assertThat(rate.dailyInterestCents(1_000_000, 365)).isEqualTo(100);
+        assertThat(rate.dailyInterestCents(0, 365)).isZero();
+    }
+
+    @Test
+    void should_round_half_to_even() {
+        assertThat(rate.dailyInterestCents(5_000, 365)).isZero();
+        assertThat(rate.dailyInterestCents(15_000, 365)).isEqualTo(2);
+        assertThat(rate.dailyInterestCents(25_000, 365)).isEqualTo(2);
+        assertThat(rate.dailyInterestCents(25_001, 365)).isEqualTo(3);
+        assertThat(rate.dailyInterestCents(4_999, 365)).isZero();
+    }
+
+    @Test
+    void should_reject_negative_rate() {
+        assertThatThrownBy(() -> InterestRate.ofBasisPoints(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(BankAccountConstants.NEGATIVE_INTEREST_RATE_MESSAGE + "-1");
+    }
+}
@@ -0,0 +1,99 @@
+package com.bankaccount.back_bankaccount.exception;
+
+import com.bankaccount.back_bankaccount.constants.BankAccountConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the stackless business exceptions, including a micro-benchmark of
+ * the declined-withdrawal rejection: the previous stack-capturing exception against
+ * the current InsufficientBalanceException. Both format their message, which every
+ * rejection needs for its error response.
+ */
+class BusinessExceptionCostTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    void businessExceptions_shouldNotCaptureStackTrace() {
+        assertThat(new InsufficientBalanceException(100.0, 500.0).getStackTrace()).isEmpty();
+        assertThat(new AccountNotFoundException("ACC-404").getStackTrace()).isEmpty();
+        assertThat(new SavingsAccountOverdraftException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void insufficientBalanceException_shouldKeepItsMessage() {
+        // Given
+        InsufficientBalanceException exception = new InsufficientBalanceException(100.0, 500.0);
+
+        // Then
+        assertThat(exception.getMessage())
+                .isEqualTo(String.format(BankAccountConstants.INSUFFICIENT_BALANCE_MESSAGE, 100.0, 500.0));
+    }
+
+    @Test
+    void declinedWithdrawal_shouldCostFarLessThanStackCapturingException() {
+        // When
+        Cost before = measure(StackCapturingInsufficientBalanceException::new);
+        Cost after = measure(InsufficientBalanceException::new);
+
+        // Then
+        assertThat(after.bytesPerOp())
+                .as("declined withdrawal: before %.0f ns/op %.0f B/op, after %.0f ns/op %.0f B/op",
+                        before.nanosPerOp(), before.bytesPerOp(), after.nanosPerOp(), after.bytesPerOp())
+                .isLessThan(before.bytesPerOp() / 2);
+    }
+
+    private static Cost measure(BiFunction<Double, Double, RuntimeException> rejection) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += declineWithdrawal(rejection, i);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytes = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += declineWithdrawal(rejection, i);
+        }
+        long elapsed = System.nanoTime() - start;
+        bytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+        assertThat(sink).isPositive();
+        return new Cost((double) elapsed / ITERATIONS, (double) bytes / ITERATIONS);
+    }
+
+    /**
+     * Throws the rejection a few frames down, as the service does, and catches it like the exception handler
+     */
+    private static int declineWithdrawal(BiFunction<Double, Double, RuntimeException> rejection, int i) {
+        try {
+            withdraw(rejection, 100.0, 500.0 + (i & 7));
+            return 0;
+        } catch (RuntimeException e) {
+            return e.getClass().getSimpleName().length();
+        }
+    }
+
+    private static void withdraw(BiFunction<Double, Double, RuntimeException> rejection, Double balance, Double amount) {
+        if (balance < amount) {
+            throw rejection.apply(balance, amount);
+        }
+    }
+
+    private record Cost(double nanosPerOp, double bytesPerOp) {
+    }
+
+    /**
+     * InsufficientBalanceException as it was before: full stack trace
+     */
+    private static final class StackCapturingInsufficientBalanceException extends RuntimeException {
+
+        private StackCapturingInsufficientBalanceException(Double availableBalance, Double requestedAmount) {
+            super(String.format(BankAccountConstants.INSUFFICIENT_BALANCE_MESSAGE, availableBalance, requestedAmount));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.AccountImportChunkJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportFormat;
+import com.bankaccount.back_bankaccount.domain.model.AccountImportReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ImportAccountsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@TestPropertySource(properties = {"app.import.chunk-size=2", "app.import.parallelism=2"})
+@DisplayName("Account Import Integration Tests")
+class AccountImportIntegrationTest {
+
+  private static final String CSV = """
+      accountNumber,balance,overdraftLimit,savingsBalance,savingsDepositLimit
+      IMP001,100.0,0.0,0.0,22950.0
+      IMP002,-50.0,100.0
+      IMP003,abc
+      IMP004,10.0,500.0
+      IMP001,20.0
+      """;
+
+  protected MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private ImportAccountsUseCase importAccountsUseCase;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private AccountImportChunkJpaRepository chunkRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    chunkRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should batch insert valid CSV records and report rejects")
+  void should_import_csv_and_report_rejects() throws Exception {
+    mockMvc
+        .perform(
+            post("/bank-accounts/import")
+                .param("importId", "csv-import")
+                .contentType("text/csv")
+                .content(CSV))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalRecords").value(5))
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.rejected").value(3))
+        .andExpect(jsonPath("$.committedChunks").value(3))
+        .andExpect(jsonPath("$.rejects[*].lineNumber", hasItems(4, 5)))
+        // Chunks commit in parallel: either IMP001 row may be the one rejected as a duplicate
+        .andExpect(jsonPath("$.rejects[?(@.accountNumber == 'IMP001')]", hasSize(1)));
+
+    assertThat(bankAccountRepository.findByAccountNumber("IMP001")).isPresent();
+    assertThat(bankAccountRepository.findByAccountNumber("IMP002"))
+        .hasValueSatisfying(account -> assertThat(account.getOverdraftLimit()).isEqualTo(100.0));
+  }
+
+  @Test
+  @DisplayName("Should import savings accounts without overdraft and reject those with one")
+  void should_import_savings_accounts() throws Exception {
+    String csv = """
+        SAV-IMP001,0.0,0.0,500.0
+        SAV-IMP002,0.0,50.0,500.0
+        """;
+
+    mockMvc
+        .perform(
+            post("/bank-accounts/import")
+                .param("importId", "savings-import")
+                .contentType("text/csv")
+                .content(csv))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(1))
+        .andExpect(jsonPath("$.rejected").value(1))
+        .andExpect(jsonPath("$.rejects[0].accountNumber").value("SAV-IMP002"));
+
+    assertThat(bankAccountRepository.findByAccountNumber("SAV-IMP001"))
+        .hasValueSatisfying(account -> assertThat(account.getSavingsBalance()).isEqualTo(500.0));
+  }
+
+  @Test
+  @DisplayName("Should import NDJSON records")
+  void should_import_ndjson() throws Exception {
+    String ndjson = """
+        {"accountNumber":"JSON001","balance":10.0}
+        {"accountNumber":"JSON002","balance":20.0,"savingsBalance":5.0}
+        {"accountNumber":
+        null
+        """;
+
+    mockMvc
+        .perform(
+            post("/bank-accounts/import")
+                .param("importId", "ndjson-import")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalRecords").value(4))
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.rejected").value(2))
+        .andExpect(jsonPath("$.rejects[1].lineNumber").value(4));
+
+    assertThat(bankAccountRepository.findByAccountNumber("JSON002"))
+        .hasValueSatisfying(account -> assertThat(account.getSavingsBalance()).isEqualTo(5.0));
+  }
+
+  @Test
+  @DisplayName("Should skip chunks already committed when an import is resumed")
+  void should_resume_from_committed_chunks() {
+    // Arrange - first run commits every chunk
+    importAccountsUseCase.importAccounts("resumed-import", AccountImportFormat.CSV, asStream(CSV));
+
+    // Act
+    AccountImportReport report =
+        importAccountsUseCase.importAccounts("resumed-import", AccountImportFormat.CSV, asStream(CSV));
+
+    // Assert
+    assertThat(report.getResumedChunks()).isEqualTo(3);
+    assertThat(report.getImported()).isZero();
+    assertThat(report.getRejected()).isZero();
+    assertThat(bankAccountRepository.count()).isEqualTo(2);
+  }
+
+  private ByteArrayInputStream asStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
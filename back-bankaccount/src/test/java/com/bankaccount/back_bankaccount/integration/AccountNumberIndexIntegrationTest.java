@@ -0,0 +1,78 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.config.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.account-filter.enabled=true")
+@DisplayName("Account Number Index Integration Tests")
+class AccountNumberIndexIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should reject an unknown account without querying the database")
+  void should_reject_unknown_account_without_query() throws Exception {
+    // Arrange
+    long statementsBefore = SqlStatementCounter.current();
+
+    // Act
+    mockMvc
+        .perform(get("/bank-accounts/statement/NO-SUCH-ACCOUNT"))
+        .andExpect(status().isNotFound());
+
+    // Assert
+    assertThat(SqlStatementCounter.current() - statementsBefore).isZero();
+  }
+
+  @Test
+  @DisplayName("Should find an account created after startup")
+  void should_find_account_created_after_startup() throws Exception {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("IDX001");
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"IDX001\",\"amount\":50.0}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.balance").value(150.0));
+  }
+}
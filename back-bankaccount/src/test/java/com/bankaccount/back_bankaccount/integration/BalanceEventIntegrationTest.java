@@ -0,0 +1,118 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DisplayName("Balance Event Integration Tests")
+class BalanceEventIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should push committed balance changes of subscribed accounts only")
+  void should_push_balance_changes_of_subscribed_accounts() throws Exception {
+    // Arrange
+    createAccount("EVT001");
+    createAccount("EVT002");
+    MvcResult subscription = mockMvc
+        .perform(get("/bank-accounts/events").param("accountNumber", "EVT001"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Act
+    deposit("EVT002", 10.0);
+    deposit("EVT001", 25.0);
+
+    // Assert
+    String events = awaitContent(subscription.getResponse(), "\"balance\":125.0");
+    assertThat(events).contains("event:balance");
+    assertThat(events).contains("\"accountNumber\":\"EVT001\"");
+    assertThat(events).contains("\"amount\":25.0");
+    assertThat(events).doesNotContain("EVT002");
+  }
+
+  @Test
+  @DisplayName("Should reject a subscription to too many accounts")
+  void should_reject_subscription_to_too_many_accounts() throws Exception {
+    // Arrange
+    String[] accountNumbers = IntStream.range(0, 51).mapToObj(i -> "EVT" + i).toArray(String[]::new);
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/bank-accounts/events").param("accountNumber", accountNumbers))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_SUBSCRIPTION"));
+  }
+
+  @Test
+  @DisplayName("Should reject a subscription naming a blank account with 400")
+  void should_reject_subscription_to_blank_account() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(get("/bank-accounts/events").param("accountNumber", ""))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_SUBSCRIPTION"));
+  }
+
+  private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    String content = response.getContentAsString();
+    while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      content = response.getContentAsString();
+    }
+    return content;
+  }
+
+  private void createAccount(String accountNumber) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+
+  private void deposit(String accountNumber, double amount) throws Exception {
+    mockMvc.perform(post("/bank-accounts/cash-deposit")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountNumber\":\"" + accountNumber + "\",\"amount\":" + amount + "}"))
+        .andExpect(status().isOk());
+  }
+}
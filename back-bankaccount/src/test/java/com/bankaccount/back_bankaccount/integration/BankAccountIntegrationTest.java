@@ -3,7 +3,11 @@ package com.bankaccount.back_bankaccount.integration;
 import com.bankaccount.back_bankaccount.dto.DepositRequestDto;
 import com.bankaccount.back_bankaccount.dto.WithdrawRequestDto;
 import com.bankaccount.back_bankaccount.dto.OverdraftRequestDto;
+import com.bankaccount.back_bankaccount.dto.SavingsTransferRequestDto;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.AccountType;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
 import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,6 +23,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -300,6 +306,50 @@ class BankAccountIntegrationTest {
           .andExpect(jsonPath("$.transactions[0].amount").value(3000.0));
     }
 
+    @Test
+    @DisplayName("Should transfer from savings to the current balance and record both legs")
+    void should_transfer_from_savings() throws Exception {
+      // Arrange
+      createAccountWithSavings("SAV005", 100.0, 500.0);
+
+      // Act
+      mockMvc
+          .perform(
+              post("/bank-accounts/savings-transfer")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(asJson(new SavingsTransferRequestDto("SAV005", 200.0))))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.balance").value(300.0))
+          .andExpect(jsonPath("$.savingsBalance").value(300.0));
+
+      // Assert
+      mockMvc
+          .perform(get("/bank-accounts/statement/SAV005"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.transactions.length()").value(2))
+          .andExpect(jsonPath("$.transactions[0].type").value("Virement depuis le livret d'épargne"))
+          .andExpect(jsonPath("$.transactions[0].amount").value(200.0))
+          .andExpect(jsonPath("$.transactions[1].type").value("Virement vers le compte courant"))
+          .andExpect(jsonPath("$.transactions[1].amount").value(-200.0));
+    }
+
+    @Test
+    @DisplayName("Should reject a transfer exceeding the savings balance")
+    void should_reject_transfer_exceeding_savings() throws Exception {
+      // Arrange
+      createAccountWithSavings("SAV006", 100.0, 50.0);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              post("/bank-accounts/savings-transfer")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(asJson(new SavingsTransferRequestDto("SAV006", 80.0))))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.code").value("INSUFFICIENT_BALANCE"));
+      assertThat(transactionRepository.count()).isZero();
+    }
+
     @Test
     @DisplayName("Should reject overdraft on savings account")
     void should_reject_overdraft_on_savings_account() throws Exception {
@@ -432,6 +482,69 @@ class BankAccountIntegrationTest {
       mockMvc.perform(get("/bank-accounts/statement/NONEXISTENT")).andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should only return transactions inside the requested period")
+    void should_filter_statement_by_period() throws Exception {
+      // Arrange
+      createAccount("STMT006", 1000.0);
+      LocalDateTime now = LocalDateTime.now();
+      createTransaction("STMT006", now.minusDays(40), 100.0);
+      createTransaction("STMT006", now.minusHours(12), 200.0);
+      createTransaction("STMT006", now.minusDays(3), 300.0);
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/bank-accounts/statement/STMT006")
+                  .param("from", now.minusDays(1).toString())
+                  .param("to", now.toString()))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.transactions", hasSize(1)))
+          .andExpect(jsonPath("$.transactions[0].amount").value(200.0));
+    }
+
+    @Test
+    @DisplayName("Should paginate long statement periods")
+    void should_paginate_statement() throws Exception {
+      // Arrange
+      createAccount("STMT007", 1000.0);
+      LocalDateTime now = LocalDateTime.now();
+      for (int i = 1; i <= 3; i++) {
+        createTransaction("STMT007", now.minusDays(i), i * 10.0);
+      }
+
+      // Act & Assert - first page holds the two newest, second page the oldest
+      mockMvc
+          .perform(get("/bank-accounts/statement/STMT007").param("size", "2"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.transactions", hasSize(2)))
+          .andExpect(jsonPath("$.transactions[0].amount").value(10.0))
+          .andExpect(jsonPath("$.hasMore").value(true));
+
+      mockMvc
+          .perform(get("/bank-accounts/statement/STMT007").param("size", "2").param("page", "1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.transactions", hasSize(1)))
+          .andExpect(jsonPath("$.transactions[0].amount").value(30.0))
+          .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("Should reject a statement period ending before it starts")
+    void should_reject_reversed_statement_period() throws Exception {
+      // Arrange
+      createAccount("STMT008", 1000.0);
+      LocalDateTime now = LocalDateTime.now();
+
+      // Act & Assert
+      mockMvc
+          .perform(
+              get("/bank-accounts/statement/STMT008")
+                  .param("from", now.toString())
+                  .param("to", now.minusDays(1).toString()))
+          .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should show both savings and withdrawal transactions in statement")
     void should_show_mixed_transaction_types_in_statement() throws Exception {
@@ -462,6 +575,58 @@ class BankAccountIntegrationTest {
     }
   }
 
+  // ========================================
+  // ACCOUNT TYPE
+  // ========================================
+  @Nested
+  @DisplayName("Account Type")
+  class AccountTypeTests {
+
+    @Test
+    @DisplayName("Should store the account type when a balance changes")
+    void should_store_account_type_on_balance_change() throws Exception {
+      // Arrange
+      createAccount("TYPE001", 1000.0);
+
+      // Act
+      mockMvc.perform(
+          post("/bank-accounts/savings-deposit")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJson(createSavingsDepositRequest("TYPE001", 500.0))));
+
+      // Assert
+      assertThat(bankAccountRepository.findByAccountNumber("TYPE001"))
+          .get()
+          .extracting(BankAccountJpaEntity::getAccountType)
+          .isEqualTo(AccountType.SAVINGS_AND_CURRENT);
+    }
+
+    @Test
+    @DisplayName("Should list only the accounts of the requested type")
+    void should_filter_accounts_by_type() throws Exception {
+      // Arrange
+      createAccount("TYPE002", 1000.0);
+      createAccount("TYPE003", 1000.0);
+      mockMvc.perform(
+          post("/bank-accounts/savings-deposit")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJson(createSavingsDepositRequest("TYPE003", 500.0))));
+
+      // Act & Assert
+      mockMvc
+          .perform(get("/bank-accounts").param("type", "SAVINGS_AND_CURRENT"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$", hasSize(1)))
+          .andExpect(jsonPath("$[0].accountNumber").value("TYPE003"));
+
+      mockMvc
+          .perform(get("/bank-accounts").param("type", "CURRENT"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$", hasSize(1)))
+          .andExpect(jsonPath("$[0].accountNumber").value("TYPE002"));
+    }
+  }
+
   // ========================================
   // HELPER METHODS
   // ========================================
@@ -491,6 +656,17 @@ class BankAccountIntegrationTest {
     return bankAccountRepository.save(account);
   }
 
+  private TransactionJpaEntity createTransaction(String accountNumber, LocalDateTime date, Double amount) {
+    return transactionRepository.save(
+        TransactionJpaEntity.builder()
+            .accountNumber(accountNumber)
+            .transactionDate(date)
+            .type(TransactionType.DEPOSIT_CURRENT)
+            .amount(amount)
+            .balanceAfter(amount)
+            .build());
+  }
+
   private DepositRequestDto createDepositRequest(String accountNumber, Double amount) {
     return new DepositRequestDto(accountNumber, amount);
   }
@@ -0,0 +1,106 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.config.metrics.SqlStatementCounter;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("Bank Account Persistence Integration Tests")
+class BankAccountPersistenceIntegrationTest {
+
+  @Autowired
+  private BankAccountRepositoryPort bankAccountRepositoryPort;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transaction;
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    transaction = new TransactionTemplate(transactionManager);
+
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("DIRTY001");
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+
+  @Test
+  @DisplayName("Should update a looked-up account with a single statement and no merge select")
+  void should_update_managed_account_without_merge_select() {
+    // Arrange / Act
+    long statements = transaction.execute(status -> {
+      BankAccount account = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("DIRTY001")).orElseThrow();
+      account.deposit(50.0);
+      long before = SqlStatementCounter.current();
+      bankAccountRepositoryPort.save(account);
+      entityManager.flush();
+      return SqlStatementCounter.current() - before;
+    });
+
+    // Assert
+    assertThat(statements).isEqualTo(1);
+    BankAccountJpaEntity saved = bankAccountRepository.findByAccountNumber("DIRTY001").orElseThrow();
+    assertThat(saved.getBalance()).isEqualTo(150.0);
+    assertThat(saved.getVersion()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should not write anything when no field changed")
+  void should_skip_update_when_nothing_changed() {
+    // Arrange / Act
+    transaction.executeWithoutResult(status -> {
+      BankAccount account = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("DIRTY001")).orElseThrow();
+      bankAccountRepositoryPort.save(account);
+    });
+
+    // Assert
+    assertThat(bankAccountRepository.findByAccountNumber("DIRTY001").orElseThrow().getVersion()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should reject saving an account read before a concurrent update")
+  void should_reject_stale_account() {
+    // Arrange
+    BankAccount stale = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("DIRTY001")).orElseThrow();
+    transaction.executeWithoutResult(status -> {
+      BankAccount current = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("DIRTY001")).orElseThrow();
+      current.deposit(10.0);
+      bankAccountRepositoryPort.save(current);
+    });
+    stale.deposit(20.0);
+
+    // Act / Assert
+    assertThatThrownBy(() -> bankAccountRepositoryPort.save(stale))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(bankAccountRepository.findByAccountNumber("DIRTY001").orElseThrow().getBalance()).isEqualTo(110.0);
+  }
+}
@@ -0,0 +1,127 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.config.metrics.SqlStatementCounter;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DisplayName("Conditional Request Integration Tests")
+class ConditionalRequestIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private BankAccountRepositoryPort bankAccountRepositoryPort;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should answer 304 to an unchanged account list and 200 once an account changes")
+  void should_revalidate_account_list() throws Exception {
+    // Arrange
+    createAccount("ETAG001");
+    String etag = mockMvc.perform(get("/bank-accounts"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    // Act & Assert
+    mockMvc.perform(get("/bank-accounts").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    deposit("ETAG001");
+
+    mockMvc.perform(get("/bank-accounts").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG));
+  }
+
+  @Test
+  @DisplayName("Should answer an unchanged statement with 304 from its version query alone")
+  void should_revalidate_statement_without_loading_it() throws Exception {
+    // Arrange
+    createAccount("ETAG002");
+    deposit("ETAG002");
+    String url = "/bank-accounts/statement/ETAG002?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00";
+    String etag = mockMvc.perform(get(url))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    // Act
+    long statementsBefore = SqlStatementCounter.current();
+    mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+    long statements = SqlStatementCounter.current() - statementsBefore;
+
+    // Assert: only the version query runs
+    assertThat(statements).isEqualTo(1);
+    deposit("ETAG002");
+    mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Should reject saving an account read before a concurrent update")
+  void should_reject_stale_account_update() {
+    // Arrange
+    createAccount("ETAG003");
+    BankAccount first = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("ETAG003")).orElseThrow();
+    BankAccount stale = bankAccountRepositoryPort.findByAccountNumber(AccountNumber.of("ETAG003")).orElseThrow();
+    first.deposit(10.0);
+    bankAccountRepositoryPort.save(first);
+
+    // Act & Assert
+    stale.deposit(20.0);
+    assertThatThrownBy(() -> bankAccountRepositoryPort.save(stale))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+  }
+
+  private void createAccount(String accountNumber) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+
+  private void deposit(String accountNumber) throws Exception {
+    mockMvc.perform(post("/bank-accounts/cash-deposit")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountNumber\":\"" + accountNumber + "\",\"amount\":50.0}"))
+        .andExpect(status().isOk());
+  }
+}
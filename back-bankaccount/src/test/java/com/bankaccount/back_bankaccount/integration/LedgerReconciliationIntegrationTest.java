@@ -0,0 +1,111 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.DiscrepancyType;
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationDiscrepancy;
+import com.bankaccount.back_bankaccount.domain.model.ReconciliationReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = "app.reconciliation.accounts-per-task=1")
+@DisplayName("Ledger Reconciliation Integration Tests")
+class LedgerReconciliationIntegrationTest {
+
+  @Autowired
+  private ReconcileLedgerUseCase reconcileLedgerUseCase;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  private final LocalDateTime now = LocalDateTime.now();
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should report no discrepancy for a consistent ledger")
+  void should_report_no_discrepancy_for_consistent_ledger() {
+    // Arrange
+    createAccount("REC001", 1300.0, 500.0);
+    createTransaction("REC001", 3, TransactionType.DEPOSIT_CURRENT, 500.0, 1500.0);
+    createTransaction("REC001", 2, TransactionType.DEPOSIT_SAVINGS, 500.0, 500.0);
+    createTransaction("REC001", 1, TransactionType.WITHDRAWAL, -200.0, 1300.0);
+    createAccount("REC002", 100.0, 0.0);
+
+    // Act
+    ReconciliationReport report = reconcileLedgerUseCase.reconcile();
+
+    // Assert
+    assertThat(report.getAccountsChecked()).isEqualTo(2);
+    assertThat(report.getTransactionsChecked()).isEqualTo(3);
+    assertThat(report.getDiscrepancyCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should detect broken chains, stale balances and orphan transactions")
+  void should_detect_discrepancies() {
+    // Arrange
+    createAccount("REC003", 999.0, 0.0);
+    createTransaction("REC003", 2, TransactionType.DEPOSIT_CURRENT, 100.0, 1100.0);
+    createTransaction("REC003", 1, TransactionType.WITHDRAWAL, -100.0, 900.0);
+    createTransaction("GHOST", 1, TransactionType.DEPOSIT_CURRENT, 10.0, 10.0);
+
+    // Act
+    ReconciliationReport report = reconcileLedgerUseCase.reconcile();
+
+    // Assert
+    assertThat(report.getDiscrepancies())
+        .extracting(ReconciliationDiscrepancy::getType)
+        .containsExactlyInAnyOrder(
+            DiscrepancyType.BALANCE_CHAIN_BROKEN,
+            DiscrepancyType.BALANCE_MISMATCH,
+            DiscrepancyType.ORPHAN_TRANSACTIONS);
+    assertThat(report.getDiscrepancies())
+        .filteredOn(d -> d.getType() == DiscrepancyType.BALANCE_CHAIN_BROKEN)
+        .singleElement()
+        .satisfies(d -> {
+          assertThat(d.getExpected()).isEqualTo(1000.0);
+          assertThat(d.getActual()).isEqualTo(900.0);
+        });
+  }
+
+  private void createAccount(String accountNumber, Double balance, Double savingsBalance) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(balance);
+    account.setSavingsBalance(savingsBalance);
+    bankAccountRepository.save(account);
+  }
+
+  private void createTransaction(
+      String accountNumber, int daysAgo, TransactionType type, Double amount, Double balanceAfter) {
+    transactionRepository.save(
+        TransactionJpaEntity.builder()
+            .accountNumber(accountNumber)
+            .transactionDate(now.minusDays(daysAgo))
+            .type(type)
+            .amount(amount)
+            .balanceAfter(balanceAfter)
+            .build());
+  }
+}
@@ -0,0 +1,106 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,overdraftexposure")
+@DisplayName("Overdraft Exposure Integration Tests")
+class OverdraftExposureIntegrationTest {
+
+  private static final String EXPOSURE_URL = "/actuator/overdraftexposure";
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    createAccount("EXPO001", 100.0, 50.0);
+    createAccount("EXPO002", -20.0, 100.0);
+    // Rows written behind the service's back are caught up by a reconciliation
+    mockMvc.perform(post(EXPOSURE_URL)).andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Should reconcile the exposure against the stored accounts")
+  void should_reconcile_exposure() throws Exception {
+    // Act / Assert
+    mockMvc
+        .perform(get(EXPOSURE_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.negativeBalanceTotal").value(20.0))
+        .andExpect(jsonPath("$.overdraftLimitTotal").value(150.0))
+        .andExpect(jsonPath("$.overdrawnAccounts").value(1))
+        .andExpect(jsonPath("$.reconciledAt").exists());
+  }
+
+  @Test
+  @DisplayName("Should follow withdrawals, deposits and overdraft limits without a reconciliation")
+  void should_follow_account_use_cases() throws Exception {
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-withdrawal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"EXPO001\",\"amount\":130.0}"))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"EXPO002\",\"amount\":25.0}"))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(
+            post("/bank-accounts/overdraft")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"EXPO002\",\"overdraftLimit\":300.0}"))
+        .andExpect(status().isOk());
+
+    // Assert
+    mockMvc
+        .perform(get(EXPOSURE_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.negativeBalanceTotal").value(30.0))
+        .andExpect(jsonPath("$.overdraftLimitTotal").value(350.0))
+        .andExpect(jsonPath("$.overdrawnAccounts").value(1));
+    mockMvc
+        .perform(post(EXPOSURE_URL))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.negativeBalanceTotal").value(30.0))
+        .andExpect(jsonPath("$.overdraftLimitTotal").value(350.0));
+  }
+
+  private void createAccount(String accountNumber, double balance, double overdraftLimit) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(balance);
+    account.setOverdraftLimit(overdraftLimit);
+    bankAccountRepository.save(account);
+  }
+}
@@ -0,0 +1,87 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("prod")
+@DisplayName("Production Startup Integration Tests")
+class ProductionStartupIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private ConfigurableApplicationContext applicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should define application beans lazily and keep gauge owners eager")
+  void should_define_beans_lazily() {
+    // Arrange / Act
+    ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
+
+    // Assert
+    assertThat(beanFactory.getBeanDefinition("bankAccountService").isLazyInit()).isTrue();
+    assertThat(beanFactory.containsSingleton("balanceEventBroadcaster")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should leave out the excluded auto-configurations")
+  void should_exclude_unused_auto_configurations() {
+    // Arrange / Act / Assert
+    assertThat(applicationContext.getBeanNamesForType(JdbcClient.class)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should serve a deposit once beans are created on first use")
+  void should_serve_deposit_with_lazy_beans() throws Exception {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("PROD001");
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+
+    // Act / Assert
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"PROD001\",\"amount\":50.0}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.balance").value(150.0));
+  }
+}
@@ -0,0 +1,142 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.rate-limit.enabled=true",
+    "app.rate-limit.account-burst=2",
+    "app.rate-limit.account-rate-per-second=0.01",
+    "app.rate-limit.client-burst=4",
+    "app.rate-limit.client-rate-per-second=0.01",
+    "app.rate-limit.trusted-proxies=127.0.0.1"
+})
+@DisplayName("Rate Limit Integration Tests")
+class RateLimitIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should reject withdrawals on an account beyond its burst with 429")
+  void should_rate_limit_per_account() throws Exception {
+    // Arrange
+    createAccount("RATE001");
+    createAccount("RATE002");
+
+    // Act / Assert
+    withdraw("client-a", "RATE001").andExpect(status().isOk());
+    withdraw("client-b", "RATE001").andExpect(status().isOk());
+    withdraw("client-c", "RATE001")
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+        .andExpect(jsonPath("$.code").value("RATE_LIMITED"));
+    withdraw("client-c", "RATE002").andExpect(status().isOk());
+    assertThat(bankAccountRepository.findByAccountNumber("RATE001").orElseThrow().getBalance()).isEqualTo(80.0);
+  }
+
+  @Test
+  @DisplayName("Should limit account numbers given in the path as well")
+  void should_rate_limit_statement_per_account() throws Exception {
+    // Arrange
+    createAccount("RATE003");
+
+    // Act / Assert
+    mockMvc.perform(get("/bank-accounts/statement/RATE003").header("X-Client-Id", "client-d"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/bank-accounts/statement/RATE003").header("X-Client-Id", "client-e"))
+        .andExpect(status().isOk());
+    mockMvc.perform(get("/bank-accounts/statement/RATE003").header("X-Client-Id", "client-f"))
+        .andExpect(status().isTooManyRequests());
+  }
+
+  @Test
+  @DisplayName("Should reject a client beyond its burst whatever the accounts it targets")
+  void should_rate_limit_per_client() throws Exception {
+    // Act / Assert
+    for (int i = 0; i < 4; i++) {
+      mockMvc.perform(get("/bank-accounts").header("X-Client-Id", "client-g")).andExpect(status().isOk());
+    }
+    mockMvc.perform(get("/bank-accounts").header("X-Client-Id", "client-g"))
+        .andExpect(status().isTooManyRequests());
+    mockMvc.perform(get("/bank-accounts").header("X-Client-Id", "client-h")).andExpect(status().isOk());
+    assertThat(meterRegistry.get("bankaccount.ratelimit.rejected").tag("scope", "client").counter().count())
+        .isPositive();
+    assertThat(meterRegistry.get("bankaccount.ratelimit.buckets").tag("scope", "client").gauge().value())
+        .isPositive();
+    assertThat(meterRegistry.get("bankaccount.concurrency.inflight").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should ignore the client id header of a request that does not come from a trusted proxy")
+  void should_rate_limit_untrusted_clients_by_address() throws Exception {
+    // Act / Assert
+    for (int i = 0; i < 4; i++) {
+      mockMvc.perform(get("/bank-accounts").header("X-Client-Id", "client-" + i).with(remoteAddress("10.0.0.9")))
+          .andExpect(status().isOk());
+    }
+    mockMvc.perform(get("/bank-accounts").header("X-Client-Id", "client-i").with(remoteAddress("10.0.0.9")))
+        .andExpect(status().isTooManyRequests());
+  }
+
+  private static RequestPostProcessor remoteAddress(String address) {
+    return request -> {
+      request.setRemoteAddr(address);
+      return request;
+    };
+  }
+
+  private ResultActions withdraw(String clientId, String accountNumber) throws Exception {
+    return mockMvc.perform(
+        post("/bank-accounts/cash-withdrawal")
+            .header("X-Client-Id", clientId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountNumber\":\"" + accountNumber + "\",\"amount\":10.0}"));
+  }
+
+  private void createAccount(String accountNumber) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+}
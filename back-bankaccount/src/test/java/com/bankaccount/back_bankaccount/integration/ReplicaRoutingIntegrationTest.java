@@ -0,0 +1,130 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The replica is a second embedded database filled by the tests themselves: the balance
+ * it holds differs from the primary's, which tells which database served a read.
+ */
+@SpringBootTest(properties = {
+    "app.replica.enabled=true",
+    "app.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+    "app.replica.initialize-schema=true",
+    "app.replica.max-staleness=PT1M"
+})
+@DisplayName("Replica Routing Integration Tests")
+class ReplicaRoutingIntegrationTest {
+
+  private static final String INSERT_REPLICA_ACCOUNT_SQL =
+      "INSERT INTO bank_account (account_number, balance, account_type) VALUES (?, ?, 'CURRENT')";
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final JdbcTemplate replica =
+      new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:replica", "sa", ""));
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    replica.update("DELETE FROM transaction");
+    replica.update("DELETE FROM bank_account");
+  }
+
+  @Test
+  @DisplayName("Should serve the account list from the replica")
+  void should_read_account_list_from_replica() throws Exception {
+    // Arrange
+    createAccount("REP001", 100.0);
+    replica.update(INSERT_REPLICA_ACCOUNT_SQL, "REP001", 90.0);
+    double replicaRoutes = routes("replica");
+
+    // Act / Assert
+    mockMvc
+        .perform(get("/bank-accounts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].balance").value(90.0));
+    assertThat(routes("replica")).isGreaterThan(replicaRoutes);
+  }
+
+  @Test
+  @DisplayName("Should serve the statement of an account not written recently from the replica")
+  void should_read_statement_from_replica() throws Exception {
+    // Arrange
+    createAccount("REP002", 100.0);
+    replica.update(INSERT_REPLICA_ACCOUNT_SQL, "REP002", 90.0);
+
+    // Act / Assert
+    mockMvc
+        .perform(get("/bank-accounts/statement/REP002"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.currentBalance").value(90.0));
+  }
+
+  @Test
+  @DisplayName("Should read an account written within the staleness bound from the primary")
+  void should_read_own_writes_from_primary() throws Exception {
+    // Arrange
+    createAccount("REP003", 100.0);
+    replica.update(INSERT_REPLICA_ACCOUNT_SQL, "REP003", 100.0);
+
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"REP003\",\"amount\":50.0}"))
+        .andExpect(status().isOk());
+
+    // Assert
+    mockMvc
+        .perform(get("/bank-accounts/statement/REP003"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.currentBalance").value(150.0))
+        .andExpect(jsonPath("$.transactions.length()").value(1));
+  }
+
+  private void createAccount(String accountNumber, double balance) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(balance);
+    bankAccountRepository.save(account);
+  }
+
+  private double routes(String target) {
+    return meterRegistry.get("bankaccount.datasource.route").tag("target", target).counter().count();
+  }
+}
@@ -0,0 +1,133 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.InterestAccrualReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.AccrueSavingsInterestUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.ReconcileLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.interest.annual-rate-basis-points=3650",
+    "app.interest.chunk-size=2",
+    "app.interest.parallelism=2"
+})
+@DisplayName("Savings Interest Accrual Integration Tests")
+class SavingsInterestAccrualIntegrationTest {
+
+  private static final LocalDate ACCRUAL_DATE = LocalDate.of(2026, 1, 15);
+
+  @Autowired
+  private AccrueSavingsInterestUseCase accrueSavingsInterestUseCase;
+
+  @Autowired
+  private ReconcileLedgerUseCase reconcileLedgerUseCase;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM interest_accrual_chunk");
+    // 36.5% a year is a thousandth of the savings balance a day
+    createSavingsAccount("INT001", 1000.0);
+    createSavingsAccount("INT002", 10.0);
+    createSavingsAccount("INT003", 0.04);
+    createSavingsAccount("INT004", 0.0);
+    createSavingsAccount("INT005", 2500.0);
+  }
+
+  @Test
+  @DisplayName("Should credit a day of interest to every savings balance earning a cent")
+  void should_credit_daily_interest() {
+    // Act
+    InterestAccrualReport report = accrueSavingsInterestUseCase.accrue(ACCRUAL_DATE);
+
+    // Assert
+    assertThat(report.getAccountsCredited()).isEqualTo(3);
+    assertThat(report.getTotalInterest()).isEqualTo(3.51);
+    assertThat(report.getFailedChunks()).isZero();
+    assertThat(savingsBalance("INT001")).isEqualTo(1001.0);
+    assertThat(savingsBalance("INT002")).isEqualTo(10.01);
+    assertThat(savingsBalance("INT003")).isEqualTo(0.04);
+    assertThat(savingsBalance("INT004")).isZero();
+    assertThat(savingsBalance("INT005")).isEqualTo(2502.5);
+    List<TransactionJpaEntity> interest = transactionRepository.findAll().stream()
+        .filter(transaction -> transaction.getType() == TransactionType.SAVINGS_INTEREST)
+        .toList();
+    assertThat(interest)
+        .extracting(TransactionJpaEntity::getAccountNumber, TransactionJpaEntity::getAmount,
+            TransactionJpaEntity::getBalanceAfter)
+        .containsExactlyInAnyOrder(
+            tuple("INT001", 1.0, 1001.0),
+            tuple("INT002", 0.01, 10.01),
+            tuple("INT005", 2.5, 2502.5));
+    assertThat(reconcileLedgerUseCase.reconcile().getDiscrepancyCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should credit nothing twice when a date is accrued again")
+  void should_skip_credited_chunks_on_rerun() {
+    // Arrange
+    InterestAccrualReport first = accrueSavingsInterestUseCase.accrue(ACCRUAL_DATE);
+
+    // Act
+    InterestAccrualReport rerun = accrueSavingsInterestUseCase.accrue(ACCRUAL_DATE);
+    InterestAccrualReport nextDay = accrueSavingsInterestUseCase.accrue(ACCRUAL_DATE.plusDays(1));
+
+    // Assert
+    assertThat(rerun.getCommittedChunks()).isZero();
+    assertThat(rerun.getResumedChunks()).isEqualTo(first.getCommittedChunks());
+    assertThat(rerun.getAccountsCredited()).isZero();
+    assertThat(nextDay.getAccountsCredited()).isEqualTo(3);
+    assertThat(savingsBalance("INT001")).isEqualTo(1002.0);
+    assertThat(transactionRepository.count()).isEqualTo(4 + 6);
+  }
+
+  private void createSavingsAccount(String accountNumber, Double savingsBalance) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(0.0);
+    account.setSavingsBalance(savingsBalance);
+    bankAccountRepository.save(account);
+    if (savingsBalance > 0) {
+      transactionRepository.save(
+          TransactionJpaEntity.builder()
+              .accountNumber(accountNumber)
+              .transactionDate(LocalDateTime.now().minusDays(1))
+              .type(TransactionType.DEPOSIT_SAVINGS)
+              .amount(savingsBalance)
+              .balanceAfter(savingsBalance)
+              .build());
+    }
+  }
+
+  private double savingsBalance(String accountNumber) {
+    return bankAccountRepository.findByAccountNumber(accountNumber).orElseThrow().getSavingsBalance();
+  }
+}
@@ -0,0 +1,211 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.ShardDataSources;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.sharding.enabled=true",
+    "app.sharding.shards[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+    "app.sharding.shards[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1"
+})
+@DisplayName("Sharding Integration Tests")
+class ShardingIntegrationTest {
+
+  private static final int ACCOUNTS = 20;
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountRepositoryPort bankAccountRepositoryPort;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private ShardDataSources shardDataSources;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final List<JdbcTemplate> shards = IntStream.range(0, 2)
+      .mapToObj(shard -> new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:shard" + shard, "sa", "")))
+      .toList();
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    for (JdbcTemplate shard : shards) {
+      shard.update("DELETE FROM transaction");
+      shard.update("DELETE FROM bank_account");
+    }
+    bankAccountRepositoryPort.saveAll(IntStream.range(0, ACCOUNTS)
+        .mapToObj(i -> BankAccount.builder()
+            .accountNumber(AccountNumber.of(String.format("SHARD%03d", i)))
+            .balance(100.0)
+            .overdraftLimit(0.0)
+            .savingsBalance(0.0)
+            .savingsDepositLimit(22950.0)
+            .build())
+        .toList());
+  }
+
+  @Test
+  @DisplayName("Should spread accounts over the shards and keep them off the main database")
+  void should_spread_accounts_over_shards() {
+    // Arrange / Act
+    long onShard0 = count(0, "bank_account");
+    long onShard1 = count(1, "bank_account");
+
+    // Assert
+    assertThat(onShard0).isPositive();
+    assertThat(onShard1).isPositive();
+    assertThat(onShard0 + onShard1).isEqualTo(ACCOUNTS);
+    assertThat(bankAccountRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should record a deposit and its transaction on the shard of the account")
+  void should_keep_single_account_operations_on_one_shard() throws Exception {
+    // Arrange
+    AccountNumber accountNumber = AccountNumber.of("SHARD007");
+    int shard = shardDataSources.shardOf(accountNumber);
+
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"SHARD007\",\"amount\":50.0}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.balance").value(150.0));
+
+    // Assert
+    assertThat(shards.get(shard).queryForObject(
+        "SELECT balance FROM bank_account WHERE account_number = 'SHARD007'", Double.class)).isEqualTo(150.0);
+    assertThat(count(shard, "transaction")).isEqualTo(1);
+    assertThat(count(1 - shard, "transaction")).isZero();
+    mockMvc
+        .perform(get("/bank-accounts/statement/SHARD007"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.transactions.length()").value(1));
+  }
+
+  @Test
+  @DisplayName("Should list the accounts of every shard in account number order")
+  void should_fan_out_account_listing() throws Exception {
+    // Arrange / Act / Assert
+    mockMvc
+        .perform(get("/bank-accounts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(ACCOUNTS))
+        .andExpect(jsonPath("$[0].accountNumber").value("SHARD000"))
+        .andExpect(jsonPath("$[19].accountNumber").value("SHARD019"));
+  }
+
+  @Test
+  @DisplayName("Should give accounts ids that are unique across shards")
+  void should_keep_ids_unique_across_shards() {
+    // Arrange / Act
+    List<Long> ids = bankAccountRepositoryPort.findAll().stream().map(BankAccount::getId).toList();
+
+    // Assert
+    assertThat(ids).hasSize(ACCOUNTS).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("Should roll back shard writes with the surrounding transaction")
+  void should_roll_back_shard_writes() {
+    // Arrange
+    AccountNumber accountNumber = AccountNumber.of("SHARD003");
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    // Act
+    assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+      BankAccount account = bankAccountRepositoryPort.findByAccountNumber(accountNumber).orElseThrow();
+      account.deposit(500.0);
+      bankAccountRepositoryPort.save(account);
+      throw new IllegalStateException("abort");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // Assert
+    assertThat(bankAccountRepositoryPort.findByAccountNumber(accountNumber).orElseThrow().getBalance())
+        .isEqualTo(100.0);
+  }
+
+  @Test
+  @DisplayName("Should leave committed shard writes in place when the surrounding commit fails after them")
+  void should_not_undo_committed_shard_writes() {
+    // Arrange
+    AccountNumber accountNumber = AccountNumber.of("SHARD004");
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    // Act: the shard commits first, then the commit fails before the main database commits
+    assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+      BankAccount account = bankAccountRepositoryPort.findByAccountNumber(accountNumber).orElseThrow();
+      account.deposit(500.0);
+      bankAccountRepositoryPort.save(account);
+      transactionRepository.save(TransactionJpaEntity.builder()
+          .accountNumber(accountNumber.value())
+          .transactionDate(LocalDateTime.now())
+          .type(TransactionType.DEPOSIT_CURRENT)
+          .amount(500.0)
+          .balanceAfter(600.0)
+          .build());
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          throw new IllegalStateException("commit failed");
+        }
+      });
+    })).isInstanceOf(IllegalStateException.class);
+
+    // Assert: not atomic, the shard write stays while the main database write is rolled back
+    assertThat(bankAccountRepositoryPort.findByAccountNumber(accountNumber).orElseThrow().getBalance())
+        .isEqualTo(600.0);
+    assertThat(transactionRepository.count()).isZero();
+  }
+
+  private long count(int shard, String table) {
+    return shards.get(shard).queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+  }
+}
@@ -0,0 +1,106 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.statement-coalescing.enabled=true",
+    "app.statement-coalescing.freshness=PT1M"
+})
+@DisplayName("Statement Coalescing Integration Tests")
+class StatementCoalescingIntegrationTest {
+
+  // Explicit bounds, so that every request of a test asks for the same statement
+  private static final String STATEMENT_URL =
+      "/bank-accounts/statement/{accountNumber}?from=2020-01-01T00:00:00&to=2100-01-01T00:00:00";
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should answer an identical statement request with the statement already computed")
+  void should_share_fresh_statement() throws Exception {
+    // Arrange
+    createAccount("COAL001");
+    double shared = reads("shared");
+
+    // Act
+    mockMvc.perform(get(STATEMENT_URL, "COAL001")).andExpect(status().isOk());
+    mockMvc
+        .perform(get(STATEMENT_URL, "COAL001"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.currentBalance").value(100.0));
+
+    // Assert
+    assertThat(reads("shared")).isEqualTo(shared + 1);
+  }
+
+  @Test
+  @DisplayName("Should recompute the statement of an account after a committed write to it")
+  void should_read_own_writes() throws Exception {
+    // Arrange
+    createAccount("COAL002");
+    mockMvc.perform(get(STATEMENT_URL, "COAL002")).andExpect(status().isOk());
+
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-deposit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"COAL002\",\"amount\":50.0}"))
+        .andExpect(status().isOk());
+
+    // Assert
+    mockMvc
+        .perform(get(STATEMENT_URL, "COAL002"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.currentBalance").value(150.0))
+        .andExpect(jsonPath("$.transactions.length()").value(1));
+  }
+
+  private void createAccount(String accountNumber) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+
+  private double reads(String outcome) {
+    return meterRegistry.get("bankaccount.statement.reads").tag("outcome", outcome).counter().count();
+  }
+}
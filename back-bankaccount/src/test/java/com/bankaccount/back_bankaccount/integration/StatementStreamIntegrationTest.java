@@ -0,0 +1,105 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("edge")
+@DisplayName("Statement Stream Integration Tests")
+class StatementStreamIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should stream every transaction of the period as one JSON line each, newest first")
+  void should_stream_statement_as_ndjson() throws Exception {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("STREAM001");
+    account.setBalance(0.0);
+    bankAccountRepository.save(account);
+
+    LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+    List<TransactionJpaEntity> transactions = new ArrayList<>();
+    for (int i = 0; i < 1200; i++) {
+      transactions.add(TransactionJpaEntity.builder()
+          .accountNumber("STREAM001")
+          .transactionDate(start.plusMinutes(i))
+          .type(TransactionType.DEPOSIT_CURRENT)
+          .amount(1.0)
+          .balanceAfter(i + 1.0)
+          .build());
+    }
+    transactionRepository.saveAll(transactions);
+
+    // Act
+    MvcResult started = mockMvc
+        .perform(get("/bank-accounts/statement/STREAM001/stream")
+            .param("from", "2025-01-01T00:00:00")
+            .param("to", "2025-01-02T00:00:00"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MvcResult result = mockMvc
+        .perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andReturn();
+
+    // Assert
+    String[] lines = result.getResponse().getContentAsString().split("\n");
+    assertThat(lines).hasSize(1200);
+    assertThat(lines[0]).contains("\"balanceAfter\":1200.0");
+    assertThat(lines[1199]).contains("\"balanceAfter\":1.0");
+  }
+
+  @Test
+  @DisplayName("Should answer 404 before streaming when the account does not exist")
+  void should_reject_unknown_account_before_streaming() throws Exception {
+    // Act & Assert
+    mockMvc
+        .perform(get("/bank-accounts/statement/NO-SUCH-ACCOUNT/stream"))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(status().isNotFound());
+  }
+}
@@ -0,0 +1,134 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.export.ColumnarTransactionFileReader;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.TransactionType;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.ExportWatermarkJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionExportReport;
+import com.bankaccount.back_bankaccount.domain.ports.in.ExportTransactionsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Transaction Export Integration Tests")
+class TransactionExportIntegrationTest {
+
+  @TempDir
+  static Path exportDirectory;
+
+  @DynamicPropertySource
+  static void exportProperties(DynamicPropertyRegistry registry) {
+    registry.add("app.export.directory", exportDirectory::toString);
+    registry.add("app.export.row-group-size", () -> 2);
+    registry.add("app.export.max-rows-per-file", () -> 3);
+  }
+
+  @Autowired
+  private ExportTransactionsUseCase exportTransactionsUseCase;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private ExportWatermarkJpaRepository watermarkRepository;
+
+  private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAll();
+    watermarkRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should export settled transactions in date order across files and row groups")
+  void should_export_settled_transactions_in_date_order() throws IOException {
+    // Arrange
+    createTransaction("EXP001", now.minusDays(3), TransactionType.DEPOSIT_CURRENT, 500.0, 500.0);
+    createTransaction("EXP002", now.minusDays(5), TransactionType.DEPOSIT_SAVINGS, 200.0, 200.0);
+    createTransaction("EXP001", now.minusDays(2), TransactionType.WITHDRAWAL, -50.5, 449.5);
+    createTransaction("EXP002", now.minusDays(1), TransactionType.DEPOSIT_CURRENT, 10.0, 10.0);
+    createTransaction("EXP001", now.minusHours(1), TransactionType.DEPOSIT_CURRENT, 1.0, 450.5);
+    createTransaction("EXP001", now, TransactionType.DEPOSIT_CURRENT, 1.0, 451.5);
+
+    // Act
+    TransactionExportReport report = exportTransactionsUseCase.exportNewTransactions();
+
+    // Assert
+    assertThat(report.getRows()).isEqualTo(5);
+    assertThat(report.getFiles()).hasSize(2);
+    List<Transaction> exported = readAll(report.getFiles());
+    assertThat(exported)
+        .extracting(Transaction::getTransactionDate)
+        .containsExactly(
+            now.minusDays(5), now.minusDays(3), now.minusDays(2), now.minusDays(1), now.minusHours(1));
+    assertThat(exported.get(2))
+        .satisfies(t -> {
+          assertThat(t.getAccountNumber()).isEqualTo(AccountNumber.of("EXP001"));
+          assertThat(t.getType())
+              .isEqualTo(com.bankaccount.back_bankaccount.domain.model.TransactionType.WITHDRAWAL);
+          assertThat(t.getAmount()).isEqualTo(-50.5);
+          assertThat(t.getBalanceAfter()).isEqualTo(449.5);
+        });
+    assertThat(report.getWatermark().getTransactionDate()).isEqualTo(now.minusHours(1));
+  }
+
+  @Test
+  @DisplayName("Should only export transactions recorded after the previous run")
+  void should_only_export_new_transactions() throws IOException {
+    // Arrange
+    createTransaction("EXP003", now.minusDays(2), TransactionType.DEPOSIT_CURRENT, 100.0, 100.0);
+    exportTransactionsUseCase.exportNewTransactions();
+    createTransaction("EXP003", now.minusDays(1), TransactionType.DEPOSIT_CURRENT, 20.0, 120.0);
+
+    // Act
+    TransactionExportReport second = exportTransactionsUseCase.exportNewTransactions();
+    TransactionExportReport third = exportTransactionsUseCase.exportNewTransactions();
+
+    // Assert
+    assertThat(readAll(second.getFiles()))
+        .singleElement()
+        .satisfies(t -> assertThat(t.getBalanceAfter()).isEqualTo(120.0));
+    assertThat(third.getRows()).isZero();
+    assertThat(third.getFiles()).isEmpty();
+    assertThat(third.getWatermark()).isEqualTo(second.getWatermark());
+  }
+
+  private List<Transaction> readAll(List<String> files) throws IOException {
+    List<Transaction> transactions = new ArrayList<>();
+    for (String file : files) {
+      ColumnarTransactionFileReader.read(exportDirectory.resolve(file), transactions::add);
+    }
+    return transactions;
+  }
+
+  private void createTransaction(
+      String accountNumber, LocalDateTime date, TransactionType type, Double amount, Double balanceAfter) {
+    transactionRepository.save(
+        TransactionJpaEntity.builder()
+            .accountNumber(accountNumber)
+            .transactionDate(date)
+            .type(type)
+            .amount(amount)
+            .balanceAfter(balanceAfter)
+            .build());
+  }
+}
@@ -0,0 +1,130 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.outbox.InMemoryTransactionEventSink;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionOutboxJpaRepository;
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.OutboxRelayReport;
+import com.bankaccount.back_bankaccount.domain.model.Transaction;
+import com.bankaccount.back_bankaccount.domain.model.TransactionType;
+import com.bankaccount.back_bankaccount.domain.ports.in.AccrueSavingsInterestUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.DepositMoneyUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.RelayTransactionEventsUseCase;
+import com.bankaccount.back_bankaccount.domain.ports.in.WithdrawMoneyUseCase;
+import com.bankaccount.back_bankaccount.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "app.outbox.enabled=true",
+    "app.outbox.sink=memory",
+    "app.outbox.relay-delay=PT1H"
+})
+@DisplayName("Transaction Outbox Integration Tests")
+class TransactionOutboxIntegrationTest {
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @Autowired
+  private TransactionOutboxJpaRepository outboxRepository;
+
+  @Autowired
+  private DepositMoneyUseCase depositMoneyUseCase;
+
+  @Autowired
+  private WithdrawMoneyUseCase withdrawMoneyUseCase;
+
+  @Autowired
+  private AccrueSavingsInterestUseCase accrueSavingsInterestUseCase;
+
+  @Autowired
+  private RelayTransactionEventsUseCase relayTransactionEventsUseCase;
+
+  @Autowired
+  private InMemoryTransactionEventSink sink;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository.deleteAll();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+    sink.clear();
+  }
+
+  @Test
+  @DisplayName("Should record each transaction in the outbox and relay it once")
+  void should_relay_recorded_transactions() {
+    // Arrange
+    createAccount("OUT001");
+    depositMoneyUseCase.deposit(AccountNumber.of("OUT001"), 10.0);
+    depositMoneyUseCase.deposit(AccountNumber.of("OUT001"), 20.0);
+    assertThat(outboxRepository.count()).isEqualTo(2);
+
+    // Act
+    OutboxRelayReport report = relayTransactionEventsUseCase.relayPendingEvents();
+    OutboxRelayReport next = relayTransactionEventsUseCase.relayPendingEvents();
+
+    // Assert
+    assertThat(report.getDelivered()).isEqualTo(2);
+    assertThat(next.getDelivered()).isZero();
+    assertThat(outboxRepository.count()).isZero();
+    assertThat(sink.getDelivered()).extracting(Transaction::getAmount).containsExactly(10.0, 20.0);
+  }
+
+  @Test
+  @DisplayName("Should not record anything for a rejected operation")
+  void should_not_record_rejected_operation() {
+    // Arrange
+    createAccount("OUT002");
+
+    // Act
+    assertThatThrownBy(() -> withdrawMoneyUseCase.withdraw(AccountNumber.of("OUT002"), 1_000.0))
+        .isInstanceOf(InsufficientBalanceException.class);
+
+    // Assert
+    assertThat(outboxRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should record credited savings interest in the outbox")
+  void should_record_savings_interest() {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("OUT003");
+    account.setBalance(0.0);
+    account.setSavingsBalance(36_500.0);
+    bankAccountRepository.save(account);
+
+    // Act
+    accrueSavingsInterestUseCase.accrue(LocalDate.of(2026, 2, 1));
+    OutboxRelayReport report = relayTransactionEventsUseCase.relayPendingEvents();
+
+    // Assert
+    assertThat(report.getDelivered()).isEqualTo(1);
+    assertThat(sink.getDelivered())
+        .extracting(Transaction::getType, Transaction::getAmount)
+        .containsExactly(tuple(TransactionType.SAVINGS_INTEREST, 3.0));
+  }
+
+  private void createAccount(String accountNumber) {
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber(accountNumber);
+    account.setBalance(100.0);
+    bankAccountRepository.save(account);
+  }
+}
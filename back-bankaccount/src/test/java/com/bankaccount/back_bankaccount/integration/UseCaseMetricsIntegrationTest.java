@@ -0,0 +1,139 @@
+package com.bankaccount.back_bankaccount.integration;
+
+import com.bankaccount.back_bankaccount.adapters.out.persistence.entity.BankAccountJpaEntity;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.BankAccountJpaRepository;
+import com.bankaccount.back_bankaccount.adapters.out.persistence.repository.TransactionJpaRepository;
+import com.bankaccount.back_bankaccount.config.metrics.DatabaseCallMetricsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@DisplayName("Use Case Metrics Integration Tests")
+class UseCaseMetricsIntegrationTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private DatabaseCallMetricsFilter databaseCallMetricsFilter;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private BankAccountJpaRepository bankAccountRepository;
+
+  @Autowired
+  private TransactionJpaRepository transactionRepository;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+        .addFilters(databaseCallMetricsFilter)
+        .build();
+    transactionRepository.deleteAll();
+    bankAccountRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("Should time a withdrawal per phase and count its database calls")
+  void should_time_withdrawal_phases_and_count_database_calls() throws Exception {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("MET001");
+    account.setBalance(1000.0);
+    bankAccountRepository.save(account);
+    long withdrawalsBefore = useCaseCount("withdraw", "success");
+
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-withdrawal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"MET001\",\"amount\":100.0}"))
+        .andExpect(status().isOk());
+
+    // Assert
+    assertThat(useCaseCount("withdraw", "success")).isEqualTo(withdrawalsBefore + 1);
+    for (String phase : new String[] {"lookup", "domain", "save", "journal"}) {
+      assertThat(meterRegistry.find("bankaccount.usecase.phase")
+          .tags("usecase", "withdraw", "phase", phase)
+          .timer())
+          .isNotNull()
+          .satisfies(timer -> assertThat(timer.count()).isPositive());
+    }
+    DistributionSummary dbCalls = meterRegistry.find("bankaccount.request.db.calls")
+        .tags("method", "POST", "uri", "/bank-accounts/cash-withdrawal")
+        .summary();
+    assertThat(dbCalls).isNotNull();
+    assertThat(dbCalls.max()).isGreaterThanOrEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should count the JDBC statements a streamed statement runs off the request thread")
+  void should_count_streamed_statement_database_calls() throws Exception {
+    // Arrange
+    BankAccountJpaEntity account = new BankAccountJpaEntity();
+    account.setAccountNumber("MET002");
+    account.setBalance(1000.0);
+    bankAccountRepository.save(account);
+
+    // Act
+    MvcResult started = mockMvc
+        .perform(get("/bank-accounts/statement/MET002/stream"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc
+        .perform(asyncDispatch(started))
+        .andExpect(status().isOk());
+
+    // Assert
+    DistributionSummary dbCalls = meterRegistry.find("bankaccount.request.db.calls")
+        .tags("method", "GET", "uri", "/bank-accounts/statement/{accountNumber}/stream")
+        .summary();
+    assertThat(dbCalls).isNotNull();
+    assertThat(dbCalls.count()).isEqualTo(1);
+    // The account lookup on the request thread, and the streaming query on the async task
+    assertThat(dbCalls.max()).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should tag failed use cases with the exception outcome")
+  void should_tag_failed_use_case_with_exception() throws Exception {
+    // Act
+    mockMvc
+        .perform(
+            post("/bank-accounts/cash-withdrawal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountNumber\":\"MISSING\",\"amount\":100.0}"))
+        .andExpect(status().isNotFound());
+
+    // Assert
+    assertThat(useCaseCount("withdraw", "AccountNotFoundException")).isPositive();
+  }
+
+  private long useCaseCount(String useCase, String outcome) {
+    Timer timer = meterRegistry.find("bankaccount.usecase").tags("usecase", useCase, "outcome", outcome).timer();
+    return timer != null ? timer.count() : 0;
+  }
+}
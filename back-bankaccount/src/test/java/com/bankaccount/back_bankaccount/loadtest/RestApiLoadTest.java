@@ -0,0 +1,236 @@
+package com.bankaccount.back_bankaccount.loadtest;
+
+import com.bankaccount.back_bankaccount.domain.model.AccountNumber;
+import com.bankaccount.back_bankaccount.domain.model.BankAccount;
+import com.bankaccount.back_bankaccount.domain.ports.out.BankAccountRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load-test harness driving the REST API of a running instance (perf profile,
+ * embedded database) with a closed workload: each virtual user sends its next
+ * request as soon as the previous one answers. Every concurrency step runs for
+ * a fixed time after a warm-up, and its throughput and latency percentiles are
+ * appended to target/load-test/curve.csv.
+ * Only runs with -Dloadtest=true (mvn test -Pload-test); tune it with
+ * loadtest.concurrency (e.g. 1,8,32), loadtest.seconds, loadtest.warmup-seconds
+ * and loadtest.accounts.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("REST API Load Test")
+class RestApiLoadTest {
+
+  private static final String ACCOUNT_PREFIX = "LOAD-";
+  private static final Path REPORT = Path.of("target", "load-test", "curve.csv");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private BankAccountRepositoryPort bankAccountRepositoryPort;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+
+  @Test
+  @DisplayName("Should record throughput and latency for each concurrency step")
+  void should_record_throughput_latency_curve() throws Exception {
+    // Arrange
+    int accounts = Integer.getInteger("loadtest.accounts", 1_000);
+    int[] steps = Arrays.stream(System.getProperty("loadtest.concurrency", "1,4,16,64").split(","))
+        .map(String::trim)
+        .mapToInt(Integer::parseInt)
+        .toArray();
+    Duration measured = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 20));
+    Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 5));
+    createAccounts(accounts);
+
+    // Act
+    List<StepResult> results = new ArrayList<>();
+    for (int concurrency : steps) {
+      runStep(concurrency, warmup, accounts);
+      StepResult result = runStep(concurrency, measured, accounts);
+      log.info("Load step ({}): {}", StepResult.HEADER, result.toLine());
+      results.add(result);
+    }
+
+    // Assert
+    writeReport(results);
+    assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+  }
+
+  private void createAccounts(int accounts) {
+    List<BankAccount> batch = IntStream.range(0, accounts)
+        .mapToObj(i -> BankAccount.builder()
+            .accountNumber(accountNumber(i))
+            .balance(1_000_000.0)
+            .overdraftLimit(0.0)
+            .savingsBalance(0.0)
+            .savingsDepositLimit(22950.0)
+            .build())
+        .peek(BankAccount::validate)
+        .toList();
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> bankAccountRepositoryPort.saveAll(batch));
+  }
+
+  private StepResult runStep(int concurrency, Duration duration, int accounts) throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    List<UserResult> users = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<UserResult>> futures = new ArrayList<>();
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(executor.submit(() -> runUser(deadline, accounts)));
+      }
+      for (Future<UserResult> future : futures) {
+        try {
+          users.add(future.get());
+        } catch (ExecutionException e) {
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    }
+    return StepResult.of(concurrency, duration, users);
+  }
+
+  private UserResult runUser(long deadline, int accounts) throws IOException, InterruptedException {
+    UserResult result = new UserResult();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (System.nanoTime() < deadline) {
+      HttpRequest request = nextRequest(random, accountNumber(random.nextInt(accounts)).value());
+      long start = System.nanoTime();
+      HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+      result.record(System.nanoTime() - start, response.statusCode() < 400);
+    }
+    return result;
+  }
+
+  /**
+   * Workload mix: 40% deposits, 20% withdrawals, 30% statements, 10% conditional account list polls
+   */
+  private HttpRequest nextRequest(ThreadLocalRandom random, String accountNumber) {
+    int pick = random.nextInt(100);
+    if (pick < 40) {
+      return post("/bank-accounts/cash-deposit", accountNumber, 1 + random.nextInt(100));
+    } else if (pick < 60) {
+      return post("/bank-accounts/cash-withdrawal", accountNumber, 1 + random.nextInt(50));
+    } else if (pick < 90) {
+      return HttpRequest.newBuilder(uri("/bank-accounts/statement/" + accountNumber)).GET().build();
+    }
+    return HttpRequest.newBuilder(uri("/bank-accounts?type=CURRENT"))
+        .header("If-None-Match", "\"0\"")
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(String path, String accountNumber, int amount) {
+    String body = "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":" + amount + "}";
+    return HttpRequest.newBuilder(uri(path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  private static AccountNumber accountNumber(int index) {
+    return AccountNumber.of(String.format("%s%05d", ACCOUNT_PREFIX, index));
+  }
+
+  private static void writeReport(List<StepResult> results) throws IOException {
+    Files.createDirectories(REPORT.getParent());
+    List<String> lines = new ArrayList<>();
+    lines.add(StepResult.HEADER);
+    results.forEach(result -> lines.add(result.toLine()));
+    Files.write(REPORT, lines);
+  }
+
+  /**
+   * Latencies and outcomes recorded by one virtual user
+   */
+  private static final class UserResult {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    private void record(long latencyNanos, boolean success) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (!success) {
+        errors++;
+      }
+    }
+  }
+
+  /**
+   * One point of the throughput/latency curve
+   */
+  private record StepResult(int concurrency, long requests, long errors, double throughput,
+      double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+    private static final String HEADER = "concurrency,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms";
+
+    private static StepResult of(int concurrency, Duration duration, List<UserResult> users) {
+      long[] all = users.stream()
+          .flatMapToLong(user -> Arrays.stream(user.latencies, 0, user.count))
+          .sorted()
+          .toArray();
+      long errors = users.stream().mapToLong(user -> user.errors).sum();
+      return new StepResult(concurrency, all.length, errors, all.length / (duration.toNanos() / 1e9),
+          percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), percentile(all, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+      return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private String toLine() {
+      return String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f", concurrency, requests, errors,
+          throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+  }
+}